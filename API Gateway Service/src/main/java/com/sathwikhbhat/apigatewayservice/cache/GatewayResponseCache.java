@@ -0,0 +1,223 @@
+package com.sathwikhbhat.apigatewayservice.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.servlet.function.HandlerFunction;
+import org.springframework.web.servlet.function.ServerRequest;
+import org.springframework.web.servlet.function.ServerResponse;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Short-lived cache in front of upstream GET routes. Identical requests that arrive while the first one is
+ * still in flight wait for its response instead of calling upstream again. Upstream Cache-Control is honoured:
+ * {@code no-store}, {@code no-cache} and {@code private} responses are never reused, and {@code max-age} or
+ * {@code s-maxage} can only shorten the route TTL. Only 200 responses are kept. The client headers that can
+ * change the response are forwarded upstream and are part of the cache key.
+ */
+@Component
+public class GatewayResponseCache {
+
+    private static final Logger log = LoggerFactory.getLogger(GatewayResponseCache.class);
+
+    static final String CACHE_STATUS_HEADER = "X-Cache";
+
+    private static final Pattern MAX_AGE = Pattern.compile("(?:s-maxage|max-age)=(\\d+)");
+    private static final Set<String> UNCACHEABLE_DIRECTIVES = Set.of("no-store", "no-cache", "private");
+    private static final Set<String> HOP_BY_HOP_HEADERS = Set.of(HttpHeaders.CONNECTION, HttpHeaders.CONTENT_LENGTH,
+            HttpHeaders.DATE, HttpHeaders.TRANSFER_ENCODING, "Keep-Alive");
+    private static final List<String> FORWARDED_HEADERS = List.of(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_LANGUAGE);
+
+    private final RestClient restClient;
+    private final AsyncCache<String, CachedResponse> cache;
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public GatewayResponseCache(final RestClient.Builder restClientBuilder,
+                                final MeterRegistry meterRegistry,
+                                @Value("${gateway.cache.max-entries}") final long maxEntries) {
+        this.restClient = restClientBuilder.build();
+        this.meterRegistry = meterRegistry;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfter(Expiry.creating((String key, CachedResponse response) -> response.ttl()))
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "gateway-response");
+    }
+
+    /**
+     * Proxies GET requests to {@code upstreamBaseUrl} with the incoming path and query, caching 200 responses
+     * for at most {@code ttl}.
+     */
+    public HandlerFunction<ServerResponse> proxy(final String routeId, final String upstreamBaseUrl,
+                                                 final Duration ttl) {
+        final Counter hits = requests(routeId, "hit");
+        final Counter misses = requests(routeId, "miss");
+        final Counter coalesced = requests(routeId, "coalesced");
+        return request -> {
+            final URI upstream = URI.create(upstreamBaseUrl + request.uri().getRawPath()
+                    + (request.uri().getRawQuery() == null ? "" : "?" + request.uri().getRawQuery()));
+            final boolean gzip = acceptsGzip(request);
+            final HttpHeaders forwarded = forwardedHeaders(request, gzip);
+            final String key = routeId + ' ' + upstream + ' ' + forwarded;
+
+            final ConcurrentMap<String, CompletableFuture<CachedResponse>> entries = cache.asMap();
+            final CompletableFuture<CachedResponse> created = new CompletableFuture<>();
+            CompletableFuture<CachedResponse> entry = entries.putIfAbsent(key, created);
+            final String cacheStatus;
+            if (entry == null) {
+                misses.increment();
+                cacheStatus = "MISS";
+                entry = created;
+                fetch(upstream, forwarded, ttl, key, created);
+            } else if (entry.isDone()) {
+                hits.increment();
+                cacheStatus = "HIT";
+            } else {
+                coalesced.increment();
+                cacheStatus = "COALESCED";
+            }
+
+            final CachedResponse response;
+            try {
+                response = entry.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+            return response.toServerResponse(request, cacheStatus);
+        };
+    }
+
+    private void fetch(final URI upstream, final HttpHeaders forwarded, final Duration routeTtl, final String key,
+                       final CompletableFuture<CachedResponse> created) {
+        try {
+            final CachedResponse response = restClient.get()
+                    .uri(upstream)
+                    .headers(headers -> headers.addAll(forwarded))
+                    .exchange((clientRequest, clientResponse) -> {
+                        final HttpHeaders headers = new HttpHeaders();
+                        clientResponse.getHeaders().forEach((name, values) -> {
+                            if (HOP_BY_HOP_HEADERS.stream().noneMatch(name::equalsIgnoreCase)) {
+                                headers.put(name, values);
+                            }
+                        });
+                        return new CachedResponse(clientResponse.getStatusCode(), headers,
+                                clientResponse.getBody().readAllBytes(),
+                                ttlFor(clientResponse.getStatusCode(), headers, routeTtl));
+                    }, false);
+            created.complete(response);
+            if (response.ttl().isZero()) {
+                cache.asMap().remove(key, created);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Upstream call to {} failed", upstream, e);
+            cache.asMap().remove(key, created);
+            created.completeExceptionally(e);
+        }
+    }
+
+    private static Duration ttlFor(final HttpStatusCode status, final HttpHeaders headers, final Duration routeTtl) {
+        if (status.value() != HttpStatus.OK.value()) {
+            return Duration.ZERO;
+        }
+        final String cacheControl = headers.getCacheControl();
+        if (cacheControl == null) {
+            return routeTtl;
+        }
+        final String directives = cacheControl.toLowerCase();
+        if (UNCACHEABLE_DIRECTIVES.stream().anyMatch(directives::contains)) {
+            return Duration.ZERO;
+        }
+        final Matcher maxAge = MAX_AGE.matcher(directives);
+        Duration ttl = routeTtl;
+        while (maxAge.find()) {
+            final Duration upstreamTtl = Duration.ofSeconds(Long.parseLong(maxAge.group(1)));
+            if (upstreamTtl.compareTo(ttl) < 0) {
+                ttl = upstreamTtl;
+            }
+        }
+        return ttl;
+    }
+
+    private static HttpHeaders forwardedHeaders(final ServerRequest request, final boolean gzip) {
+        final HttpHeaders forwarded = new HttpHeaders();
+        for (String name : FORWARDED_HEADERS) {
+            final List<String> values = request.headers().header(name);
+            if (!values.isEmpty()) {
+                forwarded.put(name, values);
+            }
+        }
+        if (gzip) {
+            forwarded.set(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        }
+        return forwarded;
+    }
+
+    private static boolean acceptsGzip(final ServerRequest request) {
+        final List<String> acceptEncoding = request.headers().header(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding.stream().anyMatch(value -> value.contains("gzip"));
+    }
+
+    private Counter requests(final String routeId, final String result) {
+        return Counter.builder("gateway.cache.requests")
+                .description("Cached route requests served from cache, fetched, or joined to an in-flight fetch")
+                .tag("route", routeId)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record CachedResponse(HttpStatusCode status, HttpHeaders headers, byte[] body, Duration ttl) {
+
+        private ServerResponse toServerResponse(final ServerRequest request, final String cacheStatus) {
+            final String etag = headers.getETag();
+            if (etag != null && matchesIfNoneMatch(request.headers().asHttpHeaders().getIfNoneMatch(), etag)) {
+                return ServerResponse.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(etag)
+                        .header(CACHE_STATUS_HEADER, cacheStatus)
+                        .build();
+            }
+            return ServerResponse.status(status)
+                    .headers(responseHeaders -> responseHeaders.addAll(headers))
+                    .header(CACHE_STATUS_HEADER, cacheStatus)
+                    .body(body);
+        }
+
+        /**
+         * Weak comparison as required for If-None-Match: {@code W/"x"} matches {@code "x"}, and {@code *} matches
+         * any current representation.
+         */
+        private static boolean matchesIfNoneMatch(final List<String> ifNoneMatch, final String etag) {
+            final String opaqueTag = withoutWeakPrefix(etag);
+            return ifNoneMatch.stream()
+                    .anyMatch(candidate -> "*".equals(candidate) || withoutWeakPrefix(candidate).equals(opaqueTag));
+        }
+
+        private static String withoutWeakPrefix(final String etag) {
+            return etag.startsWith("W/") ? etag.substring(2) : etag;
+        }
+
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,99 @@
+package com.sathwikhbhat.apigatewayservice.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Remembers tokens that passed full validation, keyed by their SHA-256, until they expire or the maximum TTL
+ * passes, so repeat requests with the same bearer token skip signature verification. Rejected tokens are never
+ * cached.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+    private final Cache<String, Jwt> verified;
+    private final Duration maxTtl;
+    private final Timer validTimer;
+    private final Timer invalidTimer;
+
+    public CachingJwtDecoder(final JwtDecoder delegate,
+                             final MeterRegistry meterRegistry,
+                             final long maxSize,
+                             final Duration maxTtl) {
+        this.delegate = delegate;
+        this.maxTtl = maxTtl;
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(Expiry.creating((String hash, Jwt jwt) -> ttlOf(jwt)))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verified, "jwt");
+        this.validTimer = validationTimer(meterRegistry, "valid");
+        this.invalidTimer = validationTimer(meterRegistry, "invalid");
+    }
+
+    @Override
+    public Jwt decode(final String token) throws JwtException {
+        final String hash = sha256(token);
+        final Jwt cached = verified.getIfPresent(hash);
+        if (cached != null) {
+            return cached;
+        }
+
+        final long start = System.nanoTime();
+        final Jwt jwt;
+        try {
+            jwt = delegate.decode(token);
+        } catch (JwtException e) {
+            invalidTimer.record(Duration.ofNanos(System.nanoTime() - start));
+            throw e;
+        }
+        validTimer.record(Duration.ofNanos(System.nanoTime() - start));
+        verified.put(hash, jwt);
+        return jwt;
+    }
+
+    private Duration ttlOf(final Jwt jwt) {
+        final Instant expiresAt = jwt.getExpiresAt();
+        if (expiresAt == null) {
+            return maxTtl;
+        }
+        final Duration untilExpiry = Duration.between(Instant.now(), expiresAt);
+        if (untilExpiry.isNegative()) {
+            return Duration.ZERO;
+        }
+        return untilExpiry.compareTo(maxTtl) < 0 ? untilExpiry : maxTtl;
+    }
+
+    private static String sha256(final String token) {
+        try {
+            return Base64.getEncoder().encodeToString(
+                    MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static Timer validationTimer(final MeterRegistry meterRegistry, final String outcome) {
+        return Timer.builder("gateway.jwt.validation")
+                .description("Full JWT signature and claim validation, on cache misses only")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+}
\ No newline at end of file
@@ -1,23 +1,57 @@
 package com.sathwikhbhat.apigatewayservice.config;
 
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.jwk.source.JWKSourceBuilder;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.web.SecurityFilterChain;
 
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.time.Duration;
+
 @Configuration
 public class SecurityConfig {
 
+    private static final Logger log = LoggerFactory.getLogger(SecurityConfig.class);
+
     @Value("${keycloak.auth.jwk-set-uri}")
     private String jwkSetUri;
 
     @Value("${security.exclude.urls}")
     private String[] excludeUrls;
 
+    @Value("${gateway.jwks.cache-ttl}")
+    private Duration jwksCacheTtl;
+
+    @Value("${gateway.jwks.refresh-ahead}")
+    private Duration jwksRefreshAhead;
+
+    @Value("${gateway.jwks.refresh-timeout}")
+    private Duration jwksRefreshTimeout;
+
+    @Value("${gateway.jwt.cache.max-size}")
+    private long jwtCacheMaxSize;
+
+    @Value("${gateway.jwt.cache.max-ttl}")
+    private Duration jwtCacheMaxTtl;
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity httpSecurity) throws Exception {
         return httpSecurity.authorizeHttpRequests(auth ->
@@ -29,9 +63,47 @@ public class SecurityConfig {
                 .build();
     }
 
+    /**
+     * Keycloak signing keys, cached and refreshed in the background shortly before they expire so no request
+     * waits on a JWKS fetch; a failed refresh keeps serving the previous keys.
+     */
     @Bean
-    public JwtDecoder jwtDecoder() {
-        return NimbusJwtDecoder.withJwkSetUri(jwkSetUri).build();
+    public JWKSource<SecurityContext> jwkSource() throws MalformedURLException {
+        return JWKSourceBuilder.<SecurityContext>create(URI.create(jwkSetUri).toURL())
+                .cache(jwksCacheTtl.toMillis(), jwksRefreshTimeout.toMillis())
+                .refreshAheadCache(jwksRefreshAhead.toMillis(), true)
+                .outageTolerant(jwksCacheTtl.toMillis())
+                .build();
+    }
+
+    @Bean
+    public JwtDecoder jwtDecoder(JWKSource<SecurityContext> jwkSource, MeterRegistry meterRegistry) {
+        return new CachingJwtDecoder(jwkSetDecoder(jwkSource), meterRegistry, jwtCacheMaxSize, jwtCacheMaxTtl);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void prefetchJwks() throws MalformedURLException {
+        prefetch(jwkSource());
+    }
+
+    static NimbusJwtDecoder jwkSetDecoder(JWKSource<SecurityContext> jwkSource) {
+        DefaultJWTProcessor<SecurityContext> jwtProcessor = new DefaultJWTProcessor<>();
+        jwtProcessor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.RS256, jwkSource));
+        // Claims are checked by the decoder's OAuth2TokenValidator, as with withJwkSetUri
+        jwtProcessor.setJWTClaimsSetVerifier((claims, context) -> {
+        });
+        return new NimbusJwtDecoder(jwtProcessor);
+    }
+
+    static void prefetch(JWKSource<SecurityContext> jwkSource) {
+        Thread.ofVirtual().name("jwks-prefetch").start(() -> {
+            try {
+                int keys = jwkSource.get(new JWKSelector(new JWKMatcher.Builder().build()), null).size();
+                log.info("Prefetched {} signing keys from the JWK set", keys);
+            } catch (Exception e) {
+                log.warn("Could not prefetch the JWK set, it will be fetched on the first request: {}", e.getMessage());
+            }
+        });
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.sathwikhbhat.apigatewayservice.config;
+
+import io.opentelemetry.exporter.logging.otlp.OtlpJsonLoggingSpanExporter;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Exports finished spans as OTLP JSON lines through the {@code io.opentelemetry.exporter.logging.otlp} logger,
+ * which logback-spring.xml writes to the file named by {@code tracing.otlp-file.path}. No collector is needed;
+ * each line is an OTLP {@code ResourceSpans} object that an OTLP backend can import.
+ */
+@Configuration
+public class TracingConfig {
+
+    @Bean
+    public SpanExporter otlpJsonFileSpanExporter() {
+        return OtlpJsonLoggingSpanExporter.create();
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,149 @@
+package com.sathwikhbhat.apigatewayservice.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.sathwikhbhat.apigatewayservice.support.BodyTooLargeException;
+import com.sathwikhbhat.apigatewayservice.support.BookingRequestBody;
+import com.sathwikhbhat.apigatewayservice.support.CachedBodyRequest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.servlet.function.HandlerFilterFunction;
+import org.springframework.web.servlet.function.HandlerFunction;
+import org.springframework.web.servlet.function.ServerRequest;
+import org.springframework.web.servlet.function.ServerResponse;
+
+import java.security.Principal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rate limits booking requests per JWT subject and per event id taken from the request body, answering
+ * 429 with Retry-After once either bucket is empty. The user bucket is checked first so a single client
+ * cannot drain the bucket shared by everyone booking the same event. A batch booking takes one permit from
+ * the user bucket and one permit per line item from the bucket of each item's event; batches with more than
+ * {@code gateway.ratelimit.batch.max-items} items get 400. Permits already taken are given back when a later
+ * bucket rejects the request.
+ */
+@Component
+public class BookingRateLimitFilter implements HandlerFilterFunction<ServerResponse, ServerResponse> {
+
+    private final TokenBucketRateLimiter userLimiter;
+    private final TokenBucketRateLimiter eventLimiter;
+    private final ObjectMapper objectMapper;
+    private final int maxBodyBytes;
+    private final int maxBatchItems;
+    private final Counter userRejections;
+    private final Counter eventRejections;
+
+    @Autowired
+    public BookingRateLimitFilter(final ObjectMapper objectMapper,
+                                  final MeterRegistry meterRegistry,
+                                  @Value("${gateway.ratelimit.user.permits-per-second}") final double userRate,
+                                  @Value("${gateway.ratelimit.user.burst}") final int userBurst,
+                                  @Value("${gateway.ratelimit.event.permits-per-second}") final double eventRate,
+                                  @Value("${gateway.ratelimit.event.burst}") final int eventBurst,
+                                  @Value("${gateway.ratelimit.idle-timeout}") final Duration idleTimeout,
+                                  @Value("${gateway.ratelimit.max-keys}") final long maxKeys,
+                                  @Value("${gateway.ratelimit.batch.max-items}") final int maxBatchItems,
+                                  @Value("${gateway.booking.max-body-size}") final DataSize maxBodySize) {
+        this(objectMapper, meterRegistry, Math.toIntExact(maxBodySize.toBytes()), maxBatchItems,
+                new TokenBucketRateLimiter(userRate, userBurst, idleTimeout, maxKeys, Ticker.systemTicker()),
+                new TokenBucketRateLimiter(eventRate, eventBurst, idleTimeout, maxKeys, Ticker.systemTicker()));
+    }
+
+    BookingRateLimitFilter(final ObjectMapper objectMapper,
+                           final MeterRegistry meterRegistry,
+                           final int maxBodyBytes,
+                           final int maxBatchItems,
+                           final TokenBucketRateLimiter userLimiter,
+                           final TokenBucketRateLimiter eventLimiter) {
+        if (maxBatchItems < 1 || maxBatchItems > eventLimiter.burst()) {
+            throw new IllegalArgumentException("Batch max items must be between 1 and the event burst of "
+                    + eventLimiter.burst());
+        }
+        this.objectMapper = objectMapper;
+        this.maxBodyBytes = maxBodyBytes;
+        this.maxBatchItems = maxBatchItems;
+        this.userLimiter = userLimiter;
+        this.eventLimiter = eventLimiter;
+        this.userRejections = rejections(meterRegistry, "user");
+        this.eventRejections = rejections(meterRegistry, "event");
+        Gauge.builder("gateway.ratelimit.buckets", userLimiter, TokenBucketRateLimiter::trackedKeys)
+                .description("Rate limit buckets currently held in memory")
+                .tag("limit", "user")
+                .register(meterRegistry);
+        Gauge.builder("gateway.ratelimit.buckets", eventLimiter, TokenBucketRateLimiter::trackedKeys)
+                .description("Rate limit buckets currently held in memory")
+                .tag("limit", "event")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public ServerResponse filter(final ServerRequest request, final HandlerFunction<ServerResponse> next)
+            throws Exception {
+        final ServerRequest buffered;
+        try {
+            buffered = CachedBodyRequest.of(request, maxBodyBytes);
+        } catch (BodyTooLargeException e) {
+            return ServerResponse.status(HttpStatus.PAYLOAD_TOO_LARGE).body(e.getMessage());
+        }
+        final List<String> eventIds = BookingRequestBody.eventIds(buffered, objectMapper);
+        if (eventIds.size() > maxBatchItems) {
+            return ServerResponse.badRequest()
+                    .body("A batch booking may hold at most " + maxBatchItems + " items");
+        }
+
+        final String subject = request.principal().map(Principal::getName).orElse(null);
+        if (subject != null) {
+            final long waitNanos = userLimiter.tryAcquire(subject);
+            if (waitNanos > 0) {
+                userRejections.increment();
+                return tooManyRequests(waitNanos, "Too many booking requests, please slow down.");
+            }
+        }
+
+        final Map<String, Integer> itemsByEventId = new LinkedHashMap<>();
+        eventIds.stream().filter(Objects::nonNull).forEach(eventId -> itemsByEventId.merge(eventId, 1, Integer::sum));
+        final List<Map.Entry<String, Integer>> charged = new ArrayList<>();
+        for (Map.Entry<String, Integer> items : itemsByEventId.entrySet()) {
+            final long waitNanos = eventLimiter.tryAcquire(items.getKey(), items.getValue());
+            if (waitNanos > 0) {
+                charged.forEach(taken -> eventLimiter.release(taken.getKey(), taken.getValue()));
+                if (subject != null) {
+                    userLimiter.release(subject, 1);
+                }
+                eventRejections.increment();
+                return tooManyRequests(waitNanos, "This event is receiving too many bookings, please retry shortly.");
+            }
+            charged.add(items);
+        }
+        return next.handle(buffered);
+    }
+
+    private static ServerResponse tooManyRequests(final long waitNanos, final String message) {
+        final long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+        return ServerResponse.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(message);
+    }
+
+    private static Counter rejections(final MeterRegistry meterRegistry, final String limit) {
+        return Counter.builder("gateway.ratelimit.rejected")
+                .description("Booking requests rejected with 429")
+                .tag("limit", limit)
+                .register(meterRegistry);
+    }
+
+}
\ No newline at end of file
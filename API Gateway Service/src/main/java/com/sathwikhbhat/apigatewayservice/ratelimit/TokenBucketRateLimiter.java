@@ -0,0 +1,106 @@
+package com.sathwikhbhat.apigatewayservice.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket per key, implemented as a generic cell rate algorithm: each key holds only the theoretical
+ * arrival time of its next request, advanced with a CAS, so concurrent callers never lock. Buckets that stay
+ * idle for longer than the idle timeout are evicted; an evicted bucket would have been full again anyway.
+ */
+public class TokenBucketRateLimiter {
+
+    private final Cache<String, AtomicLong> buckets;
+    private final Ticker ticker;
+    private final int burst;
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+
+    public TokenBucketRateLimiter(final double permitsPerSecond,
+                                  final int burst,
+                                  final Duration idleTimeout,
+                                  final long maxKeys,
+                                  final Ticker ticker) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("Rate and burst must be positive");
+        }
+        this.ticker = ticker;
+        this.burst = burst;
+        this.emissionIntervalNanos = (long) (1_000_000_000L / permitsPerSecond);
+        this.burstToleranceNanos = emissionIntervalNanos * (burst - 1);
+        final Duration refillTime = Duration.ofNanos(burstToleranceNanos + emissionIntervalNanos);
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(idleTimeout.compareTo(refillTime) > 0 ? idleTimeout : refillTime)
+                .ticker(ticker)
+                .build();
+    }
+
+    /**
+     * Takes one permit for {@code key}.
+     *
+     * @return 0 if the permit was granted, otherwise how long to wait in nanos before one is available
+     */
+    public long tryAcquire(final String key) {
+        return tryAcquire(key, 1);
+    }
+
+    /**
+     * Takes {@code permits} permits for {@code key} at once, or none of them.
+     *
+     * @return 0 if the permits were granted, otherwise how long to wait in nanos before they are available
+     * @throws IllegalArgumentException if more permits are asked for than the burst holds
+     */
+    public long tryAcquire(final String key, final int permits) {
+        if (permits < 1 || permits > burst) {
+            throw new IllegalArgumentException("Permits must be between 1 and the burst of " + burst);
+        }
+        final AtomicLong theoreticalArrival = buckets.get(key, k -> new AtomicLong(Long.MIN_VALUE));
+        final long now = ticker.read();
+        long current;
+        long next;
+        do {
+            current = theoreticalArrival.get();
+            final long start = current == Long.MIN_VALUE || current - now < 0 ? now : current;
+            next = start + emissionIntervalNanos * permits;
+            final long waitNanos = next - now - burstToleranceNanos - emissionIntervalNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+        } while (!theoreticalArrival.compareAndSet(current, next));
+        return 0;
+    }
+
+    /**
+     * Gives back {@code permits} permits taken from {@code key} by a request that was rejected further on.
+     */
+    public void release(final String key, final int permits) {
+        final AtomicLong theoreticalArrival = buckets.getIfPresent(key);
+        if (theoreticalArrival == null) {
+            return;
+        }
+        final long now = ticker.read();
+        long current;
+        long next;
+        do {
+            current = theoreticalArrival.get();
+            if (current == Long.MIN_VALUE || current - now <= 0) {
+                return;
+            }
+            next = Math.max(current - emissionIntervalNanos * permits, now);
+        } while (!theoreticalArrival.compareAndSet(current, next));
+    }
+
+    public int burst() {
+        return burst;
+    }
+
+    public long trackedKeys() {
+        return buckets.estimatedSize();
+    }
+
+}
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.sathwikhbhat.apigatewayservice.routes;
 
+import com.sathwikhbhat.apigatewayservice.ratelimit.BookingRateLimitFilter;
+import com.sathwikhbhat.apigatewayservice.waitingroom.WaitingRoomFilter;
 import org.springframework.cloud.gateway.server.mvc.filter.CircuitBreakerFilterFunctions;
 import org.springframework.cloud.gateway.server.mvc.handler.GatewayRouterFunctions;
 import org.springframework.cloud.gateway.server.mvc.handler.HandlerFunctions;
@@ -18,10 +20,15 @@ import static org.springframework.cloud.gateway.server.mvc.filter.FilterFunction
 public class BookingServiceRoutes {
 
     @Bean
-    public RouterFunction<ServerResponse> bookingRoutes() {
+    public RouterFunction<ServerResponse> bookingRoutes(WaitingRoomFilter waitingRoomFilter,
+                                                        BookingRateLimitFilter bookingRateLimitFilter) {
         return GatewayRouterFunctions.route("booking-service")
                 .route(RequestPredicates.POST("/api/v1/booking"),
-                        HandlerFunctions.forward("http://localhost:8081/api/v1/booking"))
+                        HandlerFunctions.http("http://localhost:8081"))
+                .route(RequestPredicates.POST("/api/v1/booking/batch"),
+                        HandlerFunctions.http("http://localhost:8081"))
+                .filter(waitingRoomFilter)
+                .filter(bookingRateLimitFilter)
                 .filter(CircuitBreakerFilterFunctions.circuitBreaker("bookingServiceCircuitBreaker",
                         URI.create("forward:/fallbackRoute")))
                 .build();
@@ -2,6 +2,8 @@ package com.sathwikhbhat.apigatewayservice.routes;
 
 import static org.springframework.cloud.gateway.server.mvc.filter.FilterFunctions.setPath;
 
+import com.sathwikhbhat.apigatewayservice.cache.GatewayResponseCache;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.gateway.server.mvc.handler.GatewayRouterFunctions;
 import org.springframework.cloud.gateway.server.mvc.handler.HandlerFunctions;
 import org.springframework.context.annotation.Bean;
@@ -11,14 +13,34 @@ import org.springframework.web.servlet.function.RouterFunction;
 import org.springframework.web.servlet.function.ServerRequest;
 import org.springframework.web.servlet.function.ServerResponse;
 
+import java.time.Duration;
+
 @Configuration
 public class InventoryServiceRoutes {
 
     @Bean
-    public RouterFunction<ServerResponse> inventoryRoutes() {
+    public RouterFunction<ServerResponse> inventoryRoutes(
+            GatewayResponseCache responseCache,
+            @Value("${gateway.cache.inventory-events-ttl}") Duration eventsTtl,
+            @Value("${gateway.cache.inventory-event-ttl}") Duration eventTtl) {
         return GatewayRouterFunctions.route("inventory-service")
                 .route(RequestPredicates.GET("/api/v1/inventory/events"),
-                        HandlerFunctions.http("http://localhost:8080/api/v1/inventory/events"))
+                        responseCache.proxy("inventory-events", "http://localhost:8080", eventsTtl))
+
+                .route(RequestPredicates.POST("/api/v1/inventory/events/lookup"),
+                        HandlerFunctions.http("http://localhost:8080"))
+
+                .route(RequestPredicates.GET("/api/v1/inventory/events/stream"),
+                        HandlerFunctions.http("http://localhost:8080/api/v1/inventory/events/stream"))
+
+                .route(RequestPredicates.GET("/api/v1/inventory/events/snapshot"),
+                        responseCache.proxy("inventory-events-snapshot", "http://localhost:8080", eventsTtl))
+
+                .route(RequestPredicates.GET("/api/v1/inventory/event/{eventId}/seats"),
+                        HandlerFunctions.http("http://localhost:8080"))
+
+                .route(RequestPredicates.GET("/api/v1/inventory/event/{eventId}"),
+                        responseCache.proxy("inventory-event", "http://localhost:8080", eventTtl))
 
                 .route(RequestPredicates.path("/api/v1/inventory/venue/{venueId}"),
                         request -> forwardWithPathVariables(request,
@@ -29,15 +51,14 @@ public class InventoryServiceRoutes {
                         request -> forwardWithPathVariables(request,
                                 "http://localhost:8080/api/v1/inventory/event/",
                                 "eventId"))
-
-                .route(RequestPredicates.PUT("/api/v1/inventory/event/{eventId}/capacity/{ticketsBooked}"),
-                        request -> forwardWithPathVariables(request,
-                                "http://localhost:8080/api/v1/inventory/event/",
-                                "eventId", "capacity", "ticketsBooked"))
                 .build();
     }
 
     private static ServerResponse forwardWithPathVariables(ServerRequest request, String baseUrl, String... pathVariables) throws Exception {
+        return HandlerFunctions.http(targetUrl(request, baseUrl, pathVariables)).handle(request);
+    }
+
+    static String targetUrl(ServerRequest request, String baseUrl, String... pathVariables) {
         StringBuilder urlBuilder = new StringBuilder(baseUrl);
 
         for (int i = 0; i < pathVariables.length; i++) {
@@ -50,7 +71,7 @@ public class InventoryServiceRoutes {
             urlBuilder.append(value);
         }
 
-        return HandlerFunctions.http(urlBuilder.toString()).handle(request);
+        return urlBuilder.toString();
     }
 
     @Bean
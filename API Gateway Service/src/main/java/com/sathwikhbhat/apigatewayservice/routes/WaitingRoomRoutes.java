@@ -0,0 +1,35 @@
+package com.sathwikhbhat.apigatewayservice.routes;
+
+import com.sathwikhbhat.apigatewayservice.waitingroom.WaitingRoom;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.function.RouterFunction;
+import org.springframework.web.servlet.function.RouterFunctions;
+import org.springframework.web.servlet.function.ServerResponse;
+
+import java.security.Principal;
+
+@Configuration
+public class WaitingRoomRoutes {
+
+    @Bean
+    public RouterFunction<ServerResponse> waitingRoomEndpoints(WaitingRoom waitingRoom) {
+        return RouterFunctions.route()
+                .POST("/api/v1/waiting-room/{eventId}/join", request -> {
+                    String subject = request.principal().map(Principal::getName).orElseThrow();
+                    long eventId = Long.parseLong(request.pathVariable("eventId"));
+                    return waitingRoom.join(eventId, subject)
+                            .map(ticket -> ServerResponse.status(HttpStatus.CREATED).body(ticket))
+                            .orElseGet(() -> ServerResponse.status(HttpStatus.SERVICE_UNAVAILABLE).build());
+                })
+                .GET("/api/v1/waiting-room/status", request -> {
+                    String subject = request.principal().map(Principal::getName).orElseThrow();
+                    return waitingRoom.status(request.headers().firstHeader(WaitingRoom.TOKEN_HEADER), subject)
+                            .map(ticket -> ServerResponse.ok().body(ticket))
+                            .orElseGet(() -> ServerResponse.status(HttpStatus.FORBIDDEN).build());
+                })
+                .build();
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.sathwikhbhat.apigatewayservice.support;
+
+import java.io.IOException;
+
+/**
+ * Thrown by {@link CachedBodyRequest#of} when a request body is larger than the gateway buffers.
+ */
+public class BodyTooLargeException extends IOException {
+
+    public BodyTooLargeException(final long maxBodyBytes) {
+        super("Request body exceeds " + maxBodyBytes + " bytes");
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,54 @@
+package com.sathwikhbhat.apigatewayservice.support;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.web.servlet.function.ServerRequest;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads fields of a buffered booking or batch booking request body without binding it to Booking Service's
+ * request classes.
+ */
+public final class BookingRequestBody {
+
+    private BookingRequestBody() {
+    }
+
+    /**
+     * @param request a request buffered with {@link CachedBodyRequest#of}
+     * @return the {@code eventId} of a single booking, or the {@code eventId} of every line item of a batch
+     * booking in body order; empty if the body has none or is not JSON. A line item without an event id is
+     * returned as null so callers still see one entry per item.
+     */
+    public static List<String> eventIds(final ServerRequest request, final ObjectMapper objectMapper) {
+        final byte[] body = CachedBodyRequest.body(request);
+        if (body.length == 0) {
+            return List.of();
+        }
+        final JsonNode root;
+        try {
+            root = objectMapper.readTree(body);
+        } catch (IOException e) {
+            return List.of();
+        }
+        if (root == null) {
+            return List.of();
+        }
+        final JsonNode items = root.get("items");
+        if (items != null && items.isArray()) {
+            final List<String> eventIds = new ArrayList<>(items.size());
+            items.forEach(item -> eventIds.add(text(item.get("eventId"))));
+            return eventIds;
+        }
+        final String eventId = text(root.get("eventId"));
+        return eventId == null ? List.of() : List.of(eventId);
+    }
+
+    private static String text(final JsonNode node) {
+        return node == null || node.isNull() ? null : node.asText();
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,105 @@
+package com.sathwikhbhat.apigatewayservice.support;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import org.springframework.web.servlet.function.ServerRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+/**
+ * Buffers the request body so gateway filters can inspect it and the proxy, which reads the servlet input
+ * stream, still forwards it unchanged.
+ */
+public final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+    private final byte[] body;
+
+    private CachedBodyRequest(final HttpServletRequest request, final byte[] body) {
+        super(request);
+        this.body = body;
+    }
+
+    /**
+     * @return {@code request} itself if its body is already buffered, otherwise a copy that replays the body
+     * @throws BodyTooLargeException if the body is longer than {@code maxBodyBytes}; a declared Content-Length
+     *                               over the limit is rejected without reading the body
+     */
+    public static ServerRequest of(final ServerRequest request, final int maxBodyBytes) throws IOException {
+        if (request.servletRequest() instanceof CachedBodyRequest) {
+            return request;
+        }
+        if (request.servletRequest().getContentLengthLong() > maxBodyBytes) {
+            throw new BodyTooLargeException(maxBodyBytes);
+        }
+        final byte[] body = request.servletRequest().getInputStream().readNBytes(maxBodyBytes + 1);
+        if (body.length > maxBodyBytes) {
+            throw new BodyTooLargeException(maxBodyBytes);
+        }
+        return ServerRequest.create(new CachedBodyRequest(request.servletRequest(), body),
+                request.messageConverters());
+    }
+
+    public static byte[] body(final ServerRequest request) {
+        return ((CachedBodyRequest) request.servletRequest()).body;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+        final ByteArrayInputStream in = new ByteArrayInputStream(body);
+        return new ServletInputStream() {
+
+            @Override
+            public int read() {
+                return in.read();
+            }
+
+            @Override
+            public int read(final byte[] b, final int off, final int len) {
+                return in.read(b, off, len);
+            }
+
+            @Override
+            public boolean isFinished() {
+                return in.available() == 0;
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            /**
+             * The body is already in memory, so the listener is told right away that data is available and,
+             * once it has read everything, that all data has been read.
+             */
+            @Override
+            public void setReadListener(final ReadListener readListener) {
+                try {
+                    if (!isFinished()) {
+                        readListener.onDataAvailable();
+                    }
+                    if (isFinished()) {
+                        readListener.onAllDataRead();
+                    }
+                } catch (IOException e) {
+                    readListener.onError(e);
+                }
+            }
+
+        };
+    }
+
+    @Override
+    public int getContentLength() {
+        return body.length;
+    }
+
+    @Override
+    public long getContentLengthLong() {
+        return body.length;
+    }
+
+}
\ No newline at end of file
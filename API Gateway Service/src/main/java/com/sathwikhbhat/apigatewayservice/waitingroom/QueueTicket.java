@@ -0,0 +1,11 @@
+package com.sathwikhbhat.apigatewayservice.waitingroom;
+
+/**
+ * A place in the waiting room of one event.
+ *
+ * @param token      signed token to send as {@value WaitingRoom#TOKEN_HEADER} when polling and booking
+ * @param position   how many people are still ahead; 0 once admitted
+ * @param etaSeconds estimated wait until admission at the current admission rate
+ */
+public record QueueTicket(String token, long eventId, long position, long etaSeconds, boolean admitted) {
+}
\ No newline at end of file
@@ -0,0 +1,303 @@
+package com.sathwikhbhat.apigatewayservice.waitingroom;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Admission queue per event. Joining hands out the next sequence number inside an HMAC-signed token. Each
+ * event tracks how many tokens were issued and how far admission has advanced, which moves forward at a fixed
+ * rate but never past the last issued number. Per person only the one live token of each subject and event is
+ * kept, so joining again returns the same place, and an admitted token is used up by the booking it lets
+ * through. Queues and tokens are only dropped once they expire; when {@code maxEvents} queues or
+ * {@code maxTokens} tokens are held, new joins are refused instead of pushing out people already waiting. A
+ * token whose queue is no longer held (expired or recreated) is not admitted; its holder has to join again.
+ */
+@Component
+public class WaitingRoom {
+
+    public static final String TOKEN_HEADER = "X-Queue-Token";
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final int MIN_SECRET_BYTES = 32;
+
+    private final Cache<Long, EventQueue> queues;
+    private final Cache<Holder, String> liveTokens;
+    private final AtomicLong queueGenerations = new AtomicLong();
+    private final SecretKeySpec signingKey;
+    private final double admissionsPerSecond;
+    private final Duration tokenTtl;
+    private final long maxEvents;
+    private final long maxTokens;
+    private final Clock clock;
+    private final Counter joined;
+    private final Counter admitted;
+    private final Counter refused;
+
+    @Autowired
+    public WaitingRoom(final MeterRegistry meterRegistry,
+                       @Value("${gateway.waiting-room.secret}") final String secret,
+                       @Value("${gateway.waiting-room.admissions-per-second}") final double admissionsPerSecond,
+                       @Value("${gateway.waiting-room.token-ttl}") final Duration tokenTtl,
+                       @Value("${gateway.waiting-room.max-events}") final long maxEvents,
+                       @Value("${gateway.waiting-room.max-tokens}") final long maxTokens) {
+        this(meterRegistry, secret, admissionsPerSecond, tokenTtl, maxEvents, maxTokens, Clock.systemUTC());
+    }
+
+    WaitingRoom(final MeterRegistry meterRegistry,
+                final String secret,
+                final double admissionsPerSecond,
+                final Duration tokenTtl,
+                final long maxEvents,
+                final long maxTokens,
+                final Clock clock) {
+        if (secret.getBytes(StandardCharsets.UTF_8).length < MIN_SECRET_BYTES) {
+            throw new IllegalArgumentException(
+                    "gateway.waiting-room.secret must be at least " + MIN_SECRET_BYTES + " bytes");
+        }
+        this.signingKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
+        this.admissionsPerSecond = admissionsPerSecond;
+        this.tokenTtl = tokenTtl;
+        this.maxEvents = maxEvents;
+        this.maxTokens = maxTokens;
+        this.clock = clock;
+        this.queues = Caffeine.newBuilder()
+                .expireAfterAccess(tokenTtl)
+                .ticker(this::nowNanos)
+                .build();
+        this.liveTokens = Caffeine.newBuilder()
+                .expireAfterWrite(tokenTtl)
+                .ticker(this::nowNanos)
+                .build();
+        this.joined = Counter.builder("gateway.waiting-room.joined")
+                .description("Queue tokens issued")
+                .register(meterRegistry);
+        this.admitted = Counter.builder("gateway.waiting-room.admitted")
+                .description("Queue positions admitted to booking")
+                .register(meterRegistry);
+        this.refused = Counter.builder("gateway.waiting-room.refused")
+                .description("Joins refused because the waiting room holds its maximum of queues or tokens")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return a new place at the back of the queue, or the caller's current place if they already hold a live
+     * token for the event; empty if the waiting room is full
+     */
+    public Optional<QueueTicket> join(final long eventId, final String subject) {
+        final long now = nowNanos();
+        final EventQueue queue = queue(eventId, now);
+        final boolean full = queue == null || isFull(liveTokens, maxTokens);
+        final String token = queue == null ? null : liveTokens.asMap().compute(new Holder(eventId, subject),
+                (holder, current) -> {
+                    if (current != null && verify(current, subject).filter(queue::issued).isPresent()) {
+                        return current;
+                    }
+                    // Replacing a stale token keeps the count; only a new holder needs room
+                    return current == null && full ? null : issue(queue, eventId, subject, now);
+                });
+        if (token == null) {
+            refused.increment();
+            return Optional.empty();
+        }
+        final Claims claims = verify(token, subject).orElseThrow();
+        return Optional.of(ticket(token, eventId, claims.sequence(), queue.admittedThrough(now)));
+    }
+
+    /**
+     * @return the current place of a token issued to {@code subject}, or empty if the token is forged, expired,
+     * belongs to someone else, was used up or its queue is no longer held
+     */
+    public Optional<QueueTicket> status(final String token, final String subject) {
+        return verify(token, subject)
+                .filter(claims -> token.equals(liveTokens.getIfPresent(new Holder(claims.eventId(), subject))))
+                .flatMap(claims -> Optional.ofNullable(queues.getIfPresent(claims.eventId()))
+                        .filter(queue -> queue.issued(claims))
+                        .map(queue -> ticket(token, claims.eventId(), claims.sequence(),
+                                queue.admittedThrough(nowNanos()))));
+    }
+
+    /**
+     * Uses up an admitted ticket. Only one caller wins for each token; later bookings with it are rejected like
+     * an unknown token, and the holder may join again.
+     *
+     * @return false if the token was already used up
+     */
+    public boolean consume(final QueueTicket ticket, final String subject) {
+        return liveTokens.asMap().remove(new Holder(ticket.eventId(), subject), ticket.token());
+    }
+
+    /**
+     * Makes a ticket used up by {@link #consume} live again, for a booking turned away before it reached
+     * Booking Service. Does nothing if the holder has joined again in the meantime.
+     */
+    public void restore(final QueueTicket ticket, final String subject) {
+        liveTokens.asMap().putIfAbsent(new Holder(ticket.eventId(), subject), ticket.token());
+    }
+
+    private EventQueue queue(final long eventId, final long nowNanos) {
+        final EventQueue queue = queues.getIfPresent(eventId);
+        if (queue != null) {
+            return queue;
+        }
+        if (isFull(queues, maxEvents)) {
+            return null;
+        }
+        return queues.get(eventId, id -> new EventQueue(queueGenerations.incrementAndGet(), nowNanos));
+    }
+
+    /**
+     * Soft limit: concurrent joins may go slightly past it, but nobody is ever pushed out to make room.
+     */
+    private static boolean isFull(final Cache<?, ?> cache, final long limit) {
+        if (cache.estimatedSize() < limit) {
+            return false;
+        }
+        cache.cleanUp();
+        return cache.estimatedSize() >= limit;
+    }
+
+    private String issue(final EventQueue queue, final long eventId, final String subject, final long nowNanos) {
+        queue.admittedThrough(nowNanos);
+        final long sequence = queue.issued.incrementAndGet();
+        joined.increment();
+        return sign(new Claims(eventId, queue.generation, sequence, clock.millis() + tokenTtl.toMillis(), subject));
+    }
+
+    private QueueTicket ticket(final String token, final long eventId, final long sequence,
+                               final long admittedThrough) {
+        final long position = Math.max(0, sequence - admittedThrough);
+        final long etaSeconds = (long) Math.ceil(position / admissionsPerSecond);
+        return new QueueTicket(token, eventId, position, etaSeconds, position == 0);
+    }
+
+    private Optional<Claims> verify(final String token, final String subject) {
+        if (token == null) {
+            return Optional.empty();
+        }
+        final int separator = token.indexOf('.');
+        if (separator < 0) {
+            return Optional.empty();
+        }
+        final byte[] payload;
+        final byte[] signature;
+        try {
+            payload = Base64.getUrlDecoder().decode(token.substring(0, separator));
+            signature = Base64.getUrlDecoder().decode(token.substring(separator + 1));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        if (!MessageDigest.isEqual(hmac(payload), signature)) {
+            return Optional.empty();
+        }
+        final String[] fields = new String(payload, StandardCharsets.UTF_8).split(":", 5);
+        if (fields.length != 5) {
+            return Optional.empty();
+        }
+        final Claims claims = new Claims(Long.parseLong(fields[0]), Long.parseLong(fields[1]),
+                Long.parseLong(fields[2]), Long.parseLong(fields[3]), fields[4]);
+        if (!claims.subject().equals(subject) || claims.expiresAtMillis() < clock.millis()) {
+            return Optional.empty();
+        }
+        return Optional.of(claims);
+    }
+
+    private String sign(final Claims claims) {
+        final byte[] payload = (claims.eventId() + ":" + claims.generation() + ":" + claims.sequence() + ":"
+                + claims.expiresAtMillis() + ":" + claims.subject()).getBytes(StandardCharsets.UTF_8);
+        final Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString(payload) + "." + encoder.encodeToString(hmac(payload));
+    }
+
+    private byte[] hmac(final byte[] payload) {
+        try {
+            final Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(signingKey);
+            return mac.doFinal(payload);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 is not available", e);
+        }
+    }
+
+    private long nowNanos() {
+        final Instant now = clock.instant();
+        return now.getEpochSecond() * NANOS_PER_SECOND + now.getNano();
+    }
+
+    private record Claims(long eventId, long generation, long sequence, long expiresAtMillis, String subject) {
+    }
+
+    private record Holder(long eventId, String subject) {
+    }
+
+    private record Horizon(long admittedThrough, long atNanos) {
+    }
+
+    private final class EventQueue {
+
+        private final long generation;
+        private final AtomicLong issued = new AtomicLong();
+        private final AtomicReference<Horizon> horizon;
+
+        private EventQueue(final long generation, final long nowNanos) {
+            this.generation = generation;
+            this.horizon = new AtomicReference<>(new Horizon(0, nowNanos));
+        }
+
+        /**
+         * @return whether the token was issued by this queue rather than by one it replaced
+         */
+        private boolean issued(final Claims claims) {
+            return claims.generation() == generation;
+        }
+
+        /**
+         * Moves admission forward by the time elapsed since the last call, without running ahead of the
+         * tokens issued so far, so an idle queue does not bank admissions for the next spike.
+         */
+        private long admittedThrough(final long nowNanos) {
+            while (true) {
+                final Horizon current = horizon.get();
+                final long elapsed = nowNanos - current.atNanos();
+                if (elapsed <= 0) {
+                    return current.admittedThrough();
+                }
+                final long earned = (long) (elapsed * admissionsPerSecond / NANOS_PER_SECOND);
+                final long waiting = issued.get() - current.admittedThrough();
+                final Horizon next;
+                if (earned >= waiting) {
+                    next = new Horizon(current.admittedThrough() + waiting, nowNanos);
+                } else if (earned > 0) {
+                    next = new Horizon(current.admittedThrough() + earned,
+                            current.atNanos() + (long) (earned * NANOS_PER_SECOND / admissionsPerSecond));
+                } else {
+                    return current.admittedThrough();
+                }
+                if (horizon.compareAndSet(current, next)) {
+                    admitted.increment(next.admittedThrough() - current.admittedThrough());
+                    return next.admittedThrough();
+                }
+            }
+        }
+
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,128 @@
+package com.sathwikhbhat.apigatewayservice.waitingroom;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sathwikhbhat.apigatewayservice.support.BodyTooLargeException;
+import com.sathwikhbhat.apigatewayservice.support.BookingRequestBody;
+import com.sathwikhbhat.apigatewayservice.support.CachedBodyRequest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.servlet.function.HandlerFilterFunction;
+import org.springframework.web.servlet.function.HandlerFunction;
+import org.springframework.web.servlet.function.ServerRequest;
+import org.springframework.web.servlet.function.ServerResponse;
+
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Lets a booking through only with an admitted queue token issued to the caller for the event being booked,
+ * or for every event of a batch booking. The tokens are used up by the booking they let through, unless the
+ * gateway turns that booking away with 429.
+ */
+@Component
+public class WaitingRoomFilter implements HandlerFilterFunction<ServerResponse, ServerResponse> {
+
+    private final WaitingRoom waitingRoom;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int maxBodyBytes;
+    private final Counter rejected;
+
+    @Autowired
+    public WaitingRoomFilter(final WaitingRoom waitingRoom,
+                             final ObjectMapper objectMapper,
+                             final MeterRegistry meterRegistry,
+                             @Value("${gateway.waiting-room.enabled}") final boolean enabled,
+                             @Value("${gateway.booking.max-body-size}") final DataSize maxBodySize) {
+        this.waitingRoom = waitingRoom;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.maxBodyBytes = Math.toIntExact(maxBodySize.toBytes());
+        this.rejected = Counter.builder("gateway.waiting-room.rejected")
+                .description("Bookings rejected for a missing, invalid, used or not yet admitted queue token")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public ServerResponse filter(final ServerRequest request, final HandlerFunction<ServerResponse> next)
+            throws Exception {
+        if (!enabled) {
+            return next.handle(request);
+        }
+        final String subject = request.principal().map(Principal::getName).orElse(null);
+        final ServerRequest buffered;
+        try {
+            buffered = CachedBodyRequest.of(request, maxBodyBytes);
+        } catch (BodyTooLargeException e) {
+            return ServerResponse.status(HttpStatus.PAYLOAD_TOO_LARGE).body(e.getMessage());
+        }
+        final Set<String> eventIds = new LinkedHashSet<>(BookingRequestBody.eventIds(buffered, objectMapper));
+        final Map<String, QueueTicket> tickets = new LinkedHashMap<>();
+        if (subject != null) {
+            for (String token : tokens(request)) {
+                waitingRoom.status(token, subject)
+                        .filter(queueTicket -> eventIds.contains(String.valueOf(queueTicket.eventId())))
+                        .ifPresent(queueTicket -> tickets.putIfAbsent(String.valueOf(queueTicket.eventId()),
+                                queueTicket));
+            }
+        }
+
+        if (eventIds.isEmpty() || !tickets.keySet().containsAll(eventIds)) {
+            rejected.increment();
+            return ServerResponse.status(HttpStatus.FORBIDDEN)
+                    .body("Join the waiting room for each event booked and send its token as "
+                            + WaitingRoom.TOKEN_HEADER);
+        }
+        final Optional<QueueTicket> waiting = tickets.values().stream()
+                .filter(queueTicket -> !queueTicket.admitted())
+                .max(Comparator.comparingLong(QueueTicket::etaSeconds));
+        if (waiting.isPresent()) {
+            rejected.increment();
+            return ServerResponse.status(HttpStatus.FORBIDDEN)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, waiting.get().etaSeconds())))
+                    .body(waiting.get());
+        }
+        final List<QueueTicket> consumed = new ArrayList<>(tickets.size());
+        for (QueueTicket queueTicket : tickets.values()) {
+            if (!waitingRoom.consume(queueTicket, subject)) {
+                consumed.forEach(usedTicket -> waitingRoom.restore(usedTicket, subject));
+                rejected.increment();
+                return ServerResponse.status(HttpStatus.FORBIDDEN)
+                        .body("This queue token was already used, join the waiting room again");
+            }
+            consumed.add(queueTicket);
+        }
+        final ServerResponse response = next.handle(buffered);
+        if (response.statusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS)) {
+            consumed.forEach(usedTicket -> waitingRoom.restore(usedTicket, subject));
+        }
+        return response;
+    }
+
+    /**
+     * A batch booking sends one token per event, as repeated or comma-separated {@value WaitingRoom#TOKEN_HEADER}
+     * headers.
+     */
+    private static List<String> tokens(final ServerRequest request) {
+        return request.headers().header(WaitingRoom.TOKEN_HEADER).stream()
+                .flatMap(value -> Arrays.stream(value.split(",")))
+                .map(String::trim)
+                .filter(token -> !token.isEmpty())
+                .toList();
+    }
+
+}
\ No newline at end of file
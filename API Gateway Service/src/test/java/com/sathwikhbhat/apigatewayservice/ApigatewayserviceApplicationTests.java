@@ -3,7 +3,7 @@ package com.sathwikhbhat.apigatewayservice;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "gateway.waiting-room.secret=test-waiting-room-secret-of-32-bytes")
 class ApigatewayserviceApplicationTests {
 
 	@Test
@@ -0,0 +1,209 @@
+package com.sathwikhbhat.apigatewayservice.cache;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.ByteArrayHttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.servlet.function.HandlerFunction;
+import org.springframework.web.servlet.function.ServerRequest;
+import org.springframework.web.servlet.function.ServerResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GatewayResponseCacheTest {
+
+    private static final int CONCURRENT_REQUESTS = 50;
+
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private HttpServer upstream;
+    private String upstreamBaseUrl;
+    private SimpleMeterRegistry meterRegistry;
+    private GatewayResponseCache responseCache;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        upstream = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        upstream.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        upstream.createContext("/api/v1/inventory/events", exchange -> {
+            sleep(200);
+            respond(exchange, "\"7\"", null);
+        });
+        upstream.createContext("/api/v1/inventory/events/snapshot", exchange -> {
+            upstreamCalls.incrementAndGet();
+            final byte[] body = String.valueOf(exchange.getRequestHeaders().getFirst("Accept-Language"))
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        upstream.createContext("/api/v1/inventory/event/1", exchange -> respond(exchange, null, "no-store"));
+        upstream.createContext("/api/v1/inventory/event/2", exchange -> respond(exchange, null, "max-age=0"));
+        upstream.start();
+        upstreamBaseUrl = "http://localhost:" + upstream.getAddress().getPort();
+        meterRegistry = new SimpleMeterRegistry();
+        responseCache = new GatewayResponseCache(RestClient.builder(), meterRegistry, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        upstream.stop(0);
+    }
+
+    @Test
+    void concurrentIdenticalRequestsShareOneUpstreamCall() throws Exception {
+        final HandlerFunction<ServerResponse> handler =
+                responseCache.proxy("inventory-events", upstreamBaseUrl, Duration.ofSeconds(5));
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<ServerResponse>> responses = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                responses.add(executor.submit(() -> {
+                    start.await();
+                    return handler.handle(get("/api/v1/inventory/events"));
+                }));
+            }
+            start.countDown();
+            for (Future<ServerResponse> response : responses) {
+                assertThat(response.get().statusCode()).isEqualTo(HttpStatus.OK);
+            }
+        }
+        handler.handle(get("/api/v1/inventory/events"));
+
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(count("miss")).isEqualTo(1);
+        assertThat(count("coalesced") + count("hit")).isEqualTo(CONCURRENT_REQUESTS);
+        assertThat(count("hit")).isPositive();
+    }
+
+    @Test
+    void matchingIfNoneMatchIsAnsweredFromTheCache() throws Exception {
+        final HandlerFunction<ServerResponse> handler =
+                responseCache.proxy("inventory-events", upstreamBaseUrl, Duration.ofSeconds(5));
+        handler.handle(get("/api/v1/inventory/events"));
+
+        final MockHttpServletRequest conditional = servletRequest("/api/v1/inventory/events");
+        conditional.addHeader("If-None-Match", "\"7\"");
+        final ServerResponse response = handler.handle(ServerRequest.create(conditional,
+                List.of(new ByteArrayHttpMessageConverter())));
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.headers().getFirst(GatewayResponseCache.CACHE_STATUS_HEADER)).isEqualTo("HIT");
+        assertThat(upstreamCalls).hasValue(1);
+    }
+
+    @Test
+    void ifNoneMatchListsWildcardsAndWeakTagsAreMatched() throws Exception {
+        final HandlerFunction<ServerResponse> handler =
+                responseCache.proxy("inventory-events", upstreamBaseUrl, Duration.ofSeconds(5));
+        handler.handle(get("/api/v1/inventory/events"));
+
+        assertThat(conditionalGet(handler, "\"1\", W/\"7\"").statusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(conditionalGet(handler, "*").statusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(conditionalGet(handler, "\"77\"").statusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(upstreamCalls).hasValue(1);
+    }
+
+    @Test
+    void forwardsAndKeysOnTheHeadersThatChangeTheResponse() throws Exception {
+        final HandlerFunction<ServerResponse> handler =
+                responseCache.proxy("inventory-events", upstreamBaseUrl, Duration.ofSeconds(5));
+
+        assertThat(body(handler.handle(withLanguage("en")))).isEqualTo("en");
+        assertThat(body(handler.handle(withLanguage("de")))).isEqualTo("de");
+        assertThat(body(handler.handle(withLanguage("en")))).isEqualTo("en");
+        assertThat(upstreamCalls).hasValue(2);
+    }
+
+    @Test
+    void upstreamCacheControlCanOptOut() throws Exception {
+        final HandlerFunction<ServerResponse> handler =
+                responseCache.proxy("inventory-event", upstreamBaseUrl, Duration.ofSeconds(5));
+
+        handler.handle(get("/api/v1/inventory/event/1"));
+        handler.handle(get("/api/v1/inventory/event/1"));
+        handler.handle(get("/api/v1/inventory/event/2"));
+        handler.handle(get("/api/v1/inventory/event/2"));
+
+        assertThat(upstreamCalls).hasValue(4);
+        assertThat(count("hit")).isZero();
+    }
+
+    private double count(final String result) {
+        return meterRegistry.get("gateway.cache.requests").tag("result", result).counter().count();
+    }
+
+    private static ServerResponse conditionalGet(final HandlerFunction<ServerResponse> handler,
+                                                 final String ifNoneMatch) throws Exception {
+        final MockHttpServletRequest conditional = servletRequest("/api/v1/inventory/events");
+        conditional.addHeader("If-None-Match", ifNoneMatch);
+        return handler.handle(ServerRequest.create(conditional, List.of(new ByteArrayHttpMessageConverter())));
+    }
+
+    private static ServerRequest withLanguage(final String language) {
+        final MockHttpServletRequest servletRequest = servletRequest("/api/v1/inventory/events/snapshot");
+        servletRequest.addHeader("Accept-Language", language);
+        return ServerRequest.create(servletRequest, List.of(new ByteArrayHttpMessageConverter()));
+    }
+
+    private static String body(final ServerResponse response) throws Exception {
+        final MockHttpServletRequest servletRequest = new MockHttpServletRequest();
+        final MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+        response.writeTo(servletRequest, servletResponse, () -> List.of(new ByteArrayHttpMessageConverter()));
+        return servletResponse.getContentAsString();
+    }
+
+    private static ServerRequest get(final String path) {
+        return ServerRequest.create(servletRequest(path), List.of(new ByteArrayHttpMessageConverter()));
+    }
+
+    private static MockHttpServletRequest servletRequest(final String path) {
+        return new MockHttpServletRequest("GET", path);
+    }
+
+    private void respond(final HttpExchange exchange, final String etag, final String cacheControl)
+            throws IOException {
+        upstreamCalls.incrementAndGet();
+        final byte[] body = "[]".getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        if (etag != null) {
+            exchange.getResponseHeaders().set("ETag", etag);
+        }
+        if (cacheControl != null) {
+            exchange.getResponseHeaders().set("Cache-Control", cacheControl);
+        }
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,142 @@
+package com.sathwikhbhat.apigatewayservice.config;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.jwk.source.JWKSourceBuilder;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtValidationException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Validates tokens against a local JWKS endpoint standing in for Keycloak.
+ */
+class CachingJwtDecoderTest {
+
+    private final AtomicInteger jwksFetches = new AtomicInteger();
+    private HttpServer keycloak;
+    private RSAKey signingKey;
+    private JWKSource<SecurityContext> jwkSource;
+    private SimpleMeterRegistry meterRegistry;
+    private CachingJwtDecoder decoder;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        signingKey = new RSAKeyGenerator(2048).keyID("test-key").generate();
+        final byte[] jwks = new JWKSet(signingKey.toPublicJWK()).toString().getBytes(StandardCharsets.UTF_8);
+        keycloak = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        keycloak.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        keycloak.createContext("/certs", exchange -> {
+            jwksFetches.incrementAndGet();
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, jwks.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(jwks);
+            }
+        });
+        keycloak.start();
+
+        jwkSource = JWKSourceBuilder.<SecurityContext>create(
+                        URI.create("http://localhost:" + keycloak.getAddress().getPort() + "/certs").toURL())
+                .cache(Duration.ofMinutes(15).toMillis(), Duration.ofSeconds(5).toMillis())
+                .refreshAheadCache(Duration.ofMinutes(1).toMillis(), true)
+                .build();
+        meterRegistry = new SimpleMeterRegistry();
+        decoder = new CachingJwtDecoder(SecurityConfig.jwkSetDecoder(jwkSource), meterRegistry, 100,
+                Duration.ofMinutes(5));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (jwkSource instanceof Closeable closeable) {
+            closeable.close();
+        }
+        keycloak.stop(0);
+    }
+
+    @Test
+    void repeatedTokensSkipSignatureVerification() throws Exception {
+        final String token = sign(signingKey, Instant.now().plusSeconds(300));
+
+        for (int i = 0; i < 10; i++) {
+            final Jwt jwt = decoder.decode(token);
+            assertThat(jwt.getSubject()).isEqualTo("alice");
+        }
+
+        assertThat(meterRegistry.get("gateway.jwt.validation").tag("outcome", "valid").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "jwt").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(9);
+        assertThat(jwksFetches).hasValue(1);
+    }
+
+    @Test
+    void rejectedTokensAreNotCached() throws Exception {
+        final RSAKey otherKey = new RSAKeyGenerator(2048).keyID("test-key").generate();
+        final String forged = sign(otherKey, Instant.now().plusSeconds(300));
+        final String expired = sign(signingKey, Instant.now().minusSeconds(300));
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> decoder.decode(forged)).isInstanceOf(BadJwtException.class);
+            assertThatThrownBy(() -> decoder.decode(expired)).isInstanceOf(JwtValidationException.class);
+        }
+
+        assertThat(meterRegistry.get("gateway.jwt.validation").tag("outcome", "invalid").timer().count())
+                .isEqualTo(4);
+    }
+
+    @Test
+    void prefetchLoadsTheKeysBeforeTheFirstRequest() throws Exception {
+        SecurityConfig.prefetch(jwkSource);
+        final long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (jwksFetches.get() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(jwksFetches).hasValue(1);
+
+        decoder.decode(sign(signingKey, Instant.now().plusSeconds(300)));
+
+        assertThat(jwksFetches).hasValue(1);
+    }
+
+    private static String sign(final RSAKey key, final Instant expiresAt) throws JOSEException {
+        final SignedJWT jwt = new SignedJWT(
+                new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(key.getKeyID()).build(),
+                new JWTClaimsSet.Builder()
+                        .subject("alice")
+                        .issueTime(Date.from(expiresAt.minusSeconds(600)))
+                        .expirationTime(Date.from(expiresAt))
+                        .build());
+        jwt.sign(new RSASSASigner(key));
+        return jwt.serialize();
+    }
+
+}
\ No newline at end of file
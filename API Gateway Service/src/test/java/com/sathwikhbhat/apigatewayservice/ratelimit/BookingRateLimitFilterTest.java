@@ -0,0 +1,130 @@
+package com.sathwikhbhat.apigatewayservice.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.servlet.function.HandlerFunction;
+import org.springframework.web.servlet.function.ServerRequest;
+import org.springframework.web.servlet.function.ServerResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BookingRateLimitFilterTest {
+
+    private final List<String> forwardedBodies = new ArrayList<>();
+    private final HandlerFunction<ServerResponse> bookingService = request -> {
+        forwardedBodies.add(new String(request.servletRequest().getInputStream().readAllBytes(),
+                StandardCharsets.UTF_8));
+        return ServerResponse.ok().build();
+    };
+
+    private SimpleMeterRegistry meterRegistry;
+    private BookingRateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new BookingRateLimitFilter(new ObjectMapper(), meterRegistry, 1024, 3,
+                new TokenBucketRateLimiter(1, 2, Duration.ofMinutes(1), 1_000, System::nanoTime),
+                new TokenBucketRateLimiter(1, 3, Duration.ofMinutes(1), 1_000, System::nanoTime));
+    }
+
+    @Test
+    void rejectsAUserOverTheirBurstWithRetryAfter() throws Exception {
+        assertThat(book("alice", 1).statusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(book("alice", 2).statusCode()).isEqualTo(HttpStatus.OK);
+
+        final ServerResponse rejected = book("alice", 3);
+
+        assertThat(rejected.statusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(rejected.headers().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(book("bob", 3).statusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(meterRegistry.get("gateway.ratelimit.rejected").tag("limit", "user").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void rejectsAHotEventAcrossUsersAndForwardsTheOriginalBody() throws Exception {
+        for (String user : List.of("a", "b", "c")) {
+            assertThat(book(user, 7).statusCode()).isEqualTo(HttpStatus.OK);
+        }
+
+        assertThat(book("d", 7).statusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(book("d", 8).statusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(forwardedBodies).hasSize(4).allSatisfy(body -> assertThat(body).contains("\"eventId\""));
+        assertThat(meterRegistry.get("gateway.ratelimit.rejected").tag("limit", "event").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void batchTakesOneUserPermitAndOneEventPermitPerLineItem() throws Exception {
+        assertThat(bookBatch("alice", 1, 2, 3).statusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(book("alice", 4).statusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(book("alice", 5).statusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+
+        assertThat(bookBatch("bob", 6, 6).statusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(bookBatch("carol", 6, 6).statusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(bookBatch("dave", 7, 8, 9, 10).statusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void givesPermitsBackWhenALaterEventBucketRejects() throws Exception {
+        assertThat(bookBatch("alice", 4, 4, 4).statusCode()).isEqualTo(HttpStatus.OK);
+
+        assertThat(bookBatch("bob", 5, 4).statusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+
+        assertThat(bookBatch("carol", 5, 5, 5).statusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(book("bob", 6).statusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(book("bob", 7).statusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(forwardedBodies).hasSize(4);
+    }
+
+    @Test
+    void rejectsABodyOverTheLimitWithoutForwardingIt() throws Exception {
+        final MockHttpServletRequest servletRequest = new MockHttpServletRequest("POST", "/api/v1/booking");
+        servletRequest.setUserPrincipal(() -> "alice");
+        servletRequest.setContentType("application/json");
+        servletRequest.setContent(("{\"eventId\":1,\"note\":\"" + "x".repeat(2048) + "\"}")
+                .getBytes(StandardCharsets.UTF_8));
+
+        final ServerResponse response = filter.filter(
+                ServerRequest.create(servletRequest, List.of(new StringHttpMessageConverter())), bookingService);
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE);
+        assertThat(forwardedBodies).isEmpty();
+    }
+
+    private ServerResponse bookBatch(final String subject, final long... eventIds) throws Exception {
+        final MockHttpServletRequest servletRequest = new MockHttpServletRequest("POST", "/api/v1/booking/batch");
+        servletRequest.setUserPrincipal(() -> subject);
+        servletRequest.setContentType("application/json");
+        servletRequest.setContent(("{\"userId\":1,\"items\":[" + Arrays.stream(eventIds)
+                .mapToObj(eventId -> "{\"eventId\":" + eventId + ",\"ticketCount\":1}")
+                .collect(Collectors.joining(",")) + "]}").getBytes(StandardCharsets.UTF_8));
+        return filter.filter(ServerRequest.create(servletRequest, List.of(new StringHttpMessageConverter())),
+                bookingService);
+    }
+
+    private ServerResponse book(final String subject, final long eventId) throws Exception {
+        final MockHttpServletRequest servletRequest = new MockHttpServletRequest("POST", "/api/v1/booking");
+        servletRequest.setUserPrincipal(() -> subject);
+        servletRequest.setContentType("application/json");
+        servletRequest.setContent(("{\"userId\":1,\"eventId\":" + eventId + ",\"ticketCount\":2}")
+                .getBytes(StandardCharsets.UTF_8));
+        return filter.filter(ServerRequest.create(servletRequest, List.of(new StringHttpMessageConverter())),
+                bookingService);
+    }
+
+}
\ No newline at end of file
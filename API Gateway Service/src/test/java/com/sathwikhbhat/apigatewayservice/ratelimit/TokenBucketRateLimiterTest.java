@@ -0,0 +1,100 @@
+package com.sathwikhbhat.apigatewayservice.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenBucketRateLimiterTest {
+
+    private final AtomicLong nanos = new AtomicLong(1_000_000_000L);
+
+    @Test
+    void allowsTheBurstThenRefillsAtTheConfiguredRate() {
+        final TokenBucketRateLimiter limiter = limiter(10, 3);
+
+        assertThat(limiter.tryAcquire("user")).isZero();
+        assertThat(limiter.tryAcquire("user")).isZero();
+        assertThat(limiter.tryAcquire("user")).isZero();
+        assertThat(limiter.tryAcquire("user")).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+        assertThat(limiter.tryAcquire("other")).isZero();
+
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+        assertThat(limiter.tryAcquire("user")).isZero();
+        assertThat(limiter.tryAcquire("user")).isPositive();
+
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire("user")).isZero();
+        }
+        assertThat(limiter.tryAcquire("user")).isPositive();
+    }
+
+    @Test
+    void takesSeveralPermitsAtOnceOrNone() {
+        final TokenBucketRateLimiter limiter = limiter(10, 3);
+
+        assertThat(limiter.tryAcquire("user", 2)).isZero();
+        assertThat(limiter.tryAcquire("user", 2)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+        assertThat(limiter.tryAcquire("user")).isZero();
+        assertThatThrownBy(() -> limiter.tryAcquire("user", 4)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void releasedPermitsCanBeTakenAgainButNeverBeyondTheBurst() {
+        final TokenBucketRateLimiter limiter = limiter(10, 3);
+
+        assertThat(limiter.tryAcquire("user", 3)).isZero();
+        limiter.release("user", 2);
+        assertThat(limiter.tryAcquire("user", 2)).isZero();
+        assertThat(limiter.tryAcquire("user")).isPositive();
+
+        limiter.release("user", 10);
+        limiter.release("unknown", 1);
+        assertThat(limiter.tryAcquire("user", 3)).isZero();
+        assertThat(limiter.tryAcquire("user")).isPositive();
+        assertThat(limiter.trackedKeys()).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentCallersNeverExceedTheBurst() throws Exception {
+        final TokenBucketRateLimiter limiter = limiter(1, 100);
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<Long>> granted = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(16)) {
+            for (int thread = 0; thread < 16; thread++) {
+                granted.add(executor.submit(() -> {
+                    start.await();
+                    long count = 0;
+                    for (int i = 0; i < 1_000; i++) {
+                        if (limiter.tryAcquire("event-1") == 0) {
+                            count++;
+                        }
+                    }
+                    return count;
+                }));
+            }
+            start.countDown();
+            long total = 0;
+            for (Future<Long> count : granted) {
+                total += count.get();
+            }
+            assertThat(total).isEqualTo(100);
+        }
+    }
+
+    private TokenBucketRateLimiter limiter(final double permitsPerSecond, final int burst) {
+        return new TokenBucketRateLimiter(permitsPerSecond, burst, Duration.ofMinutes(1), 1_000, nanos::get);
+    }
+
+}
\ No newline at end of file
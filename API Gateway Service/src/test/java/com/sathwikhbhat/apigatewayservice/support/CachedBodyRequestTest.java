@@ -0,0 +1,83 @@
+package com.sathwikhbhat.apigatewayservice.support;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.servlet.function.ServerRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CachedBodyRequestTest {
+
+    private static final int MAX_BODY_BYTES = 16;
+
+    @Test
+    void replaysTheBodyToBlockingAndNonBlockingReaders() throws Exception {
+        final ServerRequest buffered = CachedBodyRequest.of(request("{\"eventId\":1}", true), MAX_BODY_BYTES);
+
+        assertThat(new String(buffered.servletRequest().getInputStream().readAllBytes(), StandardCharsets.UTF_8))
+                .isEqualTo("{\"eventId\":1}");
+
+        final ServletInputStream in = buffered.servletRequest().getInputStream();
+        final ByteArrayOutputStream read = new ByteArrayOutputStream();
+        final List<String> callbacks = new ArrayList<>();
+        in.setReadListener(new ReadListener() {
+
+            @Override
+            public void onDataAvailable() throws IOException {
+                callbacks.add("data");
+                final byte[] chunk = new byte[4];
+                while (in.isReady() && !in.isFinished()) {
+                    read.write(chunk, 0, in.read(chunk));
+                }
+            }
+
+            @Override
+            public void onAllDataRead() {
+                callbacks.add("done");
+            }
+
+            @Override
+            public void onError(final Throwable t) {
+                callbacks.add("error");
+            }
+
+        });
+
+        assertThat(callbacks).containsExactly("data", "done");
+        assertThat(read.toString(StandardCharsets.UTF_8)).isEqualTo("{\"eventId\":1}");
+    }
+
+    @Test
+    void rejectsBodiesOverTheLimitWithOrWithoutContentLength() {
+        final String body = "{\"eventId\":12345678}";
+
+        assertThatThrownBy(() -> CachedBodyRequest.of(request(body, true), MAX_BODY_BYTES))
+                .isInstanceOf(BodyTooLargeException.class);
+        assertThatThrownBy(() -> CachedBodyRequest.of(request(body, false), MAX_BODY_BYTES))
+                .isInstanceOf(BodyTooLargeException.class);
+    }
+
+    private static ServerRequest request(final String body, final boolean contentLength) {
+        final MockHttpServletRequest servletRequest = new MockHttpServletRequest("POST", "/api/v1/booking") {
+
+            @Override
+            public long getContentLengthLong() {
+                return contentLength ? super.getContentLengthLong() : -1;
+            }
+
+        };
+        servletRequest.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return ServerRequest.create(servletRequest, List.of(new StringHttpMessageConverter()));
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,84 @@
+package com.sathwikhbhat.apigatewayservice.waitingroom;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.servlet.function.HandlerFunction;
+import org.springframework.web.servlet.function.ServerRequest;
+import org.springframework.web.servlet.function.ServerResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WaitingRoomFilterTest {
+
+    private final WaitingRoomTest.MutableClock clock = new WaitingRoomTest.MutableClock();
+    private final WaitingRoom waitingRoom = new WaitingRoom(new SimpleMeterRegistry(),
+            "test-waiting-room-secret-of-32-bytes", 100, Duration.ofHours(2), 1_000, 1_000, clock);
+    private final WaitingRoomFilter filter = new WaitingRoomFilter(waitingRoom, new ObjectMapper(),
+            new SimpleMeterRegistry(), true, DataSize.ofKilobytes(16));
+    private final HandlerFunction<ServerResponse> bookingService = request -> ServerResponse.ok().build();
+
+    @Test
+    void admittedTokenLetsOneBookingThrough() throws Exception {
+        final String token = waitingRoom.join(1L, "alice").orElseThrow().token();
+        clock.advance(Duration.ofMillis(10));
+
+        assertThat(filter.filter(booking("alice", token), bookingService).statusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(filter.filter(booking("alice", token), bookingService).statusCode())
+                .isEqualTo(HttpStatus.FORBIDDEN);
+    }
+
+    @Test
+    void tokenSurvivesABookingTurnedAwayWith429() throws Exception {
+        final String token = waitingRoom.join(1L, "alice").orElseThrow().token();
+        clock.advance(Duration.ofMillis(10));
+
+        assertThat(filter.filter(booking("alice", token),
+                request -> ServerResponse.status(HttpStatus.TOO_MANY_REQUESTS).build()).statusCode())
+                .isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(filter.filter(booking("alice", token), bookingService).statusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    void batchNeedsAnAdmittedTokenForEveryEvent() throws Exception {
+        final String first = waitingRoom.join(1L, "alice").orElseThrow().token();
+        final String second = waitingRoom.join(2L, "alice").orElseThrow().token();
+        clock.advance(Duration.ofMillis(10));
+
+        assertThat(filter.filter(batch("alice", first), bookingService).statusCode())
+                .isEqualTo(HttpStatus.FORBIDDEN);
+        assertThat(waitingRoom.status(first, "alice")).isPresent();
+        assertThat(filter.filter(batch("alice", first + "," + second), bookingService).statusCode())
+                .isEqualTo(HttpStatus.OK);
+        assertThat(waitingRoom.status(first, "alice")).isEmpty();
+        assertThat(waitingRoom.status(second, "alice")).isEmpty();
+    }
+
+    private static ServerRequest booking(final String subject, final String token) {
+        return request(subject, token, "/api/v1/booking", "{\"userId\":1,\"eventId\":1,\"ticketCount\":2}");
+    }
+
+    private static ServerRequest batch(final String subject, final String tokens) {
+        return request(subject, tokens, "/api/v1/booking/batch",
+                "{\"userId\":1,\"items\":[{\"eventId\":1,\"ticketCount\":2},{\"eventId\":2,\"ticketCount\":1}]}");
+    }
+
+    private static ServerRequest request(final String subject, final String tokens, final String path,
+                                         final String body) {
+        final MockHttpServletRequest servletRequest = new MockHttpServletRequest("POST", path);
+        servletRequest.setUserPrincipal(() -> subject);
+        servletRequest.setContentType("application/json");
+        servletRequest.addHeader(WaitingRoom.TOKEN_HEADER, tokens);
+        servletRequest.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return ServerRequest.create(servletRequest, List.of(new StringHttpMessageConverter()));
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,220 @@
+package com.sathwikhbhat.apigatewayservice.waitingroom;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WaitingRoomTest {
+
+    private static final Logger log = LoggerFactory.getLogger(WaitingRoomTest.class);
+
+    private static final double ADMISSIONS_PER_SECOND = 100;
+
+    private static final String SECRET = "test-waiting-room-secret-of-32-bytes";
+
+    private final MutableClock clock = new MutableClock();
+    private final WaitingRoom waitingRoom = new WaitingRoom(new SimpleMeterRegistry(), SECRET,
+            ADMISSIONS_PER_SECOND, Duration.ofHours(2), 1_000, 1_000_000, clock);
+
+    @Test
+    void admitsInJoinOrderAtTheConfiguredRate() {
+        final QueueTicket first = waitingRoom.join(1L, "alice").orElseThrow();
+        final QueueTicket second = waitingRoom.join(1L, "bob").orElseThrow();
+        assertThat(first.position()).isEqualTo(1);
+        assertThat(second.position()).isEqualTo(2);
+
+        clock.advance(Duration.ofMillis(10));
+        assertThat(waitingRoom.status(first.token(), "alice").orElseThrow().admitted()).isTrue();
+        assertThat(waitingRoom.status(second.token(), "bob").orElseThrow().position()).isEqualTo(1);
+
+        clock.advance(Duration.ofMillis(10));
+        assertThat(waitingRoom.status(second.token(), "bob").orElseThrow().admitted()).isTrue();
+    }
+
+    @Test
+    void idleTimeDoesNotBankAdmissions() {
+        waitingRoom.join(1L, "early").orElseThrow();
+        clock.advance(Duration.ofHours(1));
+
+        final QueueTicket late = waitingRoom.join(1L, "late").orElseThrow();
+
+        assertThat(late.admitted()).isFalse();
+        assertThat(late.position()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsForgedExpiredAndBorrowedTokens() {
+        final String token = waitingRoom.join(1L, "alice").orElseThrow().token();
+        final String forged = token.substring(0, token.indexOf('.')) + ".AAAA";
+
+        assertThat(waitingRoom.status(token, "alice")).isPresent();
+        assertThat(waitingRoom.status(token, "mallory")).isEmpty();
+        assertThat(waitingRoom.status(forged, "alice")).isEmpty();
+        assertThat(waitingRoom.status("garbage", "alice")).isEmpty();
+
+        clock.advance(Duration.ofHours(3));
+        assertThat(waitingRoom.status(token, "alice")).isEmpty();
+    }
+
+    @Test
+    void joiningAgainKeepsTheSamePlace() {
+        final QueueTicket first = waitingRoom.join(1L, "alice").orElseThrow();
+        waitingRoom.join(1L, "bob").orElseThrow();
+
+        final QueueTicket again = waitingRoom.join(1L, "alice").orElseThrow();
+
+        assertThat(again.token()).isEqualTo(first.token());
+        assertThat(again.position()).isEqualTo(1);
+        assertThat(waitingRoom.join(2L, "alice").orElseThrow().token()).isNotEqualTo(first.token());
+    }
+
+    @Test
+    void admittedTokenIsUsedUpByOneBooking() {
+        final QueueTicket joined = waitingRoom.join(1L, "alice").orElseThrow();
+        clock.advance(Duration.ofMillis(10));
+        final QueueTicket admitted = waitingRoom.status(joined.token(), "alice").orElseThrow();
+
+        assertThat(waitingRoom.consume(admitted, "alice")).isTrue();
+        assertThat(waitingRoom.consume(admitted, "alice")).isFalse();
+        assertThat(waitingRoom.status(joined.token(), "alice")).isEmpty();
+
+        waitingRoom.restore(admitted, "alice");
+        assertThat(waitingRoom.status(joined.token(), "alice").orElseThrow().admitted()).isTrue();
+    }
+
+    @Test
+    void tokenWhoseQueueIsGoneIsNotAdmitted() {
+        final String token = waitingRoom.join(1L, "alice").orElseThrow().token();
+        clock.advance(Duration.ofMillis(10));
+        final WaitingRoom restarted = new WaitingRoom(new SimpleMeterRegistry(), SECRET,
+                ADMISSIONS_PER_SECOND, Duration.ofHours(2), 1_000, 1_000_000, clock);
+        restarted.join(1L, "bob").orElseThrow();
+
+        assertThat(restarted.status(token, "alice")).isEmpty();
+        final QueueTicket rejoined = restarted.join(1L, "alice").orElseThrow();
+        assertThat(rejoined.token()).isNotEqualTo(token);
+        assertThat(rejoined.admitted()).isFalse();
+        assertThat(rejoined.position()).isEqualTo(2);
+    }
+
+    @Test
+    void waitingTokenSurvivesABurstOfJoins() {
+        final WaitingRoom small = new WaitingRoom(new SimpleMeterRegistry(), SECRET,
+                ADMISSIONS_PER_SECOND, Duration.ofHours(2), 1_000, 3, clock);
+        final QueueTicket alice = small.join(1L, "alice").orElseThrow();
+
+        int refused = 0;
+        for (int i = 0; i < 100; i++) {
+            refused += small.join(1L, "user-" + i).isEmpty() ? 1 : 0;
+        }
+
+        assertThat(refused).isEqualTo(98);
+        assertThat(small.status(alice.token(), "alice").orElseThrow().position()).isEqualTo(1);
+        assertThat(small.join(1L, "alice").orElseThrow().token()).isEqualTo(alice.token());
+
+        clock.advance(Duration.ofHours(3));
+        assertThat(small.join(1L, "late")).isPresent();
+    }
+
+    @Test
+    void newQueuesAreRefusedWhileTheOldOnesAreHeld() {
+        final WaitingRoom small = new WaitingRoom(new SimpleMeterRegistry(), SECRET,
+                ADMISSIONS_PER_SECOND, Duration.ofHours(2), 1, 1_000, clock);
+        final QueueTicket alice = small.join(1L, "alice").orElseThrow();
+
+        assertThat(small.join(2L, "bob")).isEmpty();
+        assertThat(small.status(alice.token(), "alice")).isPresent();
+
+        clock.advance(Duration.ofHours(3));
+        assertThat(small.join(2L, "bob")).isPresent();
+    }
+
+    @Test
+    void refusesAShortSecret() {
+        assertThatThrownBy(() -> new WaitingRoom(new SimpleMeterRegistry(), "short",
+                ADMISSIONS_PER_SECOND, Duration.ofHours(2), 1_000, 1_000, clock))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Steady arrivals of 50/s, then 200k people arrive within one second. Each waiting person polls and books
+     * once admitted; bookings per simulated second must stay at the admission rate throughout the spike.
+     */
+    @Test
+    void backendRateStaysFlatWhileArrivalsSpike() {
+        final int seconds = 30;
+        final int stepsPerSecond = 10;
+        final Deque<Waiting> waiting = new ArrayDeque<>();
+        long maxArrivalsPerSecond = 0;
+        long maxBookingsPerSecond = 0;
+        long user = 0;
+
+        for (int second = 0; second < seconds; second++) {
+            final int arrivals = second == 5 ? 200_000 : 50;
+            long bookings = 0;
+            for (int step = 0; step < stepsPerSecond; step++) {
+                for (int i = 0; i < arrivals / stepsPerSecond; i++) {
+                    final String subject = "user-" + user++;
+                    waiting.add(new Waiting(subject, waitingRoom.join(7L, subject).orElseThrow().token()));
+                }
+                clock.advance(Duration.ofMillis(1000 / stepsPerSecond));
+                while (!waiting.isEmpty()) {
+                    final Waiting head = waiting.peek();
+                    if (!waitingRoom.status(head.token(), head.subject()).orElseThrow().admitted()) {
+                        break;
+                    }
+                    waiting.poll();
+                    bookings++;
+                }
+            }
+            maxArrivalsPerSecond = Math.max(maxArrivalsPerSecond, arrivals);
+            maxBookingsPerSecond = Math.max(maxBookingsPerSecond, bookings);
+            log.info("t={}s arrivals={} bookings={} still waiting={}", second, arrivals, bookings, waiting.size());
+        }
+
+        assertThat(maxArrivalsPerSecond).isEqualTo(200_000);
+        assertThat(maxBookingsPerSecond).isLessThanOrEqualTo((long) ADMISSIONS_PER_SECOND);
+        assertThat(waiting).isNotEmpty();
+    }
+
+    private record Waiting(String subject, String token) {
+    }
+
+    static final class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(final Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+    }
+
+}
\ No newline at end of file
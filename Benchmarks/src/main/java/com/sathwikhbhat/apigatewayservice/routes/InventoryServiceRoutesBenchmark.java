@@ -0,0 +1,48 @@
+package com.sathwikhbhat.apigatewayservice.routes;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.servlet.function.RouterFunctions;
+import org.springframework.web.servlet.function.ServerRequest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The target URL the gateway builds for the venue and event routes, from a request whose path variables were
+ * already matched by the router.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InventoryServiceRoutesBenchmark {
+
+    private ServerRequest request;
+
+    @Setup
+    public void setUp() {
+        final MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/api/v1/inventory/event/42");
+        servletRequest.setAttribute(RouterFunctions.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("eventId", "42"));
+        request = ServerRequest.create(servletRequest, List.of(new StringHttpMessageConverter()));
+    }
+
+    @Benchmark
+    public String targetUrl() {
+        return InventoryServiceRoutes.targetUrl(request, "http://localhost:8080/api/v1/inventory/event/", "eventId");
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,52 @@
+package com.sathwikhbhat.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Entry point of the benchmarks jar. Takes the usual JMH command line, but writes results as JSON to
+ * {@code jmh-result.json} unless {@code -rf} or {@code -rff} say otherwise, and runs the forks with
+ * service logging turned down to warnings.
+ */
+public final class BenchmarkRunner {
+
+    static final String RESULT_FILE = "jmh-result.json";
+    static final String LOGGING = "-Dlogback.configurationFile=logback-benchmarks.xml";
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final CommandLineOptions commandLine = new CommandLineOptions(args);
+        if (commandLine.shouldHelp()) {
+            commandLine.showHelp();
+            return;
+        }
+
+        final List<String> jvmArgs = new ArrayList<>(commandLine.getJvmArgsAppend().orElse(List.of()));
+        jvmArgs.add(LOGGING);
+        final ChainedOptionsBuilder options = new OptionsBuilder()
+                .parent(commandLine)
+                .jvmArgsAppend(jvmArgs.toArray(String[]::new));
+        if (!commandLine.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        if (!commandLine.getResult().hasValue()) {
+            options.result(RESULT_FILE);
+        }
+
+        final Runner runner = new Runner(options.build());
+        if (commandLine.shouldList()) {
+            runner.list();
+            return;
+        }
+        runner.run();
+    }
+
+}
\ No newline at end of file
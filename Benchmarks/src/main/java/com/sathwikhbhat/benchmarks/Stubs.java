@@ -0,0 +1,82 @@
+package com.sathwikhbhat.benchmarks;
+
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+/**
+ * Hand-rolled stand-ins for repositories and other interfaces. Mockito records every invocation, which grows
+ * the heap over a benchmark run and shows up in the measurements, so benchmarks answer calls with plain
+ * lambdas instead. Default methods run their real implementation; any other method without an answer throws.
+ */
+public final class Stubs {
+
+    private Stubs() {
+    }
+
+    @FunctionalInterface
+    public interface Answer {
+
+        /**
+         * @return the result of the call, or {@link #UNSTUBBED} if this stub does not handle the method
+         */
+        Object answer(String method, Object[] args) throws Throwable;
+
+    }
+
+    public static final Object UNSTUBBED = new Object();
+
+    public static <T> T of(final Class<T> type, final Answer answer) {
+        final InvocationHandler handler = (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return objectMethod(type, proxy, method, args);
+            }
+            final Object result = answer.answer(method.getName(), args == null ? new Object[0] : args);
+            if (result != UNSTUBBED) {
+                return result;
+            }
+            if (method.isDefault()) {
+                return InvocationHandler.invokeDefault(proxy, method, args);
+            }
+            throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName() + " is not stubbed");
+        };
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    /**
+     * @return a template whose transactions begin, commit and roll back without doing anything
+     */
+    public static TransactionTemplate transactionTemplate() {
+        return new TransactionTemplate(new PlatformTransactionManager() {
+
+            @Override
+            public TransactionStatus getTransaction(final TransactionDefinition definition) {
+                return new SimpleTransactionStatus();
+            }
+
+            @Override
+            public void commit(final TransactionStatus status) {
+            }
+
+            @Override
+            public void rollback(final TransactionStatus status) {
+            }
+
+        });
+    }
+
+    private static Object objectMethod(final Class<?> type, final Object proxy, final Method method, final Object[] args) {
+        return switch (method.getName()) {
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            default -> "Stub " + type.getSimpleName();
+        };
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,106 @@
+package com.sathwikhbhat.bookingservice.event;
+
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link BookingEvent} through the Kafka serializer and deserializer pairs: {@code json} is the Spring JSON
+ * serde with its type headers, as the topic carried before, {@code binary} is {@link BookingEventCodec}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookingEventSerdeBenchmark {
+
+    private static final String TOPIC = "booking";
+
+    private final BookingEvent bookingEvent = BookingEvent.builder()
+            .bookingId("0f8fad5b-d9cb-469f-a165-70867728950e")
+            .userId(1L)
+            .eventId(42L)
+            .ticketCount(2L)
+            .totalPrice(new BigDecimal("199.98"))
+            .holdId("7c9e6679-7425-40de-944b-e07fc1f90ae7")
+            .build();
+
+    @Param({"json", "binary"})
+    private String codec;
+
+    private Serializer<BookingEvent> serializer;
+    private Deserializer<BookingEvent> deserializer;
+    private Header[] typeHeaders;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() {
+        if ("json".equals(codec)) {
+            serializer = new JsonSerializer<>();
+            serializer.configure(Map.of(), false);
+            deserializer = new JsonDeserializer<>();
+            deserializer.configure(Map.of(
+                    JsonDeserializer.TYPE_MAPPINGS, "bookingEvent:" + BookingEvent.class.getName(),
+                    JsonDeserializer.TRUSTED_PACKAGES, BookingEvent.class.getPackageName()), false);
+        } else {
+            serializer = new BookingEventSerializer();
+            deserializer = new BookingEventDeserializer();
+        }
+
+        final Headers headers = new RecordHeaders();
+        payload = serializer.serialize(TOPIC, headers, bookingEvent);
+        typeHeaders = headers.toArray();
+        if (!bookingEvent.equals(deserialize())) {
+            throw new IllegalStateException("BookingEvent did not survive a serializer round trip");
+        }
+
+        int headerBytes = 0;
+        for (Header header : typeHeaders) {
+            headerBytes += header.key().length() + header.value().length;
+        }
+        System.out.printf("%n%s: %d byte value, %d bytes of type headers%n", codec, payload.length, headerBytes);
+    }
+
+    @TearDown
+    public void tearDown() {
+        serializer.close();
+        deserializer.close();
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(TOPIC, new RecordHeaders(), bookingEvent);
+    }
+
+    /**
+     * Each record gets its own headers, as a consumed record would; the JSON deserializer strips the type
+     * headers it has read.
+     */
+    @Benchmark
+    public BookingEvent deserialize() {
+        return deserializer.deserialize(TOPIC, new RecordHeaders(typeHeaders), payload);
+    }
+
+}
\ No newline at end of file
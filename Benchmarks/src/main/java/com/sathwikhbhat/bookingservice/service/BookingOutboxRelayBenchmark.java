@@ -0,0 +1,101 @@
+package com.sathwikhbhat.bookingservice.service;
+
+import com.sathwikhbhat.benchmarks.Stubs;
+import com.sathwikhbhat.bookingservice.entity.BookingOutbox;
+import com.sathwikhbhat.bookingservice.event.BookingEvent;
+import com.sathwikhbhat.bookingservice.repository.BookingOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.support.SendResult;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One {@link BookingOutboxRelay#relay()} run over a full batch, with the outbox and the KafkaTemplate answered
+ * in memory and every send acknowledged at once. Covers turning outbox rows into booking events, collecting the
+ * acknowledgements and recording the relay metrics. Since the outbox, {@code createBooking} no longer touches
+ * Kafka, so this is where the producer side of the booking path is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookingOutboxRelayBenchmark {
+
+    @Param({"500"})
+    private int batchSize;
+
+    private BookingOutboxRelay relay;
+    private List<BookingOutbox> batch;
+    private boolean batchPending;
+
+    @Setup
+    public void setUp() {
+        batch = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            batch.add(BookingOutbox.builder()
+                    .id((long) i)
+                    .bookingId("booking-" + i)
+                    .userId(1L)
+                    .eventId((long) i % 16)
+                    .ticketCount(2L)
+                    .totalPrice(BigDecimal.TEN)
+                    .holdId("hold-" + i)
+                    .createdAt(Instant.now())
+                    .build());
+        }
+        // The relay keeps polling while batches come back full, so every other poll finds the outbox empty.
+        final BookingOutboxRepository bookingOutboxRepository = Stubs.of(BookingOutboxRepository.class,
+                (method, args) -> switch (method) {
+                    case "lockNextBatch" -> (batchPending = !batchPending) ? batch : List.of();
+                    case "deleteAllByIdInBatch" -> null;
+                    default -> Stubs.UNSTUBBED;
+                });
+
+        final CompletableFuture<SendResult<String, BookingEvent>> acknowledged = CompletableFuture.completedFuture(null);
+        @SuppressWarnings("unchecked")
+        final ProducerFactory<String, BookingEvent> producerFactory = Stubs.of(ProducerFactory.class,
+                (method, args) -> Stubs.UNSTUBBED);
+        final KafkaTemplate<String, BookingEvent> kafkaTemplate = new KafkaTemplate<>(producerFactory) {
+
+            @Override
+            public CompletableFuture<SendResult<String, BookingEvent>> send(final String topic, final String key,
+                                                                            final BookingEvent data) {
+                return acknowledged;
+            }
+
+        };
+
+        relay = new BookingOutboxRelay(bookingOutboxRepository, kafkaTemplate,
+                Stubs.transactionTemplate(), new SimpleMeterRegistry(),
+                new TraceParents(Tracer.NOOP, Propagator.NOOP), "booking", batchSize, Duration.ofSeconds(10));
+    }
+
+    @Benchmark
+    public void relay() {
+        relay.relay();
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,94 @@
+package com.sathwikhbhat.bookingservice.service;
+
+import com.sathwikhbhat.benchmarks.Stubs;
+import com.sathwikhbhat.bookingservice.client.InventoryServiceClient;
+import com.sathwikhbhat.bookingservice.entity.Customer;
+import com.sathwikhbhat.bookingservice.repository.BookingOutboxRepository;
+import com.sathwikhbhat.bookingservice.repository.CustomerRepository;
+import com.sathwikhbhat.bookingservice.request.BookingRequest;
+import com.sathwikhbhat.bookingservice.response.BookingResponse;
+import com.sathwikhbhat.bookingservice.response.InventoryResponse;
+import com.sathwikhbhat.bookingservice.response.SeatHoldResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link BookingService#createBooking} with the customer lookup, seat hold and outbox insert answered in
+ * memory, so only the service's own work is measured: the inventory cache hit, building the booking event
+ * and outbox entry, and the response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookingServiceBenchmark {
+
+    static final long EVENT_ID = 1L;
+
+    private final BookingRequest bookingRequest = new BookingRequest(1L, EVENT_ID, 2L);
+    private BookingService bookingService;
+
+    @Setup
+    public void setUp() {
+        bookingService = bookingService();
+    }
+
+    @Benchmark
+    public BookingResponse createBooking() {
+        return bookingService.createBooking(bookingRequest);
+    }
+
+    /**
+     * A booking service whose dependencies all answer in memory.
+     */
+    static BookingService bookingService() {
+        final Customer customer = new Customer(1L, "Ada", "ada@example.com", "Main Street");
+        final CustomerRepository customerRepository = Stubs.of(CustomerRepository.class, (method, args) ->
+                method.equals("findById") ? Optional.of(customer) : Stubs.UNSTUBBED);
+        final BookingOutboxRepository bookingOutboxRepository = Stubs.of(BookingOutboxRepository.class,
+                (method, args) -> method.equals("save") ? args[0] : Stubs.UNSTUBBED);
+
+        final InventoryResponse inventory = new InventoryResponse(EVENT_ID, "Concert", 1_000_000L, null,
+                BigDecimal.TEN);
+        final InventoryServiceClient inventoryServiceClient = new InventoryServiceClient(null) {
+
+            @Override
+            public InventoryResponse getInventory(final Long eventId) {
+                return inventory;
+            }
+
+            @Override
+            public Optional<SeatHoldResponse> holdSeats(final Long eventId, final Long ticketCount) {
+                return Optional.of(new SeatHoldResponse("hold", eventId, ticketCount,
+                        Instant.now().plusSeconds(300)));
+            }
+
+        };
+        final InventoryCache inventoryCache = new InventoryCache(inventoryServiceClient, new SimpleMeterRegistry(),
+                1_000, Duration.ofHours(1), Duration.ofHours(1));
+
+        return new BookingService(customerRepository, inventoryServiceClient, inventoryCache,
+                bookingOutboxRepository, ObservationRegistry.NOOP, new TraceParents(Tracer.NOOP, Propagator.NOOP));
+    }
+
+}
\ No newline at end of file
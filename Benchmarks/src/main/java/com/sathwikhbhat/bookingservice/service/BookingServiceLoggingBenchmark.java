@@ -0,0 +1,121 @@
+package com.sathwikhbhat.bookingservice.service;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import com.sathwikhbhat.bookingservice.request.BookingRequest;
+import com.sathwikhbhat.bookingservice.response.BookingResponse;
+import com.sathwikhbhat.logging.SamplingTurboFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.logging.logback.StructuredLogEncoder;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Booking throughput from four request threads with {@link BookingService}'s logging off, written synchronously,
+ * written through an {@link AsyncAppender}, and async with sampling, all encoded as logstash JSON into a temp
+ * file like the services' console. With {@code neverBlock} the async appender drops INFO events instead of
+ * slowing callers once its queue fills, so under sustained overload not every booking is logged.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class BookingServiceLoggingBenchmark {
+
+    @Param({"off", "sync", "async", "async-sampled"})
+    public String logging;
+
+    private final BookingRequest bookingRequest = new BookingRequest(1L, BookingServiceBenchmark.EVENT_ID, 2L);
+    private final LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+    private final Logger bookingLog = loggerContext.getLogger(BookingService.class);
+    private final SamplingTurboFilter samplingFilter = new SamplingTurboFilter();
+    private BookingService bookingService;
+    private Appender<ILoggingEvent> appender;
+    private Path logFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        bookingService = BookingServiceBenchmark.bookingService();
+        if (logging.equals("off")) {
+            bookingLog.setLevel(Level.WARN);
+            return;
+        }
+
+        logFile = Files.createTempFile("booking-logging-benchmark", ".log");
+        loggerContext.putObject(Environment.class.getName(), new StandardEnvironment());
+        final StructuredLogEncoder encoder = new StructuredLogEncoder();
+        encoder.setContext(loggerContext);
+        encoder.setFormat("logstash");
+        encoder.start();
+        final FileAppender<ILoggingEvent> fileAppender = new FileAppender<>();
+        fileAppender.setContext(loggerContext);
+        fileAppender.setFile(logFile.toString());
+        fileAppender.setEncoder(encoder);
+        fileAppender.start();
+
+        if (logging.equals("sync")) {
+            appender = fileAppender;
+        } else {
+            final AsyncAppender asyncAppender = new AsyncAppender();
+            asyncAppender.setContext(loggerContext);
+            asyncAppender.setQueueSize(8192);
+            asyncAppender.setNeverBlock(true);
+            asyncAppender.addAppender(fileAppender);
+            asyncAppender.start();
+            appender = asyncAppender;
+        }
+
+        samplingFilter.setContext(loggerContext);
+        samplingFilter.setOneIn(logging.equals("async-sampled") ? 100 : 1);
+        samplingFilter.start();
+        loggerContext.addTurboFilter(samplingFilter);
+
+        bookingLog.setLevel(Level.INFO);
+        bookingLog.setAdditive(false);
+        bookingLog.addAppender(appender);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        bookingLog.setLevel(null);
+        bookingLog.setAdditive(true);
+        if (appender != null) {
+            bookingLog.detachAppender(appender);
+            appender.stop();
+            loggerContext.getTurboFilterList().remove(samplingFilter);
+            Files.deleteIfExists(logFile);
+        }
+    }
+
+    @Benchmark
+    public BookingResponse createBooking() {
+        return bookingService.createBooking(bookingRequest);
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,112 @@
+package com.sathwikhbhat.inventoryservice.service;
+
+import com.sathwikhbhat.benchmarks.Stubs;
+import com.sathwikhbhat.inventoryservice.entity.Event;
+import com.sathwikhbhat.inventoryservice.repository.AppliedBookingRepository;
+import com.sathwikhbhat.inventoryservice.repository.EventRepository;
+import com.sathwikhbhat.inventoryservice.repository.ReservationCheckpointRepository;
+import com.sathwikhbhat.inventoryservice.repository.SeatHoldRecordRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link InventoryService#updateEventCapacity(Long, Long)} against a real {@link SeatReservationEngine} that
+ * journals to a temporary directory. Database writes are answered in memory; the write-back runs after every
+ * iteration, as the scheduled flush would, so journal segments do not pile up.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InventoryServiceBenchmark {
+
+    private static final long EVENT_ID = 1L;
+    private static final Long TICKETS = 2L;
+
+    private Path journalDirectory;
+    private SeatReservationEngine seatReservationEngine;
+    private InventoryService inventoryService;
+
+    @Setup
+    public void setUp() throws IOException {
+        journalDirectory = Files.createTempDirectory("reservation-journal");
+        final Event event = new Event(EVENT_ID, "Concert", Long.MAX_VALUE / 2, Long.MAX_VALUE / 2, null,
+                BigDecimal.TEN);
+        final EventRepository eventRepository = Stubs.of(EventRepository.class, (method, args) -> switch (method) {
+            case "findAll" -> List.of(event);
+            case "findById" -> Optional.of(event);
+            case "subtractLeftCapacities" -> List.of();
+            default -> Stubs.UNSTUBBED;
+        });
+        final ReservationCheckpointRepository checkpointRepository = Stubs.of(ReservationCheckpointRepository.class,
+                (method, args) -> switch (method) {
+                    case "findById" -> Optional.empty();
+                    case "updateJournalSequence" -> 1;
+                    default -> Stubs.UNSTUBBED;
+                });
+        final SeatHoldRecordRepository seatHoldRecordRepository = Stubs.of(SeatHoldRecordRepository.class,
+                (method, args) -> Stubs.UNSTUBBED);
+        final AppliedBookingRepository appliedBookingRepository = Stubs.of(AppliedBookingRepository.class,
+                (method, args) -> Stubs.UNSTUBBED);
+        final CapacityEventPublisher capacityEventPublisher = new CapacityEventPublisher(null, null, "capacity") {
+
+            @Override
+            public void publish(final Long eventId, final Long leftCapacity) {
+            }
+
+        };
+
+        seatReservationEngine = new SeatReservationEngine(eventRepository, checkpointRepository,
+                seatHoldRecordRepository, appliedBookingRepository,
+                new ReservationJournal(journalDirectory.toString()), Stubs.transactionTemplate(),
+                capacityEventPublisher);
+        seatReservationEngine.recover();
+        inventoryService = new InventoryService(eventRepository, null, null, seatReservationEngine, null, null, null,
+                null);
+    }
+
+    @TearDown(Level.Iteration)
+    public void flush() {
+        seatReservationEngine.flush();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        seatReservationEngine.shutdown();
+        FileSystemUtils.deleteRecursively(journalDirectory);
+    }
+
+    @Benchmark
+    public boolean updateEventCapacity() {
+        return inventoryService.updateEventCapacity(EVENT_ID, TICKETS);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean updateEventCapacityContended() {
+        return inventoryService.updateEventCapacity(EVENT_ID, TICKETS);
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,95 @@
+package com.sathwikhbhat.orderservice.service;
+
+import com.sathwikhbhat.benchmarks.Stubs;
+import com.sathwikhbhat.bookingservice.event.BookingEvent;
+import com.sathwikhbhat.orderservice.client.InventoryServiceClient;
+import com.sathwikhbhat.orderservice.repository.OrderRepository;
+import com.sathwikhbhat.orderservice.repository.RejectedBookingRepository;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link OrderService#orderEvents} over one poll of booking events with the order insert and the Inventory
+ * Service calls answered in memory. Every poll carries new booking ids, so none are dropped as redeliveries,
+ * and one booking in ten has no hold and goes through the per-event capacity decrement.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderServiceBenchmark {
+
+    private static final int EVENTS = 16;
+
+    @Param({"500"})
+    private int pollSize;
+
+    private OrderService orderService;
+    private List<BookingEvent> poll;
+    private long nextBookingId;
+
+    @Setup
+    public void setUp() {
+        final OrderRepository orderRepository = Stubs.of(OrderRepository.class,
+                (method, args) -> method.equals("insertAll") ? null : Stubs.UNSTUBBED);
+        final InventoryServiceClient inventoryServiceClient = new InventoryServiceClient(null) {
+
+            @Override
+            public List<String> confirmHolds(final List<String> holdIds) {
+                return holdIds;
+            }
+
+            @Override
+            public List<String> updateInventory(final Long eventId, final Map<String, Long> ticketsByBookingId) {
+                return List.of();
+            }
+
+        };
+        orderService = new OrderService(orderRepository, Stubs.of(RejectedBookingRepository.class,
+                (method, args) -> Stubs.UNSTUBBED), inventoryServiceClient, ObservationRegistry.NOOP, Tracer.NOOP,
+                Propagator.NOOP, 100_000);
+    }
+
+    @Setup(Level.Invocation)
+    public void nextPoll() {
+        poll = new ArrayList<>(pollSize);
+        for (int i = 0; i < pollSize; i++) {
+            final String bookingId = Long.toString(nextBookingId++);
+            poll.add(BookingEvent.builder()
+                    .bookingId(bookingId)
+                    .userId(1L)
+                    .eventId((long) i % EVENTS)
+                    .ticketCount(2L)
+                    .totalPrice(BigDecimal.TEN)
+                    .holdId(i % 10 == 0 ? null : "hold-" + bookingId)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public void orderEvents() {
+        orderService.orderEvents(poll);
+    }
+
+}
\ No newline at end of file
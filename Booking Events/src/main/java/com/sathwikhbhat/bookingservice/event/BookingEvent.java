@@ -13,9 +13,11 @@ import java.math.BigDecimal;
 @Builder
 public class BookingEvent {
 
+    private String bookingId;
     private Long userId;
     private Long eventId;
     private Long ticketCount;
     private BigDecimal totalPrice;
+    private String holdId;
 
 }
\ No newline at end of file
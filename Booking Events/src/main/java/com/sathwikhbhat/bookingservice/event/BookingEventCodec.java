@@ -0,0 +1,295 @@
+package com.sathwikhbhat.bookingservice.event;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Versioned binary encoding of {@link BookingEvent}, typically 40-odd bytes against 160 for JSON plus its
+ * 60 byte type header.
+ * <pre>
+ * version      1 byte, currently 1
+ * presence     varint, bit i set when field i is non-null
+ * bookingId    id      (field 0)
+ * userId       zigzag varint (field 1)
+ * eventId      zigzag varint (field 2)
+ * ticketCount  zigzag varint (field 3)
+ * totalPrice   zigzag varint scale, varint length, two's-complement unscaled value (field 4)
+ * holdId       id      (field 5)
+ *
+ * id           varint 0 followed by 16 bytes for a lowercase canonical UUID,
+ *              otherwise varint (length + 1) followed by the UTF-8 bytes
+ * </pre>
+ * Evolution: fields are only ever appended, taking the next presence bit, and are never removed or reordered;
+ * a field that is no longer used is simply written as absent. A reader therefore decodes the fields it knows
+ * and ignores trailing ones from newer writers, while fields missing from older writers come back as null.
+ * The version byte is bumped only when an existing field's encoding has to change, and stays below {@code '{'}
+ * so JSON payloads from before this codec remain recognisable.
+ */
+public final class BookingEventCodec {
+
+    public static final byte VERSION = 1;
+
+    private static final int BOOKING_ID = 1;
+    private static final int USER_ID = 1 << 1;
+    private static final int EVENT_ID = 1 << 2;
+    private static final int TICKET_COUNT = 1 << 3;
+    private static final int TOTAL_PRICE = 1 << 4;
+    private static final int HOLD_ID = 1 << 5;
+
+    private static final int UUID_LENGTH = 36;
+
+    private BookingEventCodec() {
+    }
+
+    public static byte[] encode(final BookingEvent event) {
+        final Writer out = new Writer();
+        out.writeByte(VERSION);
+        out.writeVarLong(presence(event));
+        if (event.getBookingId() != null) {
+            out.writeId(event.getBookingId());
+        }
+        if (event.getUserId() != null) {
+            out.writeSignedVarLong(event.getUserId());
+        }
+        if (event.getEventId() != null) {
+            out.writeSignedVarLong(event.getEventId());
+        }
+        if (event.getTicketCount() != null) {
+            out.writeSignedVarLong(event.getTicketCount());
+        }
+        if (event.getTotalPrice() != null) {
+            out.writeDecimal(event.getTotalPrice());
+        }
+        if (event.getHoldId() != null) {
+            out.writeId(event.getHoldId());
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * @throws IllegalArgumentException if the payload is not a booking event in a known version
+     */
+    public static BookingEvent decode(final byte[] payload) {
+        final Reader in = new Reader(payload);
+        final int version = in.readByte();
+        if (version < 1 || version > VERSION) {
+            throw new IllegalArgumentException("Unsupported BookingEvent version " + version);
+        }
+        final long presence = in.readVarLong();
+        final BookingEvent event = new BookingEvent();
+        if ((presence & BOOKING_ID) != 0) {
+            event.setBookingId(in.readId());
+        }
+        if ((presence & USER_ID) != 0) {
+            event.setUserId(in.readSignedVarLong());
+        }
+        if ((presence & EVENT_ID) != 0) {
+            event.setEventId(in.readSignedVarLong());
+        }
+        if ((presence & TICKET_COUNT) != 0) {
+            event.setTicketCount(in.readSignedVarLong());
+        }
+        if ((presence & TOTAL_PRICE) != 0) {
+            event.setTotalPrice(in.readDecimal());
+        }
+        if ((presence & HOLD_ID) != 0) {
+            event.setHoldId(in.readId());
+        }
+        return event;
+    }
+
+    private static long presence(final BookingEvent event) {
+        return (event.getBookingId() != null ? BOOKING_ID : 0)
+                | (event.getUserId() != null ? USER_ID : 0)
+                | (event.getEventId() != null ? EVENT_ID : 0)
+                | (event.getTicketCount() != null ? TICKET_COUNT : 0)
+                | (event.getTotalPrice() != null ? TOTAL_PRICE : 0)
+                | (event.getHoldId() != null ? HOLD_ID : 0);
+    }
+
+    private static final class Writer {
+
+        private byte[] buffer = new byte[64];
+        private int position;
+
+        private void writeByte(final int value) {
+            ensureCapacity(1);
+            buffer[position++] = (byte) value;
+        }
+
+        private void writeBytes(final byte[] bytes) {
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        private void writeVarLong(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        private void writeSignedVarLong(final long value) {
+            writeVarLong((value << 1) ^ (value >> 63));
+        }
+
+        private void writeDecimal(final BigDecimal value) {
+            writeSignedVarLong(value.scale());
+            final byte[] unscaled = value.unscaledValue().toByteArray();
+            writeVarLong(unscaled.length);
+            writeBytes(unscaled);
+        }
+
+        private void writeId(final String id) {
+            if (isCanonicalUuid(id)) {
+                writeVarLong(0);
+                ensureCapacity(16);
+                writeLong(hexToLong(id, 0, 8, 9, 13, 14, 18));
+                writeLong(hexToLong(id, 19, 23, 24, UUID_LENGTH, UUID_LENGTH, UUID_LENGTH));
+            } else {
+                final byte[] utf8 = id.getBytes(StandardCharsets.UTF_8);
+                writeVarLong(utf8.length + 1L);
+                writeBytes(utf8);
+            }
+        }
+
+        private void writeLong(final long value) {
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                buffer[position++] = (byte) (value >>> shift);
+            }
+        }
+
+        private void ensureCapacity(final int bytes) {
+            if (position + bytes > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + bytes));
+            }
+        }
+
+        private byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+
+    }
+
+    private static final class Reader {
+
+        private final byte[] buffer;
+        private int position;
+
+        private Reader(final byte[] buffer) {
+            this.buffer = buffer;
+        }
+
+        private int readByte() {
+            require(1);
+            return buffer[position++];
+        }
+
+        private long readVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                final int b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint at offset " + position);
+        }
+
+        private long readSignedVarLong() {
+            final long value = readVarLong();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        private BigDecimal readDecimal() {
+            final int scale = Math.toIntExact(readSignedVarLong());
+            final int length = readLength();
+            final BigInteger unscaled = new BigInteger(buffer, position, length);
+            position += length;
+            return new BigDecimal(unscaled, scale);
+        }
+
+        private String readId() {
+            final long header = readVarLong();
+            if (header == 0) {
+                require(16);
+                return new UUID(readLong(), readLong()).toString();
+            }
+            final int length = Math.toIntExact(header - 1);
+            require(length);
+            final String id = new String(buffer, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return id;
+        }
+
+        private long readLong() {
+            long value = 0;
+            for (int i = 0; i < 8; i++) {
+                value = (value << 8) | (buffer[position++] & 0xFF);
+            }
+            return value;
+        }
+
+        private int readLength() {
+            final int length = Math.toIntExact(readVarLong());
+            if (length < 1) {
+                throw new IllegalArgumentException("Malformed length at offset " + position);
+            }
+            require(length);
+            return length;
+        }
+
+        private void require(final int bytes) {
+            if (bytes < 0 || position + bytes > buffer.length) {
+                throw new IllegalArgumentException("BookingEvent payload truncated at offset " + position);
+            }
+        }
+
+    }
+
+    /**
+     * True for the form {@link UUID#toString()} produces, so the id decodes back to the same string.
+     */
+    private static boolean isCanonicalUuid(final String id) {
+        if (id.length() != UUID_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < UUID_LENGTH; i++) {
+            final char c = id.charAt(i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return false;
+                }
+            } else if (!(c >= '0' && c <= '9' || c >= 'a' && c <= 'f')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads the hex digits of up to three ranges of {@code id} as one 64-bit value.
+     */
+    private static long hexToLong(final String id, final int from1, final int to1, final int from2, final int to2,
+                                  final int from3, final int to3) {
+        long value = 0;
+        for (int i = from1; i < to1; i++) {
+            value = (value << 4) | Character.digit(id.charAt(i), 16);
+        }
+        for (int i = from2; i < to2; i++) {
+            value = (value << 4) | Character.digit(id.charAt(i), 16);
+        }
+        for (int i = from3; i < to3; i++) {
+            value = (value << 4) | Character.digit(id.charAt(i), 16);
+        }
+        return value;
+    }
+
+}
\ No newline at end of file
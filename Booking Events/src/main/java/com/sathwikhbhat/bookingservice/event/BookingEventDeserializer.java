@@ -0,0 +1,35 @@
+package com.sathwikhbhat.bookingservice.event;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.io.IOException;
+
+/**
+ * Reads {@link BookingEvent} record values written by {@link BookingEventSerializer}. Values that start with
+ * {@code '{'} are JSON from producers that predate the binary format, so the topic can be switched over
+ * without draining it first.
+ */
+public class BookingEventDeserializer implements Deserializer<BookingEvent> {
+
+    private static final ObjectMapper JSON = new ObjectMapper()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    @Override
+    public BookingEvent deserialize(final String topic, final byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        try {
+            if (data.length > 0 && data[0] == '{') {
+                return JSON.readValue(data, BookingEvent.class);
+            }
+            return BookingEventCodec.decode(data);
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("Could not read BookingEvent from topic " + topic, e);
+        }
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.sathwikhbhat.bookingservice.event;
+
+import org.apache.kafka.common.serialization.Serializer;
+
+/**
+ * Writes {@link BookingEvent} record values in the {@link BookingEventCodec} binary format. No type header is
+ * added; the topic carries nothing but booking events.
+ */
+public class BookingEventSerializer implements Serializer<BookingEvent> {
+
+    @Override
+    public byte[] serialize(final String topic, final BookingEvent bookingEvent) {
+        return bookingEvent == null ? null : BookingEventCodec.encode(bookingEvent);
+    }
+
+}
\ No newline at end of file
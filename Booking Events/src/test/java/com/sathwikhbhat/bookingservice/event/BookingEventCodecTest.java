@@ -0,0 +1,97 @@
+package com.sathwikhbhat.bookingservice.event;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BookingEventCodecTest {
+
+    private final BookingEventSerializer serializer = new BookingEventSerializer();
+    private final BookingEventDeserializer deserializer = new BookingEventDeserializer();
+
+    @Test
+    void roundTripsABookingInAFractionOfTheJsonSize() {
+        final BookingEvent bookingEvent = bookingEvent();
+
+        final byte[] payload = serializer.serialize("booking", bookingEvent);
+
+        assertThat(deserializer.deserialize("booking", payload)).isEqualTo(bookingEvent);
+        assertThat(payload).hasSizeLessThan(48);
+    }
+
+    @Test
+    void keepsNullsAndIdsThatAreNotCanonicalUuids() {
+        final BookingEvent bookingEvent = BookingEvent.builder()
+                .bookingId("0F8FAD5B-D9CB-469F-A165-70867728950E")
+                .eventId(-7L)
+                .holdId("hold-ü")
+                .build();
+
+        assertThat(BookingEventCodec.decode(BookingEventCodec.encode(bookingEvent))).isEqualTo(bookingEvent);
+        assertThat(BookingEventCodec.decode(BookingEventCodec.encode(new BookingEvent())))
+                .isEqualTo(new BookingEvent());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0", "0.00", "199.98", "-1.5", "1E+3", "123456789012345678901234567890.123456789"})
+    void keepsPriceValueAndScale(final String price) {
+        final BookingEvent bookingEvent = BookingEvent.builder().totalPrice(new BigDecimal(price)).build();
+
+        assertThat(BookingEventCodec.decode(BookingEventCodec.encode(bookingEvent)).getTotalPrice())
+                .isEqualTo(new BigDecimal(price))
+                .hasScaleOf(new BigDecimal(price).scale());
+    }
+
+    @Test
+    void readsJsonWrittenBeforeTheBinaryFormat() {
+        final byte[] json = """
+                {"bookingId":"b1","userId":1,"eventId":42,"ticketCount":2,"totalPrice":199.98,"holdId":null,
+                "addedLater":true}""".getBytes(StandardCharsets.UTF_8);
+
+        assertThat(deserializer.deserialize("booking", json)).isEqualTo(BookingEvent.builder()
+                .bookingId("b1").userId(1L).eventId(42L).ticketCount(2L).totalPrice(new BigDecimal("199.98"))
+                .build());
+    }
+
+    @Test
+    void ignoresFieldsAppendedByNewerWriters() {
+        final byte[] current = BookingEventCodec.encode(bookingEvent());
+        // A later writer appends field 6 as a varint after the existing fields and sets its presence bit
+        final byte[] newer = Arrays.copyOf(current, current.length + 1);
+        newer[1] |= 1 << 6;
+        newer[current.length] = 5;
+
+        assertThat(BookingEventCodec.decode(newer)).isEqualTo(bookingEvent());
+    }
+
+    @Test
+    void rejectsTruncatedAndUnknownPayloads() {
+        final byte[] payload = BookingEventCodec.encode(bookingEvent());
+
+        assertThatThrownBy(() -> deserializer.deserialize("booking", Arrays.copyOf(payload, payload.length - 3)))
+                .isInstanceOf(SerializationException.class);
+        assertThatThrownBy(() -> deserializer.deserialize("booking", new byte[]{BookingEventCodec.VERSION + 1, 0}))
+                .isInstanceOf(SerializationException.class)
+                .hasRootCauseMessage("Unsupported BookingEvent version 2");
+    }
+
+    private static BookingEvent bookingEvent() {
+        return BookingEvent.builder()
+                .bookingId("0f8fad5b-d9cb-469f-a165-70867728950e")
+                .userId(1L)
+                .eventId(42L)
+                .ticketCount(2L)
+                .totalPrice(new BigDecimal("199.98"))
+                .holdId("7c9e6679-7425-40de-944b-e07fc1f90ae7")
+                .build();
+    }
+
+}
\ No newline at end of file
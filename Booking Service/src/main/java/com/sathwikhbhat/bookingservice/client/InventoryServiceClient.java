@@ -1,19 +1,61 @@
 package com.sathwikhbhat.bookingservice.client;
 
+import com.sathwikhbhat.bookingservice.request.SeatHoldRequest;
 import com.sathwikhbhat.bookingservice.response.InventoryResponse;
-import org.springframework.beans.factory.annotation.Value;
+import com.sathwikhbhat.bookingservice.response.SeatHoldResponse;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
 @Service
 public class InventoryServiceClient {
 
-    @Value("${inventory.service.url}")
-    private String inventoryServiceUrl;
+    private final RestTemplate inventoryRestTemplate;
+
+    @Autowired
+    public InventoryServiceClient(final RestTemplate inventoryRestTemplate) {
+        this.inventoryRestTemplate = inventoryRestTemplate;
+    }
 
     public InventoryResponse getInventory(final Long eventId) {
-        final RestTemplate restTemplate = new RestTemplate();
-        return restTemplate.getForObject(inventoryServiceUrl + "/event/" + eventId, InventoryResponse.class);
+        return inventoryRestTemplate.getForObject("/event/{eventId}", InventoryResponse.class, eventId);
+    }
+
+    public List<InventoryResponse> getInventories(final Collection<Long> eventIds) {
+        final InventoryResponse[] inventories = inventoryRestTemplate.postForObject("/events/lookup",
+                List.copyOf(eventIds), InventoryResponse[].class);
+        return inventories == null ? List.of() : List.of(inventories);
+    }
+
+    public Optional<SeatHoldResponse> holdSeats(final Long eventId, final Long ticketCount) {
+        try {
+            return Optional.ofNullable(inventoryRestTemplate.postForObject("/event/{eventId}/hold/{ticketCount}",
+                    null, SeatHoldResponse.class, eventId, ticketCount));
+        } catch (HttpClientErrorException.Conflict e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Holds tickets for every event or, if any event has too few left, for none.
+     */
+    public Optional<List<SeatHoldResponse>> holdSeats(final Map<Long, Long> ticketsByEventId) {
+        try {
+            return Optional.ofNullable(inventoryRestTemplate.postForObject("/holds",
+                    new SeatHoldRequest(ticketsByEventId), SeatHoldResponse[].class)).map(List::of);
+        } catch (HttpClientErrorException.Conflict e) {
+            return Optional.empty();
+        }
+    }
+
+    public void releaseHold(final String holdId) {
+        inventoryRestTemplate.delete("/hold/{holdId}", holdId);
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,60 @@
+package com.sathwikhbhat.bookingservice.config;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+
+@Configuration
+public class InventoryClientConfig {
+
+    @Value("${inventory.service.url}")
+    private String inventoryServiceUrl;
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager inventoryConnectionManager(
+            @Value("${inventory.client.max-connections}") final int maxConnections,
+            @Value("${inventory.client.max-connections-per-route}") final int maxConnectionsPerRoute,
+            @Value("${inventory.client.connect-timeout}") final Duration connectTimeout,
+            @Value("${inventory.client.read-timeout}") final Duration readTimeout) {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(connectTimeout))
+                        .setSocketTimeout(Timeout.of(readTimeout))
+                        .build())
+                .build();
+    }
+
+    @Bean
+    public RestTemplate inventoryRestTemplate(final RestTemplateBuilder restTemplateBuilder,
+                                              final PoolingHttpClientConnectionManager inventoryConnectionManager,
+                                              @Value("${inventory.client.idle-eviction}") final Duration idleEviction) {
+        return restTemplateBuilder
+                .rootUri(inventoryServiceUrl)
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(HttpClients.custom()
+                        .setConnectionManager(inventoryConnectionManager)
+                        .evictIdleConnections(TimeValue.of(idleEviction))
+                        .build()))
+                .build();
+    }
+
+    @Bean
+    public MeterBinder inventoryConnectionPoolMetrics(final PoolingHttpClientConnectionManager inventoryConnectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(inventoryConnectionManager, "inventory-service");
+    }
+
+}
@@ -0,0 +1,29 @@
+package com.sathwikhbhat.bookingservice.config;
+
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+
+@Configuration
+public class KafkaConsumerConfig {
+
+    /**
+     * Containers for listeners that read a topic from the latest offset in a group of their own, such as the
+     * capacity-change feed. Records are never acknowledged, so no offsets are committed and the broker drops
+     * the group as soon as its consumer leaves.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> nonCommittingListenerContainerFactory(
+            final ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            final ConsumerFactory<Object, Object> consumerFactory) {
+        final ConcurrentKafkaListenerContainerFactory<Object, Object> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, consumerFactory);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        return factory;
+    }
+
+}
\ No newline at end of file
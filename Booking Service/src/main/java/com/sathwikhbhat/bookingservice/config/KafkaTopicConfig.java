@@ -0,0 +1,22 @@
+package com.sathwikhbhat.bookingservice.config;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+
+@Configuration
+public class KafkaTopicConfig {
+
+    @Bean
+    public NewTopic bookingTopic(@Value("${booking.topic.name}") final String topic,
+                                 @Value("${booking.topic.partitions}") final int partitions,
+                                 @Value("${booking.topic.replicas}") final int replicas) {
+        return TopicBuilder.name(topic)
+                .partitions(partitions)
+                .replicas(replicas)
+                .build();
+    }
+
+}
\ No newline at end of file
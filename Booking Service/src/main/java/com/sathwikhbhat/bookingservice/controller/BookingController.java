@@ -1,10 +1,14 @@
 package com.sathwikhbhat.bookingservice.controller;
 
+import com.sathwikhbhat.bookingservice.request.BatchBookingRequest;
 import com.sathwikhbhat.bookingservice.request.BookingRequest;
+import com.sathwikhbhat.bookingservice.response.BatchBookingResponse;
 import com.sathwikhbhat.bookingservice.response.BookingResponse;
 import com.sathwikhbhat.bookingservice.service.BookingService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -26,4 +30,14 @@ public class BookingController {
         return bookingService.createBooking(request);
     }
 
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE, path = "/booking/batch")
+    public BatchBookingResponse createBookings(@RequestBody BatchBookingRequest request) {
+        return bookingService.createBookings(request);
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> badRequest(final IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.sathwikhbhat.bookingservice.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+@Entity
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Table(name = "booking_outbox")
+public class BookingOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String bookingId;
+    private Long userId;
+    private Long eventId;
+    private Long ticketCount;
+    private BigDecimal totalPrice;
+    private String holdId;
+
+    /**
+     * W3C traceparent of the request that created the booking, so the Kafka send joins its trace.
+     */
+    private String traceParent;
+
+    @CreationTimestamp
+    @Column(updatable = false, nullable = false)
+    private Instant createdAt;
+
+}
\ No newline at end of file
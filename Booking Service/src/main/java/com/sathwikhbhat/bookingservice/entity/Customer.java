@@ -1,13 +1,24 @@
 package com.sathwikhbhat.bookingservice.entity;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
 
+/**
+ * Customers are maintained outside Booking Service, so they are read-only here and kept in the second-level
+ * cache until the region's TTL expires.
+ */
 @Entity
+@Immutable
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "customer")
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
@@ -0,0 +1,20 @@
+package com.sathwikhbhat.bookingservice.repository;
+
+import com.sathwikhbhat.bookingservice.entity.BookingOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface BookingOutboxRepository extends JpaRepository<BookingOutbox, Long> {
+
+    /**
+     * Locks the oldest entries for the current transaction. Rows locked by another relay are skipped, so
+     * several instances can drain the outbox without relaying an entry twice.
+     */
+    @Query(value = "SELECT * FROM booking_outbox ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<BookingOutbox> lockNextBatch(int limit);
+
+}
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.sathwikhbhat.bookingservice.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BatchBookingRequest {
+
+    private Long userId;
+    private List<Item> items;
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Item {
+
+        private Long eventId;
+        private Long ticketCount;
+
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.sathwikhbhat.bookingservice.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class SeatHoldRequest {
+
+    private Map<Long, Long> ticketsByEventId;
+
+}
\ No newline at end of file
@@ -1,4 +1,4 @@
-package com.sathwikhbhat.bookingservice.event;
+package com.sathwikhbhat.bookingservice.response;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -6,16 +6,16 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
-public class BookingEvent {
+public class BatchBookingResponse {
 
     private Long userId;
-    private Long eventId;
-    private Long ticketCount;
+    private List<BookingResponse> bookings;
     private BigDecimal totalPrice;
 
 }
\ No newline at end of file
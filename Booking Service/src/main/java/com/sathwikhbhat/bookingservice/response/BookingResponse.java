@@ -13,6 +13,7 @@ import java.math.BigDecimal;
 @Builder
 public class BookingResponse {
 
+    private String bookingId;
     private Long eventId;
     private Long userId;
     private Long ticketCount;
@@ -0,0 +1,21 @@
+package com.sathwikhbhat.bookingservice.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class SeatHoldResponse {
+
+    private String holdId;
+    private Long eventId;
+    private Long ticketCount;
+    private Instant expiresAt;
+
+}
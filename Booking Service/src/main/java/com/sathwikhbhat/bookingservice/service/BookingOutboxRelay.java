@@ -0,0 +1,162 @@
+package com.sathwikhbhat.bookingservice.service;
+
+import com.sathwikhbhat.bookingservice.entity.BookingOutbox;
+import com.sathwikhbhat.bookingservice.event.BookingEvent;
+import com.sathwikhbhat.bookingservice.repository.BookingOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Drains the booking outbox to Kafka. Each batch is sent without waiting between records, so the producer
+ * can linger and compress, and rows are deleted only once the broker acknowledged them. Rows that were not
+ * acknowledged stay in the outbox and are sent again on the next run. Once a row fails, the later rows with
+ * the same event key are not sent, or not deleted if they already were, so the next run retries that key in
+ * order from the failed row.
+ */
+@Slf4j
+@Component
+public class BookingOutboxRelay {
+
+    private final BookingOutboxRepository bookingOutboxRepository;
+    private final KafkaTemplate<String, BookingEvent> kafkaTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TraceParents traceParents;
+    private final String bookingTopic;
+    private final int batchSize;
+    private final Duration sendTimeout;
+    private final Counter relayed;
+    private final Counter failed;
+    private final Timer lag;
+
+    @Autowired
+    public BookingOutboxRelay(final BookingOutboxRepository bookingOutboxRepository,
+                              final KafkaTemplate<String, BookingEvent> kafkaTemplate,
+                              final TransactionTemplate transactionTemplate,
+                              final MeterRegistry meterRegistry,
+                              final TraceParents traceParents,
+                              @Value("${booking.topic.name}") final String bookingTopic,
+                              @Value("${booking.outbox.batch-size}") final int batchSize,
+                              @Value("${booking.outbox.send-timeout}") final Duration sendTimeout) {
+        this.bookingOutboxRepository = bookingOutboxRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.traceParents = traceParents;
+        this.bookingTopic = bookingTopic;
+        this.batchSize = batchSize;
+        this.sendTimeout = sendTimeout;
+        this.relayed = Counter.builder("booking.outbox.relayed")
+                .description("Bookings relayed from the outbox to Kafka")
+                .register(meterRegistry);
+        this.failed = Counter.builder("booking.outbox.failed")
+                .description("Outbox sends that were not acknowledged and will be retried")
+                .register(meterRegistry);
+        this.lag = Timer.builder("booking.outbox.lag")
+                .description("Time from outbox insert to broker acknowledgement")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${booking.outbox.poll-interval-ms}")
+    public void relay() {
+        Integer relayedInBatch;
+        do {
+            relayedInBatch = transactionTemplate.execute(status -> relayBatch());
+        } while (relayedInBatch != null && relayedInBatch == batchSize);
+    }
+
+    /**
+     * @return number of entries relayed, or 0 if any send failed so the caller backs off until the next run
+     */
+    private int relayBatch() {
+        final List<BookingOutbox> entries = bookingOutboxRepository.lockNextBatch(batchSize);
+        if (entries.isEmpty()) {
+            return 0;
+        }
+
+        final Set<Long> failedEventIds = new HashSet<>();
+        final List<CompletableFuture<SendResult<String, BookingEvent>>> acks = new ArrayList<>(entries.size());
+        for (BookingOutbox entry : entries) {
+            if (failedEventIds.contains(entry.getEventId())) {
+                acks.add(null);
+                continue;
+            }
+            final CompletableFuture<SendResult<String, BookingEvent>> ack = send(entry);
+            if (ack.isCompletedExceptionally()) {
+                failedEventIds.add(entry.getEventId());
+            }
+            acks.add(ack);
+        }
+
+        failedEventIds.clear();
+        final long deadline = System.nanoTime() + sendTimeout.toNanos();
+        final List<Long> acked = new ArrayList<>(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            final BookingOutbox entry = entries.get(i);
+            if (failedEventIds.contains(entry.getEventId())) {
+                continue;
+            }
+            try {
+                acks.get(i).get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+                acked.add(entry.getId());
+                lag.record(Duration.between(entry.getCreatedAt(), Instant.now()));
+            } catch (ExecutionException | TimeoutException e) {
+                failedEventIds.add(entry.getEventId());
+                failed.increment();
+                log.warn("Booking {} was not acknowledged by Kafka, keeping it in the outbox",
+                        entry.getBookingId(), e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        if (!acked.isEmpty()) {
+            bookingOutboxRepository.deleteAllByIdInBatch(acked);
+        }
+        relayed.increment(acked.size());
+        log.debug("Relayed {} of {} outbox entries", acked.size(), entries.size());
+        return acked.size() == entries.size() ? acked.size() : 0;
+    }
+
+    private CompletableFuture<SendResult<String, BookingEvent>> send(final BookingOutbox entry) {
+        try {
+            // The send joins the booking request's trace, and the template injects it into the record headers
+            return traceParents.inSpan("booking.outbox.send", entry.getTraceParent(), () ->
+                    kafkaTemplate.send(bookingTopic, String.valueOf(entry.getEventId()), toBookingEvent(entry)));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private BookingEvent toBookingEvent(final BookingOutbox entry) {
+        return BookingEvent.builder()
+                .bookingId(entry.getBookingId())
+                .userId(entry.getUserId())
+                .eventId(entry.getEventId())
+                .ticketCount(entry.getTicketCount())
+                .totalPrice(entry.getTotalPrice())
+                .holdId(entry.getHoldId())
+                .build();
+    }
+
+}
\ No newline at end of file
@@ -1,18 +1,32 @@
 package com.sathwikhbhat.bookingservice.service;
 
 import com.sathwikhbhat.bookingservice.client.InventoryServiceClient;
+import com.sathwikhbhat.bookingservice.entity.BookingOutbox;
 import com.sathwikhbhat.bookingservice.entity.Customer;
 import com.sathwikhbhat.bookingservice.event.BookingEvent;
+import com.sathwikhbhat.bookingservice.repository.BookingOutboxRepository;
 import com.sathwikhbhat.bookingservice.repository.CustomerRepository;
+import com.sathwikhbhat.bookingservice.request.BatchBookingRequest;
 import com.sathwikhbhat.bookingservice.request.BookingRequest;
+import com.sathwikhbhat.bookingservice.response.BatchBookingResponse;
 import com.sathwikhbhat.bookingservice.response.BookingResponse;
 import com.sathwikhbhat.bookingservice.response.InventoryResponse;
+import com.sathwikhbhat.bookingservice.response.SeatHoldResponse;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static com.sathwikhbhat.logging.SamplingTurboFilter.atSampledInfo;
 
 @Service
 @Slf4j
@@ -20,35 +34,162 @@ public class BookingService {
 
     private final CustomerRepository customerRepository;
     private final InventoryServiceClient inventoryServiceClient;
-    private final KafkaTemplate<String, BookingEvent> kafkaTemplate;
+    private final InventoryCache inventoryCache;
+    private final BookingOutboxRepository bookingOutboxRepository;
+    private final ObservationRegistry observationRegistry;
+    private final TraceParents traceParents;
 
     @Autowired
     public BookingService(final CustomerRepository customerRepository,
                           final InventoryServiceClient inventoryServiceClient,
-                          final KafkaTemplate<String, BookingEvent> kafkaTemplate) {
+                          final InventoryCache inventoryCache,
+                          final BookingOutboxRepository bookingOutboxRepository,
+                          final ObservationRegistry observationRegistry,
+                          final TraceParents traceParents) {
         this.customerRepository = customerRepository;
         this.inventoryServiceClient = inventoryServiceClient;
-        this.kafkaTemplate = kafkaTemplate;
+        this.inventoryCache = inventoryCache;
+        this.bookingOutboxRepository = bookingOutboxRepository;
+        this.observationRegistry = observationRegistry;
+        this.traceParents = traceParents;
     }
 
+    /**
+     * Each stage runs in its own observation ({@code booking.customer.lookup}, {@code booking.inventory.lookup},
+     * {@code booking.seats.hold}, {@code booking.outbox.insert}), giving a timer per stage and a child span of
+     * the request.
+     */
     public BookingResponse createBooking(final BookingRequest bookingRequest) {
-        final Customer customer = customerRepository.findById(bookingRequest.getUserId())
+        final Customer customer = observe("booking.customer.lookup",
+                () -> customerRepository.findById(bookingRequest.getUserId()))
                 .orElseThrow(() -> new RuntimeException("User not found"));
-        log.info("Customer found: {}", customer);
+        log.debug("Found customer {}", customer.getId());
 
-        final InventoryResponse inventoryResponse = inventoryServiceClient.getInventory(bookingRequest.getEventId());
-        log.info("Inventory Response: {}", inventoryResponse);
+        final InventoryResponse inventoryResponse = observe("booking.inventory.lookup",
+                () -> inventoryCache.getInventory(bookingRequest.getEventId()));
+        log.debug("Event {} has {} tickets left", inventoryResponse.getEventId(), inventoryResponse.getCapacity());
 
-        if (inventoryResponse.getCapacity() < bookingRequest.getTicketCount()) {
+        if (inventoryResponse.getCapacity() != null
+                && inventoryResponse.getCapacity() < bookingRequest.getTicketCount()) {
             throw new RuntimeException("Not enough inventory");
         }
 
-        final BookingEvent bookingEvent = createBookingEvent(bookingRequest, customer, inventoryResponse);
+        final SeatHoldResponse seatHold = observe("booking.seats.hold",
+                () -> inventoryServiceClient.holdSeats(bookingRequest.getEventId(), bookingRequest.getTicketCount()))
+                .orElseThrow(() -> new RuntimeException("Not enough inventory"));
+        log.debug("Held {} tickets under hold {}", seatHold.getTicketCount(), seatHold.getHoldId());
+
+        final BookingEvent bookingEvent = createBookingEvent(customer, inventoryResponse, seatHold);
+        final String traceParent = traceParents.current();
 
-        kafkaTemplate.send("booking", bookingEvent);
-        log.info("Booking sent to Kafka: {}", bookingEvent);
+        try {
+            observe("booking.outbox.insert",
+                    () -> bookingOutboxRepository.save(createOutboxEntry(bookingEvent, traceParent)));
+        } catch (RuntimeException e) {
+            log.error("Failed to store booking in the outbox, releasing hold {}", seatHold.getHoldId(), e);
+            inventoryServiceClient.releaseHold(seatHold.getHoldId());
+            throw e;
+        }
+        atSampledInfo(log).setMessage("Booking queued for Kafka")
+                .addKeyValue("bookingId", bookingEvent.getBookingId())
+                .addKeyValue("userId", bookingEvent.getUserId())
+                .addKeyValue("eventId", bookingEvent.getEventId())
+                .addKeyValue("ticketCount", bookingEvent.getTicketCount())
+                .addKeyValue("holdId", bookingEvent.getHoldId())
+                .log();
+
+        return toBookingResponse(bookingEvent);
+    }
+
+    /**
+     * Books tickets for several events with one customer lookup, one inventory lookup and one hold call. Items
+     * for the same event are merged into one booking. Either every event is held and every booking is queued,
+     * or nothing is.
+     *
+     * @throws IllegalArgumentException if there are no items or an item lacks an event id or a positive ticket
+     *                                  count
+     */
+    public BatchBookingResponse createBookings(final BatchBookingRequest batchRequest) {
+        if (batchRequest.getItems() == null || batchRequest.getItems().isEmpty()) {
+            throw new IllegalArgumentException("No tickets requested");
+        }
+        for (BatchBookingRequest.Item item : batchRequest.getItems()) {
+            if (item == null || item.getEventId() == null || item.getTicketCount() == null
+                    || item.getTicketCount() <= 0) {
+                throw new IllegalArgumentException("Every item needs an eventId and a positive ticketCount");
+            }
+        }
+        final Customer customer = observe("booking.customer.lookup",
+                () -> customerRepository.findById(batchRequest.getUserId()))
+                .orElseThrow(() -> new RuntimeException("User not found"));
+        log.debug("Found customer {}", customer.getId());
 
+        final Map<Long, Long> ticketsByEventId = batchRequest.getItems().stream()
+                .collect(Collectors.groupingBy(BatchBookingRequest.Item::getEventId, TreeMap::new,
+                        Collectors.summingLong(BatchBookingRequest.Item::getTicketCount)));
+        final Map<Long, InventoryResponse> inventories = observe("booking.inventory.lookup",
+                () -> inventoryCache.getInventories(ticketsByEventId.keySet()));
+        ticketsByEventId.forEach((eventId, ticketCount) -> {
+            final InventoryResponse inventoryResponse = inventories.get(eventId);
+            if (inventoryResponse == null) {
+                throw new RuntimeException("Event not found");
+            }
+            if (inventoryResponse.getCapacity() != null && inventoryResponse.getCapacity() < ticketCount) {
+                throw new RuntimeException("Not enough inventory");
+            }
+        });
+
+        final List<SeatHoldResponse> seatHolds = observe("booking.seats.hold",
+                () -> inventoryServiceClient.holdSeats(ticketsByEventId))
+                .orElseThrow(() -> new RuntimeException("Not enough inventory"));
+        log.debug("Held seats for {} events", seatHolds.size());
+
+        final List<BookingEvent> bookingEvents = seatHolds.stream()
+                .map(seatHold -> createBookingEvent(customer, inventories.get(seatHold.getEventId()), seatHold))
+                .toList();
+        final String traceParent = traceParents.current();
+
+        try {
+            // saveAll runs in one transaction, so the relay sees all of the batch's bookings or none
+            observe("booking.outbox.insert", () -> bookingOutboxRepository.saveAll(bookingEvents.stream()
+                    .map(bookingEvent -> createOutboxEntry(bookingEvent, traceParent))
+                    .toList()));
+        } catch (RuntimeException e) {
+            log.error("Failed to store {} bookings in the outbox, releasing their holds", bookingEvents.size(), e);
+            seatHolds.forEach(seatHold -> inventoryServiceClient.releaseHold(seatHold.getHoldId()));
+            throw e;
+        }
+        atSampledInfo(log).setMessage("Bookings queued for Kafka")
+                .addKeyValue("userId", customer.getId())
+                .addKeyValue("bookings", bookingEvents.size())
+                .addKeyValue("eventIds", ticketsByEventId.keySet())
+                .log();
+
+        return BatchBookingResponse.builder()
+                .userId(customer.getId())
+                .bookings(bookingEvents.stream().map(this::toBookingResponse).toList())
+                .totalPrice(bookingEvents.stream().map(BookingEvent::getTotalPrice)
+                        .reduce(BigDecimal.ZERO, BigDecimal::add))
+                .build();
+    }
+
+    private BookingEvent createBookingEvent(final Customer customer,
+                                            final InventoryResponse inventoryResponse,
+                                            final SeatHoldResponse seatHold) {
+        return BookingEvent.builder()
+                .bookingId(UUID.randomUUID().toString())
+                .userId(customer.getId())
+                .eventId(seatHold.getEventId())
+                .ticketCount(seatHold.getTicketCount())
+                .totalPrice(inventoryResponse.getTicketPrice()
+                        .multiply(BigDecimal.valueOf(seatHold.getTicketCount())))
+                .holdId(seatHold.getHoldId())
+                .build();
+    }
+
+    private BookingResponse toBookingResponse(final BookingEvent bookingEvent) {
         return BookingResponse.builder()
+                .bookingId(bookingEvent.getBookingId())
                 .userId(bookingEvent.getUserId())
                 .eventId(bookingEvent.getEventId())
                 .ticketCount(bookingEvent.getTicketCount())
@@ -56,15 +197,19 @@ public class BookingService {
                 .build();
     }
 
-    private BookingEvent createBookingEvent(final BookingRequest request,
-                                            final Customer customer,
-                                            final InventoryResponse inventoryResponse) {
-        return BookingEvent.builder()
-                .userId(customer.getId())
-                .eventId(request.getEventId())
-                .ticketCount(request.getTicketCount())
-                .totalPrice(inventoryResponse.getTicketPrice()
-                        .multiply(BigDecimal.valueOf(request.getTicketCount())))
+    private <T> T observe(final String name, final Supplier<T> stage) {
+        return Observation.createNotStarted(name, observationRegistry).observe(stage);
+    }
+
+    private BookingOutbox createOutboxEntry(final BookingEvent bookingEvent, final String traceParent) {
+        return BookingOutbox.builder()
+                .bookingId(bookingEvent.getBookingId())
+                .userId(bookingEvent.getUserId())
+                .eventId(bookingEvent.getEventId())
+                .ticketCount(bookingEvent.getTicketCount())
+                .totalPrice(bookingEvent.getTotalPrice())
+                .holdId(bookingEvent.getHoldId())
+                .traceParent(traceParent)
                 .build();
     }
 
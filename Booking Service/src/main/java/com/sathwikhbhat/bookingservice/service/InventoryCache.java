@@ -0,0 +1,136 @@
+package com.sathwikhbhat.bookingservice.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.sathwikhbhat.bookingservice.client.InventoryServiceClient;
+import com.sathwikhbhat.bookingservice.event.InventoryCapacityEvent;
+import com.sathwikhbhat.bookingservice.response.InventoryResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Bounded local cache of event inventory. Name, venue and price are served from the cache until the entry
+ * expires; capacity is only returned while the last value seen, either from Inventory Service or from a
+ * capacity-change event, is younger than the capacity TTL. Seat holds remain the authoritative check.
+ */
+@Slf4j
+@Service
+public class InventoryCache {
+
+    private final InventoryServiceClient inventoryServiceClient;
+    private final Cache<Long, CachedInventory> cache;
+    private final Ticker ticker;
+    private final long capacityTtlNanos;
+
+    @Autowired
+    public InventoryCache(final InventoryServiceClient inventoryServiceClient,
+                          final MeterRegistry meterRegistry,
+                          @Value("${inventory.cache.max-size}") final long maxSize,
+                          @Value("${inventory.cache.ttl}") final Duration ttl,
+                          @Value("${inventory.cache.capacity-ttl}") final Duration capacityTtl) {
+        this(inventoryServiceClient, meterRegistry, maxSize, ttl, capacityTtl, Ticker.systemTicker());
+    }
+
+    InventoryCache(final InventoryServiceClient inventoryServiceClient,
+                   final MeterRegistry meterRegistry,
+                   final long maxSize,
+                   final Duration ttl,
+                   final Duration capacityTtl,
+                   final Ticker ticker) {
+        this.inventoryServiceClient = inventoryServiceClient;
+        this.ticker = ticker;
+        this.capacityTtlNanos = capacityTtl.toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "inventory");
+    }
+
+    public InventoryResponse getInventory(final Long eventId) {
+        return cache.get(eventId, this::load).toResponse(ticker.read() - capacityTtlNanos);
+    }
+
+    /**
+     * Looks up several events, fetching the ones not cached in a single call. Unknown events are left out.
+     */
+    public Map<Long, InventoryResponse> getInventories(final Collection<Long> eventIds) {
+        final long freshAfterNanos = ticker.read() - capacityTtlNanos;
+        final Map<Long, InventoryResponse> inventories = new HashMap<>();
+        cache.getAll(eventIds, this::loadAll)
+                .forEach((eventId, cached) -> inventories.put(eventId, cached.toResponse(freshAfterNanos)));
+        return inventories;
+    }
+
+    /**
+     * Every instance needs every capacity change, so each one reads in a group of its own that never commits
+     * offsets and starts at the latest record.
+     */
+    @KafkaListener(topics = "${inventory.capacity.topic}", groupId = "booking-service-inventory-cache-${random.uuid}",
+            containerFactory = "nonCommittingListenerContainerFactory",
+            properties = "enable.auto.commit=false")
+    public void onCapacityChanged(final InventoryCapacityEvent capacityEvent) {
+        final CachedInventory cached = cache.getIfPresent(capacityEvent.getEventId());
+        if (cached != null) {
+            cached.capacity = new CapacityHint(capacityEvent.getLeftCapacity(), ticker.read());
+            log.debug("Updated cached capacity for event ID {} to {}",
+                    capacityEvent.getEventId(), capacityEvent.getLeftCapacity());
+        }
+    }
+
+    private CachedInventory load(final Long eventId) {
+        final InventoryResponse inventory = inventoryServiceClient.getInventory(eventId);
+        return new CachedInventory(inventory, new CapacityHint(inventory.getCapacity(), ticker.read()));
+    }
+
+    private Map<Long, CachedInventory> loadAll(final Set<? extends Long> eventIds) {
+        final Map<Long, CachedInventory> loaded = new HashMap<>();
+        for (InventoryResponse inventory : inventoryServiceClient.getInventories(List.copyOf(eventIds))) {
+            loaded.put(inventory.getEventId(),
+                    new CachedInventory(inventory, new CapacityHint(inventory.getCapacity(), ticker.read())));
+        }
+        return loaded;
+    }
+
+    private record CapacityHint(Long capacity, long observedAtNanos) {
+    }
+
+    private static final class CachedInventory {
+
+        private final InventoryResponse inventory;
+        private volatile CapacityHint capacity;
+
+        private CachedInventory(final InventoryResponse inventory, final CapacityHint capacity) {
+            this.inventory = inventory;
+            this.capacity = capacity;
+        }
+
+        private InventoryResponse toResponse(final long freshAfterNanos) {
+            final CapacityHint hint = capacity;
+            return InventoryResponse.builder()
+                    .eventId(inventory.getEventId())
+                    .event(inventory.getEvent())
+                    .capacity(hint.observedAtNanos() - freshAfterNanos >= 0 ? hint.capacity() : null)
+                    .venue(inventory.getVenue())
+                    .ticketPrice(inventory.getTicketPrice())
+                    .build();
+        }
+
+    }
+
+}
\ No newline at end of file
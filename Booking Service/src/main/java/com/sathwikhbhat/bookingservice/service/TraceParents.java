@@ -0,0 +1,62 @@
+package com.sathwikhbhat.bookingservice.service;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Carries trace context across the outbox: the W3C traceparent of the booking request is stored with the
+ * outbox row and the relay starts its send span from it, so the Kafka hop stays in the request's trace.
+ */
+@Component
+public class TraceParents {
+
+    private static final String TRACE_PARENT = "traceparent";
+
+    private final Tracer tracer;
+    private final Propagator propagator;
+
+    @Autowired
+    public TraceParents(final Tracer tracer, final Propagator propagator) {
+        this.tracer = tracer;
+        this.propagator = propagator;
+    }
+
+    /**
+     * @return traceparent of the current span, or null when nothing is being traced
+     */
+    public String current() {
+        final Span span = tracer.currentSpan();
+        if (span == null) {
+            return null;
+        }
+        final Map<String, String> carrier = new HashMap<>();
+        propagator.inject(span.context(), carrier, Map::put);
+        return carrier.get(TRACE_PARENT);
+    }
+
+    /**
+     * Runs the work in a new span that continues the given traceparent, or starts a new trace if there is none.
+     */
+    public <T> T inSpan(final String name, final String traceParent, final Supplier<T> work) {
+        final Span.Builder builder = traceParent == null
+                ? tracer.spanBuilder()
+                : propagator.extract(Map.of(TRACE_PARENT, traceParent), Map::get);
+        final Span span = builder.name(name).start();
+        try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
+            return work.get();
+        } catch (RuntimeException e) {
+            span.error(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,73 @@
+package com.sathwikhbhat.bookingservice.config;
+
+import com.sathwikhbhat.bookingservice.client.InventoryServiceClient;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InventoryClientConfigTest {
+
+    private final Set<InetSocketAddress> clientSockets = new HashSet<>();
+    private HttpServer inventoryStub;
+    private String inventoryUrl;
+
+    @BeforeEach
+    void startInventoryStub() throws IOException {
+        inventoryStub = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        inventoryStub.createContext("/api/v1/inventory/event/", exchange -> {
+            synchronized (clientSockets) {
+                clientSockets.add(exchange.getRemoteAddress());
+            }
+            final byte[] body = """
+                    {"eventId":1,"event":"Concert","capacity":100,"ticketPrice":10.00}"""
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set(HttpHeaders.CONTENT_TYPE, "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        inventoryStub.start();
+        inventoryUrl = "http://localhost:" + inventoryStub.getAddress().getPort() + "/api/v1/inventory";
+    }
+
+    @AfterEach
+    void stopInventoryStub() {
+        inventoryStub.stop(0);
+    }
+
+    @Test
+    void sequentialCallsReuseOnePooledConnection() {
+        final InventoryClientConfig config = new InventoryClientConfig();
+        ReflectionTestUtils.setField(config, "inventoryServiceUrl", inventoryUrl);
+        try (PoolingHttpClientConnectionManager connectionManager = config.inventoryConnectionManager(
+                10, 10, Duration.ofSeconds(2), Duration.ofSeconds(3))) {
+            final InventoryServiceClient client = new InventoryServiceClient(config.inventoryRestTemplate(
+                    new RestTemplateBuilder(), connectionManager, Duration.ofSeconds(30)));
+
+            for (int i = 0; i < 20; i++) {
+                assertThat(client.getInventory(1L).getCapacity()).isEqualTo(100L);
+            }
+
+            assertThat(clientSockets).hasSize(1);
+            assertThat(connectionManager.getTotalStats().getAvailable()).isEqualTo(1);
+            assertThat(connectionManager.getTotalStats().getLeased()).isZero();
+        }
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,148 @@
+package com.sathwikhbhat.bookingservice.service;
+
+import com.sathwikhbhat.bookingservice.entity.BookingOutbox;
+import com.sathwikhbhat.bookingservice.event.BookingEvent;
+import com.sathwikhbhat.bookingservice.repository.BookingOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BookingOutboxRelayTest {
+
+    @Autowired
+    private BookingOutboxRepository bookingOutboxRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private KafkaTemplate<String, BookingEvent> kafkaTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private BookingOutboxRelay relay;
+    private final List<BookingEvent> sent = new ArrayList<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        kafkaTemplate = mock(KafkaTemplate.class);
+        when(kafkaTemplate.send(eq("booking"), anyString(), any(BookingEvent.class))).thenAnswer(invocation -> {
+            sent.add(invocation.getArgument(2));
+            return CompletableFuture.completedFuture(mock(SendResult.class));
+        });
+        meterRegistry = new SimpleMeterRegistry();
+        relay = new BookingOutboxRelay(bookingOutboxRepository, kafkaTemplate, transactionTemplate, meterRegistry,
+                new TraceParents(Tracer.NOOP, Propagator.NOOP), "booking", 2, Duration.ofSeconds(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        bookingOutboxRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void relaysEveryEntryInOrderAndEmptiesTheOutbox() {
+        for (int i = 0; i < 5; i++) {
+            bookingOutboxRepository.save(outboxEntry("booking-" + i));
+        }
+
+        relay.relay();
+
+        assertThat(sent).extracting(BookingEvent::getBookingId)
+                .containsExactly("booking-0", "booking-1", "booking-2", "booking-3", "booking-4");
+        assertThat(sent).allSatisfy(event -> assertThat(event.getHoldId()).isEqualTo("hold"));
+        assertThat(bookingOutboxRepository.count()).isZero();
+        assertThat(meterRegistry.get("booking.outbox.relayed").counter().count()).isEqualTo(5);
+        assertThat(meterRegistry.get("booking.outbox.lag").timer().count()).isEqualTo(5);
+    }
+
+    @Test
+    void unacknowledgedEntriesStayInTheOutbox() {
+        bookingOutboxRepository.save(outboxEntry("acked"));
+        bookingOutboxRepository.save(outboxEntry("lost"));
+        when(kafkaTemplate.send(eq("booking"), anyString(), any(BookingEvent.class)))
+                .thenReturn(CompletableFuture.completedFuture(null))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        relay.relay();
+
+        assertThat(bookingOutboxRepository.findAll()).extracting(BookingOutbox::getBookingId).containsExactly("lost");
+        assertThat(meterRegistry.get("booking.outbox.failed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void stopsRelayingAnEventOnceOneOfItsRowsFailsToBeSent() {
+        bookingOutboxRepository.save(outboxEntry("first", 1L));
+        bookingOutboxRepository.save(outboxEntry("other", 2L));
+        bookingOutboxRepository.save(outboxEntry("second", 1L));
+        when(kafkaTemplate.send(eq("booking"), eq("1"), any(BookingEvent.class)))
+                .thenThrow(new IllegalStateException("metadata not available"));
+
+        relay.relay();
+
+        assertThat(sent).extracting(BookingEvent::getBookingId).containsExactly("other");
+        assertThat(bookingOutboxRepository.findAll()).extracting(BookingOutbox::getBookingId)
+                .containsExactly("first", "second");
+    }
+
+    @Test
+    void keepsLaterRowsOfAnEventWhoseEarlierRowWasNotAcknowledged() {
+        bookingOutboxRepository.save(outboxEntry("lost", 1L));
+        bookingOutboxRepository.save(outboxEntry("other", 2L));
+        bookingOutboxRepository.save(outboxEntry("after-lost", 1L));
+        when(kafkaTemplate.send(eq("booking"), eq("1"), any(BookingEvent.class)))
+                .thenReturn(CompletableFuture.supplyAsync(() -> {
+                    throw new IllegalStateException("broker down");
+                }, CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS)))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        relay.relay();
+
+        assertThat(bookingOutboxRepository.findAll()).extracting(BookingOutbox::getBookingId)
+                .containsExactly("lost", "after-lost");
+        assertThat(meterRegistry.get("booking.outbox.relayed").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("booking.outbox.failed").counter().count()).isEqualTo(1);
+    }
+
+    private static BookingOutbox outboxEntry(final String bookingId) {
+        return outboxEntry(bookingId, 1L);
+    }
+
+    private static BookingOutbox outboxEntry(final String bookingId, final long eventId) {
+        return BookingOutbox.builder()
+                .bookingId(bookingId)
+                .userId(1L)
+                .eventId(eventId)
+                .ticketCount(2L)
+                .totalPrice(BigDecimal.TEN)
+                .holdId("hold")
+                .build();
+    }
+
+}
\ No newline at end of file
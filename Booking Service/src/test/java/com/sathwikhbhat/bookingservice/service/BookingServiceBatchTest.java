@@ -0,0 +1,126 @@
+package com.sathwikhbhat.bookingservice.service;
+
+import com.sathwikhbhat.bookingservice.client.InventoryServiceClient;
+import com.sathwikhbhat.bookingservice.entity.BookingOutbox;
+import com.sathwikhbhat.bookingservice.entity.Customer;
+import com.sathwikhbhat.bookingservice.repository.BookingOutboxRepository;
+import com.sathwikhbhat.bookingservice.repository.CustomerRepository;
+import com.sathwikhbhat.bookingservice.request.BatchBookingRequest;
+import com.sathwikhbhat.bookingservice.response.BatchBookingResponse;
+import com.sathwikhbhat.bookingservice.response.BookingResponse;
+import com.sathwikhbhat.bookingservice.response.InventoryResponse;
+import com.sathwikhbhat.bookingservice.response.SeatHoldResponse;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BookingServiceBatchTest {
+
+    private final CustomerRepository customerRepository = mock(CustomerRepository.class);
+    private final InventoryServiceClient inventoryServiceClient = mock(InventoryServiceClient.class);
+    private final InventoryCache inventoryCache = mock(InventoryCache.class);
+    private final BookingOutboxRepository bookingOutboxRepository = mock(BookingOutboxRepository.class);
+    private BookingService bookingService;
+
+    @BeforeEach
+    void setUp() {
+        when(customerRepository.findById(1L))
+                .thenReturn(Optional.of(new Customer(1L, "Ada", "ada@example.com", "Main Street")));
+        when(inventoryCache.getInventories(any())).thenReturn(Map.of(
+                10L, new InventoryResponse(10L, "Concert", 100L, null, BigDecimal.TEN),
+                20L, new InventoryResponse(20L, "Play", 100L, null, BigDecimal.ONE)));
+        bookingService = new BookingService(customerRepository, inventoryServiceClient, inventoryCache,
+                bookingOutboxRepository, ObservationRegistry.NOOP, new TraceParents(Tracer.NOOP, Propagator.NOOP));
+    }
+
+    @Test
+    void holdsEveryEventOnceAndQueuesAllBookingsTogether() {
+        when(inventoryServiceClient.holdSeats(Map.of(10L, 3L, 20L, 4L))).thenReturn(Optional.of(List.of(
+                new SeatHoldResponse("hold-10", 10L, 3L, Instant.now()),
+                new SeatHoldResponse("hold-20", 20L, 4L, Instant.now()))));
+
+        final BatchBookingResponse response = bookingService.createBookings(batch(
+                new BatchBookingRequest.Item(10L, 1L),
+                new BatchBookingRequest.Item(20L, 4L),
+                new BatchBookingRequest.Item(10L, 2L)));
+
+        assertThat(response.getBookings())
+                .extracting(BookingResponse::getEventId, BookingResponse::getTicketCount)
+                .containsExactly(tuple(10L, 3L), tuple(20L, 4L));
+        assertThat(response.getTotalPrice()).isEqualByComparingTo("34");
+
+        @SuppressWarnings("unchecked")
+        final ArgumentCaptor<List<BookingOutbox>> outbox = ArgumentCaptor.forClass(List.class);
+        verify(bookingOutboxRepository).saveAll(outbox.capture());
+        assertThat(outbox.getValue()).extracting(BookingOutbox::getHoldId).containsExactly("hold-10", "hold-20");
+        verify(customerRepository).findById(1L);
+    }
+
+    @Test
+    void nothingIsQueuedWhenAnyEventIsShort() {
+        when(inventoryServiceClient.holdSeats(anyMap())).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> bookingService.createBookings(batch(
+                new BatchBookingRequest.Item(10L, 1L),
+                new BatchBookingRequest.Item(20L, 1L))))
+                .hasMessage("Not enough inventory");
+
+        verify(bookingOutboxRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void holdsAreReleasedWhenTheOutboxWriteFails() {
+        when(inventoryServiceClient.holdSeats(anyMap())).thenReturn(Optional.of(List.of(
+                new SeatHoldResponse("hold-10", 10L, 1L, Instant.now()),
+                new SeatHoldResponse("hold-20", 20L, 1L, Instant.now()))));
+        when(bookingOutboxRepository.saveAll(any())).thenThrow(new IllegalStateException("database down"));
+
+        assertThatThrownBy(() -> bookingService.createBookings(batch(
+                new BatchBookingRequest.Item(10L, 1L),
+                new BatchBookingRequest.Item(20L, 1L))))
+                .hasMessage("database down");
+
+        verify(inventoryServiceClient).releaseHold("hold-10");
+        verify(inventoryServiceClient).releaseHold("hold-20");
+    }
+
+    @Test
+    void itemsWithoutEventOrTicketsAreRejectedBeforeAnyLookup() {
+        assertThatThrownBy(() -> bookingService.createBookings(batch(
+                new BatchBookingRequest.Item(10L, 1L),
+                new BatchBookingRequest.Item(20L, null))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> bookingService.createBookings(batch(new BatchBookingRequest.Item(null, 1L))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> bookingService.createBookings(batch(new BatchBookingRequest.Item(10L, 0L))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> bookingService.createBookings(batch()))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verify(customerRepository, never()).findById(any());
+    }
+
+    private static BatchBookingRequest batch(final BatchBookingRequest.Item... items) {
+        return new BatchBookingRequest(1L, List.of(items));
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,156 @@
+package com.sathwikhbhat.bookingservice.service;
+
+import com.sathwikhbhat.bookingservice.client.InventoryServiceClient;
+import com.sathwikhbhat.bookingservice.config.InventoryClientConfig;
+import com.sathwikhbhat.bookingservice.entity.Customer;
+import com.sathwikhbhat.bookingservice.repository.BookingOutboxRepository;
+import com.sathwikhbhat.bookingservice.repository.CustomerRepository;
+import com.sathwikhbhat.bookingservice.request.BookingRequest;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Drives {@link BookingService#createBooking} against a local stand-in for Inventory Service and compares
+ * tail latency of the default, unpooled RestTemplate with the pooled keep-alive client. Tagged slow, so it only
+ * runs with {@code -Pslow-tests}; connection reuse itself is checked by {@code InventoryClientConfigTest}.
+ */
+@Slf4j
+@Tag("slow")
+class BookingServiceLoadTest {
+
+    private static final int THREADS = 16;
+    private static final int REQUESTS = 2_000;
+
+    private static HttpServer inventoryStub;
+    private static String inventoryUrl;
+
+    @BeforeAll
+    static void startInventoryStub() throws IOException {
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        inventoryStub = HttpServer.create(new InetSocketAddress("localhost", 0), 512);
+        inventoryStub.createContext("/api/v1/inventory/event/", exchange -> {
+            if ("POST".equals(exchange.getRequestMethod())) {
+                respond(exchange, 201, """
+                        {"holdId":"hold-1","eventId":1,"ticketCount":2,"expiresAt":"2030-01-01T00:00:00Z"}""");
+            } else {
+                respond(exchange, 200, """
+                        {"eventId":1,"event":"Concert","capacity":1000000,"ticketPrice":100.00}""");
+            }
+        });
+        inventoryStub.setExecutor(Executors.newFixedThreadPool(THREADS));
+        inventoryStub.start();
+        inventoryUrl = "http://localhost:" + inventoryStub.getAddress().getPort() + "/api/v1/inventory";
+    }
+
+    @AfterAll
+    static void stopInventoryStub() {
+        inventoryStub.stop(0);
+    }
+
+    @Test
+    void pooledClientAgainstUnpooledRestTemplate() throws Exception {
+        final RestTemplate unpooled = new RestTemplateBuilder()
+                .rootUri(inventoryUrl)
+                .requestFactory(SimpleClientHttpRequestFactory::new)
+                .build();
+        final long[] before = run(unpooled);
+
+        final InventoryClientConfig config = new InventoryClientConfig();
+        ReflectionTestUtils.setField(config, "inventoryServiceUrl", inventoryUrl);
+        try (PoolingHttpClientConnectionManager connectionManager = config.inventoryConnectionManager(
+                200, 100, Duration.ofSeconds(2), Duration.ofSeconds(3))) {
+            final long[] after = run(config.inventoryRestTemplate(new RestTemplateBuilder(), connectionManager,
+                    Duration.ofSeconds(30)));
+
+            log.info("createBooking unpooled RestTemplate: p50={}us p99={}us",
+                    percentile(before, 50), percentile(before, 99));
+            log.info("createBooking pooled keep-alive:    p50={}us p99={}us",
+                    percentile(after, 50), percentile(after, 99));
+            assertThat(connectionManager.getTotalStats().getAvailable()).isPositive();
+        }
+    }
+
+    private static long[] run(final RestTemplate restTemplate) throws Exception {
+        final CustomerRepository customerRepository = mock(CustomerRepository.class);
+        when(customerRepository.findById(any())).thenReturn(Optional.of(new Customer(1L, "Ada", "ada@example.com", "Main Street")));
+        final BookingOutboxRepository bookingOutboxRepository = mock(BookingOutboxRepository.class);
+        final InventoryServiceClient inventoryServiceClient = new InventoryServiceClient(restTemplate);
+        final InventoryCache inventoryCache = new InventoryCache(inventoryServiceClient, new SimpleMeterRegistry(),
+                1_000, Duration.ofMinutes(10), Duration.ofSeconds(2));
+        final BookingService bookingService = new BookingService(customerRepository, inventoryServiceClient,
+                inventoryCache, bookingOutboxRepository, ObservationRegistry.NOOP,
+                new TraceParents(Tracer.NOOP, Propagator.NOOP));
+        final BookingRequest request = new BookingRequest(1L, 1L, 2L);
+
+        final long[] latencies = new long[REQUESTS];
+        final AtomicInteger next = new AtomicInteger();
+        final List<Future<Void>> workers = new ArrayList<>(THREADS);
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            for (int t = 0; t < THREADS; t++) {
+                workers.add(executor.submit(() -> {
+                    int i;
+                    while ((i = next.getAndIncrement()) < REQUESTS) {
+                        final long start = System.nanoTime();
+                        bookingService.createBooking(request);
+                        latencies[i] = System.nanoTime() - start;
+                    }
+                    return null;
+                }));
+            }
+        }
+        for (Future<Void> worker : workers) {
+            worker.get();
+        }
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    private static long percentile(final long[] sortedNanos, final int percentile) {
+        return sortedNanos[(int) Math.ceil(percentile / 100.0 * sortedNanos.length) - 1] / 1_000;
+    }
+
+    private static void respond(final HttpExchange exchange, final int status, final String body) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        final byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set(HttpHeaders.CONTENT_TYPE, "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+}
@@ -0,0 +1,106 @@
+package com.sathwikhbhat.bookingservice.service;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.sathwikhbhat.bookingservice.client.InventoryServiceClient;
+import com.sathwikhbhat.bookingservice.event.InventoryCapacityEvent;
+import com.sathwikhbhat.bookingservice.response.InventoryResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class InventoryCacheTest {
+
+    private static final long EVENT_ID = 1L;
+
+    private final InventoryServiceClient inventoryServiceClient = mock(InventoryServiceClient.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong nanos = new AtomicLong();
+    private InventoryCache inventoryCache;
+
+    @BeforeEach
+    void setUp() {
+        when(inventoryServiceClient.getInventory(EVENT_ID)).thenReturn(InventoryResponse.builder()
+                .eventId(EVENT_ID)
+                .event("Concert")
+                .capacity(100L)
+                .ticketPrice(BigDecimal.TEN)
+                .build());
+        final Ticker ticker = nanos::get;
+        inventoryCache = new InventoryCache(inventoryServiceClient, meterRegistry, 100,
+                Duration.ofMinutes(10), Duration.ofSeconds(2), ticker);
+    }
+
+    @Test
+    void repeatedLookupsAreServedLocally() {
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(inventoryCache.getInventory(EVENT_ID).getTicketPrice()).isEqualTo(BigDecimal.TEN);
+        }
+
+        verify(inventoryServiceClient, times(1)).getInventory(EVENT_ID);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(999);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void staleCapacityIsNotReported() {
+        assertThat(inventoryCache.getInventory(EVENT_ID).getCapacity()).isEqualTo(100L);
+
+        nanos.addAndGet(Duration.ofSeconds(3).toNanos());
+
+        final InventoryResponse inventory = inventoryCache.getInventory(EVENT_ID);
+        assertThat(inventory.getCapacity()).isNull();
+        assertThat(inventory.getTicketPrice()).isEqualTo(BigDecimal.TEN);
+    }
+
+    @Test
+    void capacityEventsRefreshTheHint() {
+        inventoryCache.getInventory(EVENT_ID);
+        nanos.addAndGet(Duration.ofSeconds(3).toNanos());
+
+        inventoryCache.onCapacityChanged(new InventoryCapacityEvent(EVENT_ID, 40L));
+        inventoryCache.onCapacityChanged(new InventoryCapacityEvent(2L, 5L));
+
+        assertThat(inventoryCache.getInventory(EVENT_ID).getCapacity()).isEqualTo(40L);
+        verify(inventoryServiceClient, times(1)).getInventory(EVENT_ID);
+    }
+
+    @Test
+    void entriesExpireAfterTtl() {
+        inventoryCache.getInventory(EVENT_ID);
+        nanos.addAndGet(Duration.ofMinutes(11).toNanos());
+
+        inventoryCache.getInventory(EVENT_ID);
+
+        verify(inventoryServiceClient, times(2)).getInventory(EVENT_ID);
+    }
+
+    @Test
+    void bulkLookupFetchesOnlyMissingEventsInOneCall() {
+        inventoryCache.getInventory(EVENT_ID);
+        when(inventoryServiceClient.getInventories(List.of(2L, 3L))).thenReturn(List.of(InventoryResponse.builder()
+                .eventId(2L)
+                .event("Play")
+                .capacity(5L)
+                .ticketPrice(BigDecimal.ONE)
+                .build()));
+
+        final Map<Long, InventoryResponse> inventories = inventoryCache.getInventories(List.of(EVENT_ID, 2L, 3L));
+
+        assertThat(inventories).containsOnlyKeys(EVENT_ID, 2L);
+        assertThat(inventories.get(2L).getCapacity()).isEqualTo(5L);
+        verify(inventoryServiceClient, times(1)).getInventories(List.of(2L, 3L));
+    }
+
+}
\ No newline at end of file
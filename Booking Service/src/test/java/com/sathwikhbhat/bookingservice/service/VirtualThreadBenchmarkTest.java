@@ -0,0 +1,141 @@
+package com.sathwikhbhat.bookingservice.service;
+
+import com.sathwikhbhat.bookingservice.client.InventoryServiceClient;
+import com.sathwikhbhat.bookingservice.entity.Customer;
+import com.sathwikhbhat.bookingservice.repository.BookingOutboxRepository;
+import com.sathwikhbhat.bookingservice.repository.CustomerRepository;
+import com.sathwikhbhat.bookingservice.request.BookingRequest;
+import com.sathwikhbhat.bookingservice.response.InventoryResponse;
+import com.sathwikhbhat.bookingservice.response.SeatHoldResponse;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs 10k concurrent {@link BookingService#createBooking} calls, each blocking on a simulated customer
+ * lookup, inventory call and outbox insert, on a Tomcat-sized platform thread pool and on virtual threads.
+ * Database access goes through a 20 permit semaphore standing in for the JDBC pool. Tagged slow, so it only runs
+ * with {@code -Pslow-tests}.
+ */
+@Slf4j
+@Tag("slow")
+class VirtualThreadBenchmarkTest {
+
+    private static final int CLIENTS = 10_000;
+    private static final int TOMCAT_MAX_THREADS = 200;
+    private static final int JDBC_POOL_SIZE = 20;
+    private static final long DB_LATENCY_MS = 1;
+    private static final long INVENTORY_LATENCY_MS = 20;
+
+    @Test
+    void platformThreadsAgainstVirtualThreads() throws Exception {
+        final BookingService bookingService = bookingService();
+        final Logger bookingLog = (Logger) LoggerFactory.getLogger(BookingService.class);
+        final Level level = bookingLog.getLevel();
+        bookingLog.setLevel(Level.WARN);
+
+        final long[] platform;
+        final long[] virtual;
+        try {
+            try (ExecutorService executor = Executors.newFixedThreadPool(TOMCAT_MAX_THREADS)) {
+                platform = run(bookingService, executor);
+            }
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                virtual = run(bookingService, executor);
+            }
+        } finally {
+            bookingLog.setLevel(level);
+        }
+
+        log.info("{} clients, platform threads ({}): total={}ms p50={}ms p99={}ms", CLIENTS, TOMCAT_MAX_THREADS,
+                platform[CLIENTS], percentile(platform, 50), percentile(platform, 99));
+        log.info("{} clients, virtual threads:       total={}ms p50={}ms p99={}ms", CLIENTS,
+                virtual[CLIENTS], percentile(virtual, 50), percentile(virtual, 99));
+    }
+
+    /**
+     * @return sorted per-request latencies in millis, followed by the wall-clock time of the whole run
+     */
+    private static long[] run(final BookingService bookingService, final ExecutorService executor) throws Exception {
+        final BookingRequest request = new BookingRequest(1L, 1L, 2L);
+        final long start = System.nanoTime();
+        final List<Future<Long>> latencies = new ArrayList<>(CLIENTS);
+        for (int i = 0; i < CLIENTS; i++) {
+            final long submitted = System.nanoTime();
+            latencies.add(executor.submit(() -> {
+                bookingService.createBooking(request);
+                return (System.nanoTime() - submitted) / 1_000_000;
+            }));
+        }
+        final long[] result = new long[CLIENTS + 1];
+        for (int i = 0; i < CLIENTS; i++) {
+            result[i] = latencies.get(i).get();
+        }
+        result[CLIENTS] = (System.nanoTime() - start) / 1_000_000;
+        Arrays.sort(result, 0, CLIENTS);
+        return result;
+    }
+
+    private static BookingService bookingService() {
+        final Semaphore jdbcPool = new Semaphore(JDBC_POOL_SIZE);
+
+        final CustomerRepository customerRepository = mock(CustomerRepository.class);
+        when(customerRepository.findById(any())).thenAnswer(invocation -> {
+            useConnection(jdbcPool);
+            return Optional.of(new Customer(1L, "Ada", "ada@example.com", "Main Street"));
+        });
+        final BookingOutboxRepository bookingOutboxRepository = mock(BookingOutboxRepository.class);
+        when(bookingOutboxRepository.save(any())).thenAnswer(invocation -> {
+            useConnection(jdbcPool);
+            return invocation.getArgument(0);
+        });
+
+        final InventoryServiceClient inventoryServiceClient = mock(InventoryServiceClient.class);
+        when(inventoryServiceClient.holdSeats(anyLong(), anyLong())).thenAnswer(invocation -> {
+            Thread.sleep(INVENTORY_LATENCY_MS);
+            return Optional.of(new SeatHoldResponse("hold", 1L, 2L, Instant.now()));
+        });
+        final InventoryCache inventoryCache = mock(InventoryCache.class);
+        when(inventoryCache.getInventory(anyLong())).thenReturn(new InventoryResponse(1L, "Concert", 1_000_000L,
+                null, BigDecimal.TEN));
+
+        return new BookingService(customerRepository, inventoryServiceClient, inventoryCache, bookingOutboxRepository,
+                ObservationRegistry.NOOP, new TraceParents(Tracer.NOOP, Propagator.NOOP));
+    }
+
+    private static void useConnection(final Semaphore jdbcPool) throws InterruptedException {
+        jdbcPool.acquire();
+        try {
+            Thread.sleep(DB_LATENCY_MS);
+        } finally {
+            jdbcPool.release();
+        }
+    }
+
+    private static long percentile(final long[] sortedMillis, final int percentile) {
+        return sortedMillis[(int) Math.ceil(percentile / 100.0 * CLIENTS) - 1];
+    }
+
+}
\ No newline at end of file
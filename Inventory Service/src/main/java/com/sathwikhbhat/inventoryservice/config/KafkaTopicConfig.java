@@ -0,0 +1,20 @@
+package com.sathwikhbhat.inventoryservice.config;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+
+@Configuration
+public class KafkaTopicConfig {
+
+    @Bean
+    public NewTopic inventoryCapacityTopic(@Value("${inventory.capacity.topic}") final String topic) {
+        return TopicBuilder.name(topic)
+                .partitions(1)
+                .compact()
+                .build();
+    }
+
+}
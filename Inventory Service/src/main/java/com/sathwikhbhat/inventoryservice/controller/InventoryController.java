@@ -1,32 +1,134 @@
 package com.sathwikhbhat.inventoryservice.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.sathwikhbhat.inventoryservice.request.CapacityDeltaRequest;
+import com.sathwikhbhat.inventoryservice.request.CapacityUpdateRequest;
+import com.sathwikhbhat.inventoryservice.request.HoldConfirmationRequest;
+import com.sathwikhbhat.inventoryservice.request.SeatHoldRequest;
+import com.sathwikhbhat.inventoryservice.response.CapacityDeltaResponse;
+import com.sathwikhbhat.inventoryservice.response.CapacityUpdateResponse;
 import com.sathwikhbhat.inventoryservice.response.EventInventoryResponse;
+import com.sathwikhbhat.inventoryservice.response.HoldConfirmationResponse;
+import com.sathwikhbhat.inventoryservice.response.SeatHoldResponse;
+import com.sathwikhbhat.inventoryservice.response.SectionAvailabilityResponse;
 import com.sathwikhbhat.inventoryservice.response.VenueInventoryResponse;
+import com.sathwikhbhat.inventoryservice.service.EventCatalogSnapshot;
 import com.sathwikhbhat.inventoryservice.service.InventoryService;
+import com.sathwikhbhat.inventoryservice.service.SeatHold;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/v1/inventory")
 public class InventoryController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    static final String SNAPSHOT_VERSION_HEADER = "X-Snapshot-Version";
+    static final int BOOKING_ID_MAX_LENGTH = 36;
+
     private final InventoryService inventoryService;
+    private final ObjectMapper objectMapper;
+    private final int defaultPageSize;
+    private final int maxPageSize;
 
     @Autowired
-    public InventoryController(final InventoryService inventoryService) {
+    public InventoryController(final InventoryService inventoryService,
+                               final ObjectMapper objectMapper,
+                               @Value("${inventory.events.default-page-size}") final int defaultPageSize,
+                               @Value("${inventory.events.max-page-size}") final int maxPageSize) {
         this.inventoryService = inventoryService;
+        this.objectMapper = objectMapper;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
     }
 
+    /**
+     * One page of events ordered by id. When the page is full, the id to pass as {@code after} for the next page
+     * is returned in the {@value #NEXT_CURSOR_HEADER} header.
+     */
     @GetMapping("/events")
-    public List<EventInventoryResponse> inventoryGetAllEvents() {
-        return inventoryService.getAllEvents();
+    public ResponseEntity<List<EventInventoryResponse>> inventoryGetEvents(
+            @RequestParam(required = false) final Long venueId,
+            @RequestParam(defaultValue = "0") final Long after,
+            @RequestParam(required = false) final Integer limit) {
+        final int pageSize = Math.clamp(limit == null ? defaultPageSize : limit, 1, maxPageSize);
+        final List<EventInventoryResponse> events = inventoryService.getEvents(venueId, after, pageSize);
+        final ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (events.size() == pageSize) {
+            response.header(NEXT_CURSOR_HEADER, String.valueOf(events.getLast().getEventId()));
+        }
+        return response.body(events);
+    }
+
+    /**
+     * The events with the given ids, ordered by id. Unknown ids are left out.
+     */
+    @PostMapping("/events/lookup")
+    public ResponseEntity<List<EventInventoryResponse>> inventoryLookupEvents(
+            @RequestBody final List<Long> eventIds) {
+        if (eventIds.size() > maxPageSize) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(inventoryService.getEventInventories(eventIds));
+    }
+
+    /**
+     * Every event as a single JSON array, written while the result set is scrolled.
+     */
+    @GetMapping(value = "/events/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public StreamingResponseBody inventoryStreamEvents(@RequestParam(required = false) final Long venueId) {
+        return outputStream -> {
+            try (SequenceWriter writer = objectMapper.writer().writeValuesAsArray(outputStream)) {
+                inventoryService.streamEvents(venueId, event -> {
+                    try {
+                        writer.write(event);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+    }
+
+    /**
+     * The whole catalog from the in-memory snapshot. A matching If-None-Match gets a 304 with no body; clients
+     * that accept gzip get the pre-compressed bytes.
+     */
+    @GetMapping(value = "/events/snapshot", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> inventoryEventsSnapshot(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) final String acceptEncoding) {
+        final EventCatalogSnapshot.Snapshot snapshot = inventoryService.getEventsSnapshot();
+        final boolean gzipped = acceptEncoding != null && acceptEncoding.contains("gzip");
+        final ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(snapshot.etag(gzipped))
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .header(SNAPSHOT_VERSION_HEADER, String.valueOf(snapshot.version()));
+        if (gzipped) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(snapshot.gzip());
+        }
+        return response.body(snapshot.json());
     }
 
     @GetMapping("/venue/{venueId}")
@@ -41,7 +143,102 @@ public class InventoryController {
 
     @PutMapping("/event/{eventId}/capacity/{ticketsBooked}")
     public ResponseEntity<Void> updateEventCapacity(@PathVariable Long eventId, @PathVariable Long ticketsBooked) {
-        inventoryService.updateEventCapacity(eventId, ticketsBooked);
+        if (!inventoryService.updateEventCapacity(eventId, ticketsBooked)) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Takes the tickets of each booking off the event at most once per booking id. Bookings are applied on their
+     * own; the result lists the ones rejected for lack of seats.
+     */
+    @PutMapping("/event/{eventId}/capacity")
+    public ResponseEntity<CapacityUpdateResponse> updateEventCapacity(@PathVariable Long eventId,
+                                                                      @RequestBody CapacityUpdateRequest request) {
+        final Map<String, Long> ticketsByBookingId = request.getTicketsByBookingId();
+        if (ticketsByBookingId == null || ticketsByBookingId.keySet().stream()
+                .anyMatch(bookingId -> bookingId.length() > BOOKING_ID_MAX_LENGTH)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(CapacityUpdateResponse.builder()
+                .rejectedBookingIds(inventoryService.updateEventCapacity(eventId, ticketsByBookingId))
+                .build());
+    }
+
+    /**
+     * Takes booked tickets off several events. Each item is applied on its own; the result says which ones were
+     * applied and the left capacity afterwards. Not routed through the gateway.
+     */
+    @PutMapping("/events/capacity")
+    public ResponseEntity<CapacityDeltaResponse> updateEventCapacities(@RequestBody CapacityDeltaRequest request) {
+        final List<CapacityDeltaRequest.Item> items = request.getItems();
+        if (items == null || items.isEmpty() || items.size() > maxPageSize || items.stream().anyMatch(item ->
+                item.getEventId() == null || item.getTicketsBooked() == null || item.getTicketsBooked() <= 0)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(inventoryService.updateEventCapacities(items));
+    }
+
+    @PostMapping("/event/{eventId}/hold/{ticketCount}")
+    public ResponseEntity<SeatHoldResponse> holdSeats(@PathVariable Long eventId, @PathVariable Long ticketCount) {
+        return inventoryService.holdSeats(eventId, ticketCount)
+                .map(hold -> ResponseEntity.status(HttpStatus.CREATED).body(hold))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.CONFLICT).build());
+    }
+
+    /**
+     * Holds tickets for several events, all or nothing. Returns 409 and holds nothing if any event has too few
+     * tickets left.
+     */
+    @PostMapping("/holds")
+    public ResponseEntity<List<SeatHoldResponse>> holdSeats(@RequestBody SeatHoldRequest request) {
+        return inventoryService.holdSeats(request.getTicketsByEventId())
+                .map(holds -> ResponseEntity.status(HttpStatus.CREATED).body(holds))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.CONFLICT).build());
+    }
+
+    /**
+     * Holds adjacent assigned seats, from {@code sectionId} if given, otherwise from the best section that has
+     * them. Returns 409 if no row has enough adjacent free seats.
+     */
+    @PostMapping("/event/{eventId}/seats/hold/{ticketCount}")
+    public ResponseEntity<SeatHoldResponse> holdAssignedSeats(@PathVariable Long eventId,
+                                                              @PathVariable Long ticketCount,
+                                                              @RequestParam(required = false) Long sectionId) {
+        return inventoryService.holdAssignedSeats(eventId, ticketCount, sectionId)
+                .map(hold -> ResponseEntity.status(HttpStatus.CREATED).body(hold))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.CONFLICT).build());
+    }
+
+    @GetMapping("/event/{eventId}/seats")
+    public List<SectionAvailabilityResponse> seatAvailability(@PathVariable final Long eventId) {
+        return inventoryService.getSeatAvailability(eventId);
+    }
+
+    @PutMapping("/hold/{holdId}/confirm")
+    public ResponseEntity<Void> confirmHold(@PathVariable String holdId) {
+        return holdOutcome(inventoryService.confirmHold(holdId), SeatHold.State.CONFIRMED);
+    }
+
+    @PutMapping("/holds/confirm")
+    public HoldConfirmationResponse confirmHolds(@RequestBody HoldConfirmationRequest request) {
+        return inventoryService.confirmHolds(request.getHoldIds());
+    }
+
+    @DeleteMapping("/hold/{holdId}")
+    public ResponseEntity<Void> releaseHold(@PathVariable String holdId) {
+        return holdOutcome(inventoryService.releaseHold(holdId), SeatHold.State.RELEASED);
+    }
+
+    private static ResponseEntity<Void> holdOutcome(final Optional<SeatHold.State> state,
+                                                    final SeatHold.State expected) {
+        if (state.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (state.get() != expected) {
+            return ResponseEntity.status(HttpStatus.GONE).build();
+        }
         return ResponseEntity.noContent().build();
     }
 
@@ -0,0 +1,26 @@
+package com.sathwikhbhat.inventoryservice.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * A booking whose tickets were taken off its event, so a redelivered booking is never deducted twice.
+ */
+@Entity
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class AppliedBooking {
+
+    @Id
+    private String bookingId;
+    private Long eventId;
+    private Long ticketCount;
+    private Long appliedAtMillis;
+
+}
\ No newline at end of file
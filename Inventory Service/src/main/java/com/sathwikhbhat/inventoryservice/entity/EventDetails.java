@@ -0,0 +1,42 @@
+package com.sathwikhbhat.inventoryservice.entity;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+
+/**
+ * Read-only view of the {@code event} columns that rarely change, kept in the second-level cache. Left capacity
+ * is deliberately not mapped here: it is only read through the uncached {@link Event}.
+ */
+@Entity
+@Table(name = "event")
+@Immutable
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "event-details")
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class EventDetails {
+
+    @Id
+    private Long id;
+    private String name;
+
+    @ManyToOne
+    @JoinColumn(name = "venue_id", nullable = false)
+    private Venue venue;
+
+    private BigDecimal ticketPrice;
+
+}
\ No newline at end of file
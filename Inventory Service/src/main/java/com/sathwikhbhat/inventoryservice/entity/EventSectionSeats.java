@@ -0,0 +1,30 @@
+package com.sathwikhbhat.inventoryservice.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Sold seats of one section for one event, one bit per seat and eight bytes per row.
+ */
+@Entity
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class EventSectionSeats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    private Long eventId;
+    private Long sectionId;
+    private byte[] soldSeats;
+    private Long version;
+
+}
\ No newline at end of file
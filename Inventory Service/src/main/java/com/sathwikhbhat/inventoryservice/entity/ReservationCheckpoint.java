@@ -0,0 +1,23 @@
+package com.sathwikhbhat.inventoryservice.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReservationCheckpoint {
+
+    public static final Long SINGLETON_ID = 1L;
+
+    @Id
+    private Long id;
+    private Long journalSequence;
+
+}
@@ -0,0 +1,37 @@
+package com.sathwikhbhat.inventoryservice.entity;
+
+import com.sathwikhbhat.inventoryservice.service.SeatHold;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Durable copy of a seat hold, written back with the capacity it took. Section, row and first seat are only
+ * set for assigned seats.
+ */
+@Entity
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "seat_hold")
+public class SeatHoldRecord {
+
+    @Id
+    private String holdId;
+    private Long eventId;
+    private Long ticketCount;
+    @Enumerated(EnumType.STRING)
+    private SeatHold.State state;
+    private Long expiresAtMillis;
+    private Long sectionId;
+    private Integer seatRow;
+    private Integer firstSeat;
+
+}
\ No newline at end of file
@@ -0,0 +1,37 @@
+package com.sathwikhbhat.inventoryservice.entity;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+/**
+ * A block of seats in a venue with the same number of seats in every row. Sections with a lower priority are
+ * offered first when seats are picked for the buyer.
+ */
+@Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "venue-section")
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class VenueSection {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    private Long venueId;
+    private String name;
+    private Integer rowCount;
+    private Integer seatsPerRow;
+    private Integer priority;
+
+}
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.sathwikhbhat.inventoryservice.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class InventoryCapacityEvent {
+
+    private Long eventId;
+    private Long leftCapacity;
+
+}
@@ -0,0 +1,14 @@
+package com.sathwikhbhat.inventoryservice.repository;
+
+import com.sathwikhbhat.inventoryservice.entity.AppliedBooking;
+
+import java.util.Collection;
+
+public interface AppliedBookingBatchRepository {
+
+    /**
+     * Inserts all bookings with a single JDBC batch. Bookings already recorded are skipped.
+     */
+    void insertAll(Collection<AppliedBooking> bookings);
+
+}
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.sathwikhbhat.inventoryservice.repository;
+
+import com.sathwikhbhat.inventoryservice.entity.AppliedBooking;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Collection;
+import java.util.List;
+
+public class AppliedBookingBatchRepositoryImpl implements AppliedBookingBatchRepository {
+
+    private static final String INSERT_APPLIED_BOOKING_SQL =
+            "INSERT INTO applied_booking (booking_id, event_id, ticket_count, applied_at_millis) "
+                    + "VALUES (?, ?, ?, ?) ON DUPLICATE KEY UPDATE booking_id = booking_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public AppliedBookingBatchRepositoryImpl(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void insertAll(final Collection<AppliedBooking> bookings) {
+        final List<Object[]> batchArgs = bookings.stream()
+                .map(booking -> new Object[]{booking.getBookingId(), booking.getEventId(), booking.getTicketCount(),
+                        booking.getAppliedAtMillis()})
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT_APPLIED_BOOKING_SQL, batchArgs);
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.sathwikhbhat.inventoryservice.repository;
+
+import com.sathwikhbhat.inventoryservice.entity.AppliedBooking;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface AppliedBookingRepository extends JpaRepository<AppliedBooking, String>, AppliedBookingBatchRepository {
+
+    @Query("SELECT b.bookingId FROM AppliedBooking b WHERE b.bookingId IN :bookingIds")
+    List<String> findAppliedBookingIds(@Param("bookingIds") Collection<String> bookingIds);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM AppliedBooking b WHERE b.appliedAtMillis < :appliedBeforeMillis")
+    int deleteAppliedBefore(@Param("appliedBeforeMillis") long appliedBeforeMillis);
+
+}
\ No newline at end of file
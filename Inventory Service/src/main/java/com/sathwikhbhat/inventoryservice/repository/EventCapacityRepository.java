@@ -0,0 +1,15 @@
+package com.sathwikhbhat.inventoryservice.repository;
+
+import java.util.List;
+import java.util.Map;
+
+public interface EventCapacityRepository {
+
+    /**
+     * Subtracts the tickets from each event's left capacity unless that would take it below zero.
+     *
+     * @return ids of the events that were left unchanged
+     */
+    List<Long> subtractLeftCapacities(Map<Long, Long> ticketsByEventId);
+
+}
\ No newline at end of file
@@ -0,0 +1,38 @@
+package com.sathwikhbhat.inventoryservice.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public class EventCapacityRepositoryImpl implements EventCapacityRepository {
+
+    private static final String SUBTRACT_LEFT_CAPACITY_SQL =
+            "UPDATE event SET left_capacity = left_capacity - ? WHERE id = ? AND left_capacity >= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public EventCapacityRepositoryImpl(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<Long> subtractLeftCapacities(final Map<Long, Long> ticketsByEventId) {
+        final List<Map.Entry<Long, Long>> entries = List.copyOf(ticketsByEventId.entrySet());
+        final List<Object[]> batchArgs = entries.stream()
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey(), entry.getValue()})
+                .toList();
+        final int[] updated = jdbcTemplate.batchUpdate(SUBTRACT_LEFT_CAPACITY_SQL, batchArgs);
+        final List<Long> rejected = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                rejected.add(entries.get(i).getKey());
+            }
+        }
+        return rejected;
+    }
+
+}
\ No newline at end of file
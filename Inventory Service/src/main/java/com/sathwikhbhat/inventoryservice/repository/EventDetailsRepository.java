@@ -0,0 +1,16 @@
+package com.sathwikhbhat.inventoryservice.repository;
+
+import com.sathwikhbhat.inventoryservice.entity.EventDetails;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Lookups of {@link EventDetails} by id, answered from the second-level cache after the first load.
+ */
+@Repository
+public interface EventDetailsRepository extends org.springframework.data.repository.Repository<EventDetails, Long> {
+
+    Optional<EventDetails> findById(Long id);
+
+}
\ No newline at end of file
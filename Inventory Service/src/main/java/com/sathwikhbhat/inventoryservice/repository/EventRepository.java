@@ -1,9 +1,44 @@
 package com.sathwikhbhat.inventoryservice.repository;
 
 import com.sathwikhbhat.inventoryservice.entity.Event;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
 @Repository
-public interface EventRepository extends JpaRepository<Event, Long> {
+public interface EventRepository extends JpaRepository<Event, Long>, EventCapacityRepository {
+
+    String EVENT_SUMMARY = "SELECT new com.sathwikhbhat.inventoryservice.repository.EventSummary(" +
+            "e.id, e.name, e.ticketPrice, v.id, v.name, v.address, v.totalCapacity) " +
+            "FROM Event e JOIN e.venue v ";
+
+    /**
+     * Keyset page of events ordered by id, starting after {@code afterId}, optionally restricted to one venue.
+     */
+    @Query(EVENT_SUMMARY + "WHERE e.id > :afterId AND (:venueId IS NULL OR v.id = :venueId) ORDER BY e.id")
+    List<EventSummary> findSummariesAfter(@Param("afterId") Long afterId, @Param("venueId") Long venueId,
+                                          Limit limit);
+
+    @Query(EVENT_SUMMARY + "WHERE e.id IN :eventIds ORDER BY e.id")
+    List<EventSummary> findSummariesByIds(@Param("eventIds") Collection<Long> eventIds);
+
+    /**
+     * Scrolls every event in id order. Must be consumed inside a transaction and closed by the caller.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(EVENT_SUMMARY + "WHERE :venueId IS NULL OR v.id = :venueId ORDER BY e.id")
+    Stream<EventSummary> streamSummaries(@Param("venueId") Long venueId);
+
 }
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.sathwikhbhat.inventoryservice.repository;
+
+import com.sathwikhbhat.inventoryservice.entity.EventSectionSeats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public interface EventSectionSeatsRepository extends JpaRepository<EventSectionSeats, Long> {
+
+    List<EventSectionSeats> findByEventId(Long eventId);
+
+    /**
+     * Stores a snapshot of the section's sold seats unless a newer snapshot was already written.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE EventSectionSeats s SET s.soldSeats = :soldSeats, s.version = :version " +
+            "WHERE s.eventId = :eventId AND s.sectionId = :sectionId AND s.version < :version")
+    int updateSoldSeats(@Param("eventId") Long eventId, @Param("sectionId") Long sectionId,
+                       @Param("soldSeats") byte[] soldSeats, @Param("version") Long version);
+
+}
\ No newline at end of file
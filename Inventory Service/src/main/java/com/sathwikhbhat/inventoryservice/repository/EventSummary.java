@@ -0,0 +1,29 @@
+package com.sathwikhbhat.inventoryservice.repository;
+
+import com.sathwikhbhat.inventoryservice.entity.Venue;
+import com.sathwikhbhat.inventoryservice.response.EventInventoryResponse;
+
+import java.math.BigDecimal;
+
+/**
+ * Event and venue columns read in a single join, without loading either entity into the persistence context.
+ */
+public record EventSummary(Long eventId,
+                           String eventName,
+                           BigDecimal ticketPrice,
+                           Long venueId,
+                           String venueName,
+                           String venueAddress,
+                           Long venueTotalCapacity) {
+
+    public EventInventoryResponse toEventInventoryResponse(final Long leftCapacity) {
+        return EventInventoryResponse.builder()
+                .eventId(eventId)
+                .event(eventName)
+                .capacity(leftCapacity)
+                .venue(new Venue(venueId, venueName, venueAddress, venueTotalCapacity))
+                .ticketPrice(ticketPrice)
+                .build();
+    }
+
+}
\ No newline at end of file
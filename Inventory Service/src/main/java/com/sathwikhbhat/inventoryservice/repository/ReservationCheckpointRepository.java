@@ -0,0 +1,17 @@
+package com.sathwikhbhat.inventoryservice.repository;
+
+import com.sathwikhbhat.inventoryservice.entity.ReservationCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ReservationCheckpointRepository extends JpaRepository<ReservationCheckpoint, Long> {
+
+    @Modifying
+    @Query("UPDATE ReservationCheckpoint c SET c.journalSequence = :journalSequence WHERE c.id = 1")
+    int updateJournalSequence(@Param("journalSequence") Long journalSequence);
+
+}
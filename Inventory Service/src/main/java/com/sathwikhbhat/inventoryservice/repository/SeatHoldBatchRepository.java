@@ -0,0 +1,14 @@
+package com.sathwikhbhat.inventoryservice.repository;
+
+import com.sathwikhbhat.inventoryservice.entity.SeatHoldRecord;
+
+import java.util.Collection;
+
+public interface SeatHoldBatchRepository {
+
+    /**
+     * Inserts new holds and updates the state of existing ones with a single JDBC batch.
+     */
+    void upsertAll(Collection<SeatHoldRecord> holds);
+
+}
\ No newline at end of file
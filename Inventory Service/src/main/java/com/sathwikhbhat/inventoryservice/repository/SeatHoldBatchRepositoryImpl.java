@@ -0,0 +1,34 @@
+package com.sathwikhbhat.inventoryservice.repository;
+
+import com.sathwikhbhat.inventoryservice.entity.SeatHoldRecord;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Collection;
+import java.util.List;
+
+public class SeatHoldBatchRepositoryImpl implements SeatHoldBatchRepository {
+
+    private static final String UPSERT_SEAT_HOLD_SQL =
+            "INSERT INTO seat_hold (hold_id, event_id, ticket_count, state, expires_at_millis, section_id, "
+                    + "seat_row, first_seat) VALUES (?, ?, ?, ?, ?, ?, ?, ?) "
+                    + "ON DUPLICATE KEY UPDATE state = VALUES(state)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public SeatHoldBatchRepositoryImpl(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void upsertAll(final Collection<SeatHoldRecord> holds) {
+        final List<Object[]> batchArgs = holds.stream()
+                .map(hold -> new Object[]{hold.getHoldId(), hold.getEventId(), hold.getTicketCount(),
+                        hold.getState().name(), hold.getExpiresAtMillis(), hold.getSectionId(), hold.getSeatRow(),
+                        hold.getFirstSeat()})
+                .toList();
+        jdbcTemplate.batchUpdate(UPSERT_SEAT_HOLD_SQL, batchArgs);
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.sathwikhbhat.inventoryservice.repository;
+
+import com.sathwikhbhat.inventoryservice.entity.SeatHoldRecord;
+import com.sathwikhbhat.inventoryservice.service.SeatHold;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public interface SeatHoldRecordRepository extends JpaRepository<SeatHoldRecord, String>, SeatHoldBatchRepository {
+
+    List<SeatHoldRecord> findByState(SeatHold.State state);
+
+    /**
+     * Deletes confirmed, released and expired holds whose deadline passed before {@code expiresBeforeMillis}.
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM SeatHoldRecord h WHERE h.state <> com.sathwikhbhat.inventoryservice.service.SeatHold.State.HELD "
+            + "AND h.expiresAtMillis < :expiresBeforeMillis")
+    int deleteFinishedBefore(@Param("expiresBeforeMillis") long expiresBeforeMillis);
+
+}
\ No newline at end of file
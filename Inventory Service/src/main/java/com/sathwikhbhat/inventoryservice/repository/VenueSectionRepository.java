@@ -0,0 +1,21 @@
+package com.sathwikhbhat.inventoryservice.repository;
+
+import com.sathwikhbhat.inventoryservice.entity.VenueSection;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface VenueSectionRepository extends JpaRepository<VenueSection, Long> {
+
+    /**
+     * Served from the query cache until a venue section is written.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<VenueSection> findByVenueIdOrderByPriorityAscIdAsc(Long venueId);
+
+}
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.sathwikhbhat.inventoryservice.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class CapacityDeltaRequest {
+
+    private List<Item> items;
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Item {
+
+        private Long eventId;
+        private Long ticketsBooked;
+
+    }
+
+}
\ No newline at end of file
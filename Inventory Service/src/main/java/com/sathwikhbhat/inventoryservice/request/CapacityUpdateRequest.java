@@ -0,0 +1,18 @@
+package com.sathwikhbhat.inventoryservice.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class CapacityUpdateRequest {
+
+    private Map<String, Long> ticketsByBookingId;
+
+}
\ No newline at end of file
@@ -0,0 +1,31 @@
+package com.sathwikhbhat.inventoryservice.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class CapacityDeltaResponse {
+
+    private List<Item> results;
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Item {
+
+        private Long eventId;
+        private Long ticketsBooked;
+        private boolean applied;
+        private Long leftCapacity;
+
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.sathwikhbhat.inventoryservice.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class CapacityUpdateResponse {
+
+    private List<String> rejectedBookingIds;
+
+}
\ No newline at end of file
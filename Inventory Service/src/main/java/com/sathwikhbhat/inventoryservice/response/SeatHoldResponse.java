@@ -0,0 +1,25 @@
+package com.sathwikhbhat.inventoryservice.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SeatHoldResponse {
+
+    private String holdId;
+    private Long eventId;
+    private Long ticketCount;
+    private Instant expiresAt;
+    private String section;
+    private Integer row;
+    private List<Integer> seats;
+
+}
@@ -0,0 +1,20 @@
+package com.sathwikhbhat.inventoryservice.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SectionAvailabilityResponse {
+
+    private Long sectionId;
+    private String section;
+    private Integer rows;
+    private Integer seatsPerRow;
+    private Integer available;
+
+}
\ No newline at end of file
@@ -0,0 +1,99 @@
+package com.sathwikhbhat.inventoryservice.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sathwikhbhat.inventoryservice.repository.AppliedBookingRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Takes booked tickets out of the reservation engine at most once per booking id, so redelivered order
+ * batches never decrement capacity twice. Each deduction is journaled with its booking id, and the engine's
+ * write-back records the id in the applied_booking table in the same transaction as the capacity, so the
+ * ledger survives restarts. Recently applied ids are also kept in memory, which covers the ones whose
+ * write-back is still pending. Applied ids are kept for the retention period, which has to cover the longest
+ * redelivery window of the booking topic.
+ */
+@Slf4j
+@Service
+public class CapacityDeductionService {
+
+    private final SeatReservationEngine seatReservationEngine;
+    private final AppliedBookingRepository appliedBookingRepository;
+    private final Duration retention;
+    private final Cache<String, Long> appliedBookingIds;
+
+    @Autowired
+    public CapacityDeductionService(final SeatReservationEngine seatReservationEngine,
+                                    final AppliedBookingRepository appliedBookingRepository,
+                                    @Value("${inventory.deduction.max-tracked-bookings}") final long maxTrackedBookings,
+                                    @Value("${inventory.deduction.retention}") final Duration retention) {
+        this.seatReservationEngine = seatReservationEngine;
+        this.appliedBookingRepository = appliedBookingRepository;
+        this.retention = retention;
+        this.appliedBookingIds = Caffeine.newBuilder()
+                .maximumSize(maxTrackedBookings)
+                .expireAfterWrite(retention)
+                .build();
+    }
+
+    /**
+     * Deducts every booking on its own, so one booking that does not fit does not hold back the others.
+     * Bookings applied before count as deducted.
+     *
+     * @return ids of the bookings rejected because the event does not have enough seats left for them
+     */
+    public List<String> deduct(final Long eventId, final Map<String, Long> ticketsByBookingId) {
+        final ConcurrentMap<String, Long> applied = appliedBookingIds.asMap();
+        final Map<String, Long> claimed = new LinkedHashMap<>();
+        ticketsByBookingId.forEach((bookingId, tickets) -> {
+            if (applied.putIfAbsent(bookingId, eventId) == null) {
+                claimed.put(bookingId, tickets);
+            }
+        });
+        if (!claimed.isEmpty()) {
+            appliedBookingRepository.findAppliedBookingIds(claimed.keySet()).forEach(claimed::remove);
+        }
+        if (claimed.size() < ticketsByBookingId.size()) {
+            log.info("Skipped {} already applied bookings for event ID {}",
+                    ticketsByBookingId.size() - claimed.size(), eventId);
+        }
+
+        final List<String> rejected = new ArrayList<>();
+        claimed.forEach((bookingId, tickets) -> {
+            boolean reserved = false;
+            try {
+                reserved = tickets != null && seatReservationEngine.tryReserve(eventId, tickets,
+                        new ReservationJournal.BookingDeduction(bookingId));
+            } finally {
+                if (!reserved) {
+                    applied.remove(bookingId);
+                }
+            }
+            if (!reserved) {
+                rejected.add(bookingId);
+            }
+        });
+        return rejected;
+    }
+
+    @Scheduled(fixedDelayString = "${inventory.deduction.prune-interval-ms}")
+    public void pruneAppliedBookings() {
+        final int deleted = appliedBookingRepository.deleteAppliedBefore(
+                System.currentTimeMillis() - retention.toMillis());
+        if (deleted > 0) {
+            log.debug("Deleted {} applied bookings older than {}", deleted, retention);
+        }
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.sathwikhbhat.inventoryservice.service;
+
+import com.sathwikhbhat.inventoryservice.event.InventoryCapacityEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class CapacityEventPublisher {
+
+    private final KafkaTemplate<String, InventoryCapacityEvent> kafkaTemplate;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final String topic;
+
+    @Autowired
+    public CapacityEventPublisher(final KafkaTemplate<String, InventoryCapacityEvent> kafkaTemplate,
+                                  final ApplicationEventPublisher applicationEventPublisher,
+                                  @Value("${inventory.capacity.topic}") final String topic) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.topic = topic;
+    }
+
+    public void publish(final Long eventId, final Long leftCapacity) {
+        final InventoryCapacityEvent capacityEvent = InventoryCapacityEvent.builder()
+                .eventId(eventId)
+                .leftCapacity(leftCapacity)
+                .build();
+        applicationEventPublisher.publishEvent(capacityEvent);
+        kafkaTemplate.send(topic, String.valueOf(eventId), capacityEvent).whenComplete((result, ex) -> {
+            if (ex != null) {
+                log.warn("Failed to publish capacity change for event ID {}", eventId, ex);
+            }
+        });
+    }
+
+}
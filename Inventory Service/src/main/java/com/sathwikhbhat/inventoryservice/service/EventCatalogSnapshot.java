@@ -0,0 +1,222 @@
+package com.sathwikhbhat.inventoryservice.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sathwikhbhat.inventoryservice.event.InventoryCapacityEvent;
+import com.sathwikhbhat.inventoryservice.repository.EventRepository;
+import com.sathwikhbhat.inventoryservice.repository.EventSummary;
+import com.sathwikhbhat.inventoryservice.response.EventInventoryResponse;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialized copy of the whole event catalog, kept in memory as plain and gzipped JSON. Each event is
+ * serialized on its own, so a capacity change only re-serializes that event before the array is reassembled.
+ * Capacity changes are applied every rebuild interval; the catalog is reread from MySQL on the full refresh
+ * interval to pick up new events, prices and venue edits. The version only moves when the bytes change.
+ */
+@Slf4j
+@Service
+public class EventCatalogSnapshot {
+
+    private static final int PAGE_SIZE = 1000;
+
+    private final EventRepository eventRepository;
+    private final SeatReservationEngine seatReservationEngine;
+    private final ObjectMapper objectMapper;
+    private final Timer rebuildTimer;
+
+    private final Set<Long> changedEventIds = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private Map<Long, Fragment> fragments = new TreeMap<>();
+    private volatile Snapshot snapshot;
+
+    @Autowired
+    public EventCatalogSnapshot(final EventRepository eventRepository,
+                                final SeatReservationEngine seatReservationEngine,
+                                final ObjectMapper objectMapper,
+                                final MeterRegistry meterRegistry) {
+        this.eventRepository = eventRepository;
+        this.seatReservationEngine = seatReservationEngine;
+        this.objectMapper = objectMapper;
+        this.snapshot = new Snapshot(System.currentTimeMillis(), new byte[]{'[', ']'}, gzip(new byte[]{'[', ']'}), 0);
+        this.rebuildTimer = Timer.builder("inventory.snapshot.rebuild")
+                .description("Time to serialize, assemble and gzip the event catalog snapshot")
+                .register(meterRegistry);
+        Gauge.builder("inventory.snapshot.size", this, catalog -> catalog.snapshot.json().length)
+                .description("Size of the event catalog snapshot")
+                .tag("encoding", "identity")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("inventory.snapshot.size", this, catalog -> catalog.snapshot.gzip().length)
+                .description("Size of the event catalog snapshot")
+                .tag("encoding", "gzip")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("inventory.snapshot.version", this, catalog -> catalog.snapshot.version())
+                .description("Version of the event catalog snapshot being served")
+                .register(meterRegistry);
+    }
+
+    public Snapshot current() {
+        return snapshot;
+    }
+
+    @EventListener
+    public void onCapacityChanged(final InventoryCapacityEvent capacityEvent) {
+        changedEventIds.add(capacityEvent.getEventId());
+    }
+
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${inventory.snapshot.full-refresh-interval-ms}",
+            initialDelayString = "${inventory.snapshot.full-refresh-interval-ms}")
+    public void refresh() {
+        rebuildLock.lock();
+        try {
+            rebuildTimer.record(() -> {
+                final Map<Long, Fragment> reloaded = new TreeMap<>();
+                List<EventSummary> page;
+                long afterId = 0;
+                do {
+                    page = eventRepository.findSummariesAfter(afterId, null, Limit.of(PAGE_SIZE));
+                    for (EventSummary summary : page) {
+                        reloaded.put(summary.eventId(), serialize(summary));
+                        afterId = summary.eventId();
+                    }
+                } while (page.size() == PAGE_SIZE);
+                publishIfChanged(reloaded);
+            });
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${inventory.snapshot.rebuild-interval-ms}")
+    public void applyCapacityChanges() {
+        if (changedEventIds.isEmpty()) {
+            return;
+        }
+        rebuildLock.lock();
+        try {
+            final Set<Long> changed = new HashSet<>(changedEventIds);
+            changedEventIds.removeAll(changed);
+            rebuildTimer.record(() -> {
+                final Map<Long, Fragment> updated = new TreeMap<>(fragments);
+                for (Long eventId : changed) {
+                    final Fragment fragment = updated.get(eventId);
+                    if (fragment != null) {
+                        updated.put(eventId, serialize(fragment.summary()));
+                    }
+                }
+                publishIfChanged(updated);
+            });
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void publishIfChanged(final Map<Long, Fragment> candidate) {
+        if (sameBytes(fragments, candidate)) {
+            return;
+        }
+        fragments = candidate;
+        final byte[] json = assemble(candidate);
+        final Snapshot previous = snapshot;
+        snapshot = new Snapshot(previous.version() + 1, json, gzip(json), candidate.size());
+        log.debug("Rebuilt event catalog snapshot version {} with {} events ({} bytes)",
+                previous.version() + 1, candidate.size(), json.length);
+    }
+
+    private Fragment serialize(final EventSummary summary) {
+        final EventInventoryResponse response =
+                summary.toEventInventoryResponse(seatReservationEngine.getLeftCapacity(summary.eventId()));
+        try {
+            return new Fragment(summary, objectMapper.writeValueAsBytes(response));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize event ID " + summary.eventId(), e);
+        }
+    }
+
+    private static boolean sameBytes(final Map<Long, Fragment> current, final Map<Long, Fragment> candidate) {
+        if (current.size() != candidate.size()) {
+            return false;
+        }
+        for (Map.Entry<Long, Fragment> entry : candidate.entrySet()) {
+            final Fragment fragment = current.get(entry.getKey());
+            if (fragment == null || !Arrays.equals(fragment.json(), entry.getValue().json())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static byte[] assemble(final Map<Long, Fragment> fragments) {
+        int length = 2 + Math.max(fragments.size() - 1, 0);
+        for (Fragment fragment : fragments.values()) {
+            length += fragment.json().length;
+        }
+        final byte[] json = new byte[length];
+        int position = 0;
+        json[position++] = '[';
+        for (Fragment fragment : fragments.values()) {
+            if (position > 1) {
+                json[position++] = ',';
+            }
+            System.arraycopy(fragment.json(), 0, json, position, fragment.json().length);
+            position += fragment.json().length;
+        }
+        json[position] = ']';
+        return json;
+    }
+
+    private static byte[] gzip(final byte[] json) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private record Fragment(EventSummary summary, byte[] json) {
+    }
+
+    /**
+     * @param version increases by one on every change, starting from the wall clock at startup so it keeps
+     *                increasing across restarts
+     */
+    public record Snapshot(long version, byte[] json, byte[] gzip, int eventCount) {
+
+        /**
+         * Strong entity tag of one representation; the gzipped bytes get their own tag.
+         */
+        public String etag(final boolean gzipped) {
+            return "\"" + version + (gzipped ? "-gzip" : "") + "\"";
+        }
+
+    }
+
+}
\ No newline at end of file
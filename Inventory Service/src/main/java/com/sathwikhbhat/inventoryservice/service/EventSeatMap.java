@@ -0,0 +1,33 @@
+package com.sathwikhbhat.inventoryservice.service;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Seat maps of every section of an event's venue, best section first.
+ */
+record EventSeatMap(List<SectionSeatMap> sections) {
+
+    /**
+     * @param sectionId the section to pick from, or null for the best section with enough adjacent seats
+     */
+    Optional<SeatAssignment> allocate(final Long sectionId, final int count) {
+        for (SectionSeatMap section : sections) {
+            if (sectionId == null || sectionId.equals(section.getSectionId())) {
+                final SeatAssignment seats = section.allocate(count);
+                if (seats != null) {
+                    return Optional.of(seats);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    SectionSeatMap section(final Long sectionId) {
+        return sections.stream()
+                .filter(section -> section.getSectionId().equals(sectionId))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown section " + sectionId));
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,67 @@
+package com.sathwikhbhat.inventoryservice.service;
+
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timing wheel for hold deadlines. Scheduling is O(1) and lock-free, and each tick only walks the
+ * bucket whose slot came due, so the cost of expiring holds does not grow with the number outstanding.
+ * A hold comes due at most one tick after its deadline. {@link #advance} must only be called from one
+ * thread at a time.
+ */
+public class HoldExpiryWheel {
+
+    private final long tickMillis;
+    private final long startMillis;
+    private final Queue<SeatHold>[] buckets;
+    private final int mask;
+    private volatile long currentTick;
+
+    @SuppressWarnings("unchecked")
+    public HoldExpiryWheel(final long tickMillis, final long horizonMillis, final long startMillis) {
+        final int size = Integer.highestOneBit((int) Math.max(1, horizonMillis / tickMillis)) << 1;
+        this.tickMillis = tickMillis;
+        this.startMillis = startMillis;
+        this.buckets = new Queue[size];
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            buckets[i] = new ConcurrentLinkedQueue<>();
+        }
+    }
+
+    public void schedule(final SeatHold hold) {
+        final long tick = Math.max(tickOf(hold.getExpiresAtMillis()), currentTick + 1);
+        buckets[(int) (tick & mask)].add(hold);
+    }
+
+    /**
+     * Processes every bucket whose tick has fully elapsed at {@code nowMillis} and hands each due hold to
+     * {@code onDue}. Holds whose deadline lies in a later rotation stay in their bucket.
+     *
+     * @return number of holds removed from the wheel
+     */
+    public int advance(final long nowMillis, final Consumer<SeatHold> onDue) {
+        final long targetTick = tickOf(nowMillis);
+        int removed = 0;
+        while (currentTick < targetTick) {
+            final Iterator<SeatHold> bucket = buckets[(int) (currentTick & mask)].iterator();
+            while (bucket.hasNext()) {
+                final SeatHold hold = bucket.next();
+                if (hold.getExpiresAtMillis() <= nowMillis) {
+                    bucket.remove();
+                    onDue.accept(hold);
+                    removed++;
+                }
+            }
+            currentTick++;
+        }
+        return removed;
+    }
+
+    private long tickOf(final long millis) {
+        return Math.max(0, (millis - startMillis) / tickMillis);
+    }
+
+}
@@ -1,37 +1,87 @@
 package com.sathwikhbhat.inventoryservice.service;
 
-import com.sathwikhbhat.inventoryservice.entity.Event;
+import com.sathwikhbhat.inventoryservice.entity.EventDetails;
 import com.sathwikhbhat.inventoryservice.entity.Venue;
+import com.sathwikhbhat.inventoryservice.repository.EventDetailsRepository;
 import com.sathwikhbhat.inventoryservice.repository.EventRepository;
+import com.sathwikhbhat.inventoryservice.repository.EventSummary;
 import com.sathwikhbhat.inventoryservice.repository.VenueRepository;
+import com.sathwikhbhat.inventoryservice.request.CapacityDeltaRequest;
+import com.sathwikhbhat.inventoryservice.response.CapacityDeltaResponse;
 import com.sathwikhbhat.inventoryservice.response.EventInventoryResponse;
+import com.sathwikhbhat.inventoryservice.response.HoldConfirmationResponse;
+import com.sathwikhbhat.inventoryservice.response.SeatHoldResponse;
+import com.sathwikhbhat.inventoryservice.response.SectionAvailabilityResponse;
 import com.sathwikhbhat.inventoryservice.response.VenueInventoryResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static com.sathwikhbhat.logging.SamplingTurboFilter.atSampledInfo;
 
 @Slf4j
 @Service
 public class InventoryService {
 
     private final EventRepository eventRepository;
+    private final EventDetailsRepository eventDetailsRepository;
     private final VenueRepository venueRepository;
+    private final SeatReservationEngine seatReservationEngine;
+    private final SeatHoldService seatHoldService;
+    private final CapacityDeductionService capacityDeductionService;
+    private final EventCatalogSnapshot eventCatalogSnapshot;
+    private final SeatMapEngine seatMapEngine;
 
     @Autowired
-    public InventoryService(final EventRepository eventRepository, final VenueRepository venueRepository) {
+    public InventoryService(final EventRepository eventRepository,
+                            final EventDetailsRepository eventDetailsRepository,
+                            final VenueRepository venueRepository,
+                            final SeatReservationEngine seatReservationEngine,
+                            final SeatHoldService seatHoldService,
+                            final CapacityDeductionService capacityDeductionService,
+                            final EventCatalogSnapshot eventCatalogSnapshot,
+                            final SeatMapEngine seatMapEngine) {
         this.eventRepository = eventRepository;
+        this.eventDetailsRepository = eventDetailsRepository;
         this.venueRepository = venueRepository;
+        this.seatReservationEngine = seatReservationEngine;
+        this.seatHoldService = seatHoldService;
+        this.capacityDeductionService = capacityDeductionService;
+        this.eventCatalogSnapshot = eventCatalogSnapshot;
+        this.seatMapEngine = seatMapEngine;
     }
 
-    public List<EventInventoryResponse> getAllEvents() {
-        final List<Event> events = eventRepository.findAll();
-        return events.stream().map(event -> EventInventoryResponse.builder()
-                .event(event.getName())
-                .capacity(event.getLeftCapacity())
-                .venue(event.getVenue())
-                .build()).toList();
+    public List<EventInventoryResponse> getEvents(final Long venueId, final Long afterEventId, final int limit) {
+        return eventRepository.findSummariesAfter(afterEventId, venueId, Limit.of(limit)).stream()
+                .map(this::toEventInventoryResponse)
+                .toList();
+    }
+
+    public List<EventInventoryResponse> getEventInventories(final Collection<Long> eventIds) {
+        return eventRepository.findSummariesByIds(eventIds).stream()
+                .map(this::toEventInventoryResponse)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public void streamEvents(final Long venueId, final Consumer<EventInventoryResponse> consumer) {
+        try (Stream<EventSummary> events = eventRepository.streamSummaries(venueId)) {
+            events.map(this::toEventInventoryResponse).forEach(consumer);
+        }
+    }
+
+    public EventCatalogSnapshot.Snapshot getEventsSnapshot() {
+        return eventCatalogSnapshot.current();
     }
 
     public VenueInventoryResponse getVenueInformation(final Long venueId) {
@@ -45,24 +95,166 @@ public class InventoryService {
     }
 
     public EventInventoryResponse getEventInventory(final Long eventId) {
-        final Event event = eventRepository.findById(eventId).orElse(null);
+        final EventDetails event = eventDetailsRepository.findById(eventId).orElse(null);
         assert event != null;
         return EventInventoryResponse.builder()
                 .eventId(event.getId())
                 .event(event.getName())
-                .capacity(event.getLeftCapacity())
+                .capacity(seatReservationEngine.getLeftCapacity(eventId))
                 .venue(event.getVenue())
                 .ticketPrice(event.getTicketPrice())
                 .build();
     }
 
-    public void updateEventCapacity(final Long eventId, final Long ticketsBooked) {
-        final Event event = eventRepository.findById(eventId).orElse(null);
-        assert event != null;
-        event.setLeftCapacity(event.getLeftCapacity() - ticketsBooked);
-        eventRepository.saveAndFlush(event);
-        log.info("Updated event ID {} capacity. Tickets booked: {}. New left capacity: {}",
-                eventId, ticketsBooked, event.getLeftCapacity());
+    public boolean updateEventCapacity(final Long eventId, final Long ticketsBooked) {
+        final boolean updated = seatReservationEngine.tryReserve(eventId, ticketsBooked);
+        if (updated) {
+            atSampledInfo(log).setMessage("Updated event capacity")
+                    .addKeyValue("eventId", eventId)
+                    .addKeyValue("ticketsBooked", ticketsBooked)
+                    .log();
+        } else {
+            log.warn("Rejected capacity update for event ID {}. Tickets booked: {} exceeds left capacity",
+                    eventId, ticketsBooked);
+        }
+        return updated;
+    }
+
+    /**
+     * @return ids of the bookings rejected because the event does not have enough seats left for them
+     */
+    public List<String> updateEventCapacity(final Long eventId, final Map<String, Long> ticketsByBookingId) {
+        final List<String> rejected = capacityDeductionService.deduct(eventId, ticketsByBookingId);
+        if (rejected.isEmpty()) {
+            atSampledInfo(log).setMessage("Updated event capacity")
+                    .addKeyValue("eventId", eventId)
+                    .addKeyValue("bookings", ticketsByBookingId.size())
+                    .log();
+        } else {
+            log.warn("Rejected {} of {} bookings for event ID {}, they exceed left capacity: {}",
+                    rejected.size(), ticketsByBookingId.size(), eventId, rejected);
+        }
+        return rejected;
+    }
+
+    /**
+     * Applies each decrement on its own through the reservation engine. Granted decrements reach the event table
+     * with the engine's next write-back, which updates every touched event in one transaction and JDBC batch.
+     */
+    public CapacityDeltaResponse updateEventCapacities(final List<CapacityDeltaRequest.Item> items) {
+        final List<CapacityDeltaResponse.Item> results = items.stream()
+                .map(item -> CapacityDeltaResponse.Item.builder()
+                        .eventId(item.getEventId())
+                        .ticketsBooked(item.getTicketsBooked())
+                        .applied(item.getTicketsBooked() != null
+                                && seatReservationEngine.tryReserve(item.getEventId(), item.getTicketsBooked()))
+                        .leftCapacity(seatReservationEngine.getLeftCapacity(item.getEventId()))
+                        .build())
+                .toList();
+        final long applied = results.stream().filter(CapacityDeltaResponse.Item::isApplied).count();
+        if (applied < results.size()) {
+            log.warn("Applied {} of {} capacity updates, the rest exceed left capacity", applied, results.size());
+        } else {
+            atSampledInfo(log).setMessage("Applied capacity updates")
+                    .addKeyValue("applied", applied)
+                    .log();
+        }
+        return CapacityDeltaResponse.builder()
+                .results(results)
+                .build();
+    }
+
+    public Optional<SeatHoldResponse> holdSeats(final Long eventId, final Long ticketCount) {
+        return seatHoldService.reserve(eventId, ticketCount).map(hold -> {
+            atSampledInfo(log).setMessage("Held tickets")
+                    .addKeyValue("eventId", eventId)
+                    .addKeyValue("ticketCount", ticketCount)
+                    .addKeyValue("holdId", hold.getHoldId())
+                    .log();
+            return toSeatHoldResponse(hold);
+        });
+    }
+
+    public Optional<SeatHoldResponse> holdAssignedSeats(final Long eventId, final Long ticketCount,
+                                                       final Long sectionId) {
+        return seatHoldService.reserveSeats(eventId, ticketCount, sectionId).map(hold -> {
+            atSampledInfo(log).setMessage("Held assigned seats")
+                    .addKeyValue("eventId", eventId)
+                    .addKeyValue("ticketCount", ticketCount)
+                    .addKeyValue("sectionId", sectionId)
+                    .addKeyValue("holdId", hold.getHoldId())
+                    .log();
+            return toSeatHoldResponse(hold);
+        });
+    }
+
+    public List<SectionAvailabilityResponse> getSeatAvailability(final Long eventId) {
+        return seatMapEngine.getSections(eventId).stream()
+                .map(section -> SectionAvailabilityResponse.builder()
+                        .sectionId(section.getSectionId())
+                        .section(section.getName())
+                        .rows(section.getRowCount())
+                        .seatsPerRow(section.getSeatsPerRow())
+                        .available(section.getAvailable())
+                        .build())
+                .toList();
+    }
+
+    public Optional<List<SeatHoldResponse>> holdSeats(final Map<Long, Long> ticketsByEventId) {
+        final Optional<List<SeatHold>> holds = seatHoldService.reserveAll(ticketsByEventId);
+        if (holds.isEmpty()) {
+            atSampledInfo(log).setMessage("Rejected holds, not enough tickets left for all events")
+                    .addKeyValue("eventIds", ticketsByEventId.keySet())
+                    .log();
+            return Optional.empty();
+        }
+        atSampledInfo(log).setMessage("Held tickets")
+                .addKeyValue("eventIds", ticketsByEventId.keySet())
+                .addKeyValue("ticketCount", ticketsByEventId.values().stream().mapToLong(Long::longValue).sum())
+                .log();
+        return holds.map(held -> held.stream().map(InventoryService::toSeatHoldResponse).toList());
+    }
+
+    public Optional<SeatHold.State> confirmHold(final String holdId) {
+        return seatHoldService.confirm(holdId);
+    }
+
+    public HoldConfirmationResponse confirmHolds(final List<String> holdIds) {
+        final List<String> confirmed = holdIds.stream()
+                .filter(holdId -> seatHoldService.confirm(holdId)
+                        .filter(state -> state == SeatHold.State.CONFIRMED)
+                        .isPresent())
+                .toList();
+        atSampledInfo(log).setMessage("Confirmed seat holds")
+                .addKeyValue("confirmed", confirmed.size())
+                .addKeyValue("requested", holdIds.size())
+                .log();
+        return HoldConfirmationResponse.builder()
+                .confirmedHoldIds(confirmed)
+                .build();
+    }
+
+    public Optional<SeatHold.State> releaseHold(final String holdId) {
+        return seatHoldService.release(holdId);
+    }
+
+    private static SeatHoldResponse toSeatHoldResponse(final SeatHold hold) {
+        final SeatHoldResponse.SeatHoldResponseBuilder response = SeatHoldResponse.builder()
+                .holdId(hold.getHoldId())
+                .eventId(hold.getEventId())
+                .ticketCount(hold.getTicketCount())
+                .expiresAt(Instant.ofEpochMilli(hold.getExpiresAtMillis()));
+        final SeatAssignment seats = hold.getSeats();
+        if (seats != null) {
+            response.section(seats.section())
+                    .row(seats.row() + 1)
+                    .seats(seats.seatNumbers());
+        }
+        return response.build();
+    }
+
+    private EventInventoryResponse toEventInventoryResponse(final EventSummary summary) {
+        return summary.toEventInventoryResponse(seatReservationEngine.getLeftCapacity(summary.eventId()));
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,268 @@
+package com.sathwikhbhat.inventoryservice.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Append-only log of granted reservations. Each entry carries its sequence, event id and ticket delta, plus
+ * what the change belongs to, such as a seat hold or a booking, so that the write-back can persist it with the capacity.
+ * Entries are length-prefixed and written straight to the OS, so a process crash never loses a change that
+ * was already acknowledged. Segments are rotated on every write-back and deleted once the database checkpoint
+ * covers them. Not thread-safe: callers serialize access.
+ */
+@Slf4j
+@Component
+public class ReservationJournal {
+
+    private static final int HEADER_SIZE = 3 * Long.BYTES + 1;
+    /**
+     * Hold and booking ids are UUIDs; longer ids would not fit the id columns they are written back to.
+     */
+    static final int MAX_ID_BYTES = 36;
+    private static final int MAX_ENTRY_SIZE = Integer.BYTES + HEADER_SIZE + Short.BYTES + MAX_ID_BYTES
+            + 3 * Long.BYTES + 2 + 3 * Integer.BYTES;
+    private static final byte NO_REFERENCE = 0;
+    private static final byte HOLD_CHANGE = 1;
+    private static final byte BOOKING_DEDUCTION = 2;
+    private static final String SEGMENT_PREFIX = "reservations-";
+    private static final String SEGMENT_SUFFIX = ".journal";
+
+    private final Path directory;
+    private final ByteBuffer entryBuffer = ByteBuffer.allocate(MAX_ENTRY_SIZE);
+
+    private FileChannel segment;
+    private long segmentIndex;
+    private long lastSequence;
+
+    public ReservationJournal(@Value("${inventory.reservation.journal-dir}") final String directory) {
+        this.directory = Path.of(directory);
+    }
+
+    /**
+     * @param reference what the change belongs to, or null for a plain capacity change
+     */
+    public record Entry(long sequence, long eventId, long tickets, Reference reference) {
+    }
+
+    public sealed interface Reference permits HoldChange, BookingDeduction {
+    }
+
+    /**
+     * A seat hold as it stands after the change: created, confirmed, released or expired.
+     *
+     * @param seats the assigned seats, or null for general admission; the section name is not journaled
+     */
+    public record HoldChange(String holdId, long ticketCount, SeatHold.State state, long expiresAtMillis,
+                             SeatAssignment seats) implements Reference {
+
+        public static HoldChange of(final SeatHold hold) {
+            return new HoldChange(hold.getHoldId(), hold.getTicketCount(), hold.getState(),
+                    hold.getExpiresAtMillis(), hold.getSeats());
+        }
+
+    }
+
+    /**
+     * Tickets of a booking taken off the event; the booking id is recorded as applied with the write-back.
+     */
+    public record BookingDeduction(String bookingId) implements Reference {
+    }
+
+    public List<Entry> readAll() {
+        final List<Entry> entries = new ArrayList<>();
+        for (Path path : listSegments()) {
+            final ByteBuffer buffer;
+            try {
+                buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read reservation journal " + path, e);
+            }
+            while (buffer.remaining() >= Integer.BYTES) {
+                final int size = buffer.getInt();
+                if (size < HEADER_SIZE || buffer.remaining() < size) {
+                    log.warn("Ignoring torn journal entry at the end of {}", path);
+                    break;
+                }
+                final int end = buffer.position() + size;
+                entries.add(decode(buffer));
+                buffer.position(end);
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Starts a fresh segment once recovery has written every existing entry back to the database.
+     */
+    public void open(final long lastSequence) {
+        final List<Path> recovered = listSegments();
+        final long nextIndex = recovered.isEmpty() ? 1 : indexOf(recovered.getLast()) + 1;
+        this.lastSequence = lastSequence;
+        deleteSegmentsBefore(nextIndex);
+        openSegment(nextIndex);
+    }
+
+    public long append(final long eventId, final long tickets) {
+        return append(eventId, tickets, null);
+    }
+
+    public long append(final long eventId, final long tickets, final Reference reference) {
+        entryBuffer.clear();
+        entryBuffer.position(Integer.BYTES);
+        entryBuffer.putLong(lastSequence + 1).putLong(eventId).putLong(tickets);
+        encode(reference);
+        entryBuffer.putInt(0, entryBuffer.position() - Integer.BYTES).flip();
+        try {
+            while (entryBuffer.hasRemaining()) {
+                segment.write(entryBuffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to append to reservation journal", e);
+        }
+        return ++lastSequence;
+    }
+
+    public long lastSequence() {
+        return lastSequence;
+    }
+
+    /**
+     * Closes the active segment and starts a new one.
+     *
+     * @return index of the new segment; everything before it is covered once the current write-back commits
+     */
+    public long rotate() {
+        closeSegment();
+        openSegment(segmentIndex + 1);
+        return segmentIndex;
+    }
+
+    public void deleteSegmentsBefore(final long index) {
+        for (Path path : listSegments()) {
+            if (indexOf(path) < index) {
+                try {
+                    Files.deleteIfExists(path);
+                } catch (IOException e) {
+                    log.warn("Failed to delete reservation journal segment {}", path, e);
+                }
+            }
+        }
+    }
+
+    public void close() {
+        closeSegment();
+    }
+
+    private void encode(final Reference reference) {
+        switch (reference) {
+            case null -> entryBuffer.put(NO_REFERENCE);
+            case HoldChange hold -> {
+                entryBuffer.put(HOLD_CHANGE);
+                putId(hold.holdId());
+                entryBuffer.putLong(hold.ticketCount()).putLong(hold.expiresAtMillis())
+                        .put((byte) hold.state().ordinal());
+                final SeatAssignment seats = hold.seats();
+                if (seats == null) {
+                    entryBuffer.put((byte) 0);
+                } else {
+                    entryBuffer.put((byte) 1).putLong(seats.sectionId()).putInt(seats.row())
+                            .putInt(seats.firstSeat()).putInt(seats.count());
+                }
+            }
+            case BookingDeduction booking -> {
+                entryBuffer.put(BOOKING_DEDUCTION);
+                putId(booking.bookingId());
+            }
+        }
+    }
+
+    private static Entry decode(final ByteBuffer buffer) {
+        final long sequence = buffer.getLong();
+        final long eventId = buffer.getLong();
+        final long tickets = buffer.getLong();
+        final Reference reference = switch (buffer.get()) {
+            case NO_REFERENCE -> null;
+            case HOLD_CHANGE -> {
+                final String holdId = getId(buffer);
+                final long ticketCount = buffer.getLong();
+                final long expiresAtMillis = buffer.getLong();
+                final SeatHold.State state = SeatHold.State.values()[buffer.get()];
+                final SeatAssignment seats = buffer.get() == 0 ? null
+                        : new SeatAssignment(buffer.getLong(), null, buffer.getInt(), buffer.getInt(), buffer.getInt());
+                yield new HoldChange(holdId, ticketCount, state, expiresAtMillis, seats);
+            }
+            case BOOKING_DEDUCTION -> new BookingDeduction(getId(buffer));
+            default -> throw new IllegalStateException("Unknown reference type in journal entry " + sequence);
+        };
+        return new Entry(sequence, eventId, tickets, reference);
+    }
+
+    private void putId(final String id) {
+        final byte[] bytes = id.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_ID_BYTES) {
+            throw new IllegalArgumentException("Journal reference ids are limited to " + MAX_ID_BYTES + " bytes");
+        }
+        entryBuffer.putShort((short) bytes.length).put(bytes);
+    }
+
+    private static String getId(final ByteBuffer buffer) {
+        final byte[] bytes = new byte[buffer.getShort()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void openSegment(final long index) {
+        try {
+            Files.createDirectories(directory);
+            segment = FileChannel.open(directory.resolve(SEGMENT_PREFIX + index + SEGMENT_SUFFIX),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            segmentIndex = index;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open reservation journal segment " + index, e);
+        }
+    }
+
+    private void closeSegment() {
+        if (segment == null) {
+            return;
+        }
+        try {
+            segment.force(false);
+            segment.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to close reservation journal segment " + segmentIndex, e);
+        }
+    }
+
+    private List<Path> listSegments() {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().startsWith(SEGMENT_PREFIX))
+                    .sorted((left, right) -> Long.compare(indexOf(left), indexOf(right)))
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list reservation journal in " + directory, e);
+        }
+    }
+
+    private static long indexOf(final Path segment) {
+        final String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+}
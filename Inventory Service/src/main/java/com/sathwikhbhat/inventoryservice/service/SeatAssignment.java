@@ -0,0 +1,15 @@
+package com.sathwikhbhat.inventoryservice.service;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Adjacent seats in one row of a section. Row and first seat are zero-based.
+ */
+public record SeatAssignment(Long sectionId, String section, int row, int firstSeat, int count) {
+
+    public List<Integer> seatNumbers() {
+        return IntStream.rangeClosed(firstSeat + 1, firstSeat + count).boxed().toList();
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,45 @@
+package com.sathwikhbhat.inventoryservice.service;
+
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+@Getter
+public class SeatHold {
+
+    public enum State {
+        HELD, CONFIRMED, RELEASED, EXPIRED
+    }
+
+    private final String holdId;
+    private final Long eventId;
+    private final long ticketCount;
+    private final long expiresAtMillis;
+    private final SeatAssignment seats;
+    private final AtomicReference<State> state = new AtomicReference<>(State.HELD);
+
+    public SeatHold(final String holdId, final Long eventId, final long ticketCount, final long expiresAtMillis) {
+        this(holdId, eventId, ticketCount, expiresAtMillis, null);
+    }
+
+    /**
+     * @param seats the assigned seats, or null for general admission
+     */
+    public SeatHold(final String holdId, final Long eventId, final long ticketCount, final long expiresAtMillis,
+                    final SeatAssignment seats) {
+        this.holdId = holdId;
+        this.eventId = eventId;
+        this.ticketCount = ticketCount;
+        this.expiresAtMillis = expiresAtMillis;
+        this.seats = seats;
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    boolean transition(final State to) {
+        return state.compareAndSet(State.HELD, to);
+    }
+
+}
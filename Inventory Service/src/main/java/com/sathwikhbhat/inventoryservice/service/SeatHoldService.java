@@ -0,0 +1,204 @@
+package com.sathwikhbhat.inventoryservice.service;
+
+import com.sathwikhbhat.inventoryservice.entity.SeatHoldRecord;
+import com.sathwikhbhat.inventoryservice.repository.SeatHoldRecordRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.sathwikhbhat.logging.SamplingTurboFilter.atSampledInfo;
+
+/**
+ * Holds take seats out of the reservation engine for a limited time. A hold is either confirmed once the
+ * order is placed, released by the caller, or expired by the reaper, which gives the seats back. Every state
+ * change is journaled by the engine and written back to the seat_hold table, so open holds survive a restart.
+ * Finished holds stay in memory until their deadline and in the table for the retention period, so repeated
+ * confirm or release calls get the same answer.
+ */
+@Slf4j
+@Service
+public class SeatHoldService {
+
+    private final SeatReservationEngine seatReservationEngine;
+    private final SeatMapEngine seatMapEngine;
+    private final SeatHoldRecordRepository seatHoldRecordRepository;
+    private final long holdTtlMillis;
+    private final Duration retention;
+    private final ConcurrentMap<String, SeatHold> holds = new ConcurrentHashMap<>();
+    private final HoldExpiryWheel expiryWheel;
+
+    @Autowired
+    public SeatHoldService(final SeatReservationEngine seatReservationEngine,
+                           final SeatMapEngine seatMapEngine,
+                           final SeatHoldRecordRepository seatHoldRecordRepository,
+                           @Value("${inventory.hold.ttl-ms}") final long holdTtlMillis,
+                           @Value("${inventory.hold.tick-ms}") final long tickMillis,
+                           @Value("${inventory.hold.retention}") final Duration retention) {
+        this.seatReservationEngine = seatReservationEngine;
+        this.seatMapEngine = seatMapEngine;
+        this.seatHoldRecordRepository = seatHoldRecordRepository;
+        this.holdTtlMillis = holdTtlMillis;
+        this.retention = retention;
+        this.expiryWheel = new HoldExpiryWheel(tickMillis, holdTtlMillis, System.currentTimeMillis());
+    }
+
+    /**
+     * Puts the holds that were still open at shutdown back into memory and onto the expiry wheel. Holds whose
+     * deadline passed in the meantime expire on the next tick.
+     */
+    @PostConstruct
+    public void recover() {
+        final List<SeatHoldRecord> open = seatHoldRecordRepository.findByState(SeatHold.State.HELD);
+        for (SeatHoldRecord record : open) {
+            final SeatAssignment seats = record.getSectionId() == null ? null
+                    : seatMapEngine.restore(record.getEventId(), new SeatAssignment(record.getSectionId(), null,
+                    record.getSeatRow(), record.getFirstSeat(), record.getTicketCount().intValue()));
+            final SeatHold hold = new SeatHold(record.getHoldId(), record.getEventId(), record.getTicketCount(),
+                    record.getExpiresAtMillis(), seats);
+            holds.put(hold.getHoldId(), hold);
+            expiryWheel.schedule(hold);
+        }
+        log.info("Restored {} open holds", open.size());
+    }
+
+    public Optional<SeatHold> reserve(final Long eventId, final long ticketCount) {
+        final SeatHold hold = newHold(eventId, ticketCount, null);
+        if (!seatReservationEngine.tryReserve(eventId, ticketCount, ReservationJournal.HoldChange.of(hold))) {
+            return Optional.empty();
+        }
+        return Optional.of(track(hold));
+    }
+
+    /**
+     * Holds adjacent assigned seats, taken from the given section or from the best section that has them.
+     * Releasing or expiring the hold frees the seats again; confirming it marks them sold.
+     */
+    public Optional<SeatHold> reserveSeats(final Long eventId, final long ticketCount, final Long sectionId) {
+        final Optional<SeatAssignment> seats = seatMapEngine.allocate(eventId, sectionId, ticketCount);
+        if (seats.isEmpty()) {
+            return Optional.empty();
+        }
+        final SeatHold hold = newHold(eventId, ticketCount, seats.get());
+        boolean reserved = false;
+        try {
+            reserved = seatReservationEngine.tryReserve(eventId, ticketCount, ReservationJournal.HoldChange.of(hold));
+        } finally {
+            if (!reserved) {
+                seatMapEngine.release(eventId, seats.get());
+            }
+        }
+        return reserved ? Optional.of(track(hold)) : Optional.empty();
+    }
+
+    /**
+     * Holds seats for several events at once. If any event has too few seats left, the holds already taken
+     * are released and nothing is held.
+     */
+    public Optional<List<SeatHold>> reserveAll(final Map<Long, Long> ticketsByEventId) {
+        final List<SeatHold> reserved = new ArrayList<>(ticketsByEventId.size());
+        for (Map.Entry<Long, Long> tickets : new TreeMap<>(ticketsByEventId).entrySet()) {
+            final Optional<SeatHold> hold = reserve(tickets.getKey(), tickets.getValue());
+            if (hold.isEmpty()) {
+                reserved.forEach(held -> release(held.getHoldId()));
+                return Optional.empty();
+            }
+            reserved.add(hold.get());
+        }
+        return Optional.of(reserved);
+    }
+
+    public Optional<SeatHold.State> confirm(final String holdId) {
+        return finish(holdId, SeatHold.State.CONFIRMED);
+    }
+
+    public Optional<SeatHold.State> release(final String holdId) {
+        return finish(holdId, SeatHold.State.RELEASED);
+    }
+
+    @Scheduled(fixedDelayString = "${inventory.hold.tick-ms}")
+    public void expireHolds() {
+        final int removed = expiryWheel.advance(System.currentTimeMillis(), hold -> {
+            if (hold.transition(SeatHold.State.EXPIRED)) {
+                giveBack(hold);
+                atSampledInfo(log).setMessage("Hold expired")
+                        .addKeyValue("holdId", hold.getHoldId())
+                        .addKeyValue("eventId", hold.getEventId())
+                        .addKeyValue("ticketCount", hold.getTicketCount())
+                        .log();
+            }
+            holds.remove(hold.getHoldId());
+        });
+        if (removed > 0) {
+            log.debug("Removed {} holds past their deadline, {} outstanding", removed, holds.size());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${inventory.hold.prune-interval-ms}")
+    public void pruneFinishedHolds() {
+        final int deleted = seatHoldRecordRepository.deleteFinishedBefore(
+                System.currentTimeMillis() - retention.toMillis());
+        if (deleted > 0) {
+            log.debug("Deleted {} finished holds older than {}", deleted, retention);
+        }
+    }
+
+    private Optional<SeatHold.State> finish(final String holdId, final SeatHold.State to) {
+        final SeatHold hold = holds.get(holdId);
+        if (hold == null) {
+            return storedState(holdId);
+        }
+        if (hold.transition(to)) {
+            if (to == SeatHold.State.RELEASED) {
+                giveBack(hold);
+            } else {
+                seatReservationEngine.record(hold.getEventId(), ReservationJournal.HoldChange.of(hold));
+                if (hold.getSeats() != null) {
+                    seatMapEngine.confirm(hold.getEventId(), hold.getSeats());
+                }
+            }
+        }
+        return Optional.of(hold.getState());
+    }
+
+    /**
+     * State of a hold that already left memory. Every open hold is in memory, so a stored hold that still reads
+     * as held has expired and its write-back is pending.
+     */
+    private Optional<SeatHold.State> storedState(final String holdId) {
+        return seatHoldRecordRepository.findById(holdId)
+                .map(SeatHoldRecord::getState)
+                .map(state -> state == SeatHold.State.HELD ? SeatHold.State.EXPIRED : state);
+    }
+
+    private SeatHold newHold(final Long eventId, final long ticketCount, final SeatAssignment seats) {
+        return new SeatHold(UUID.randomUUID().toString(), eventId, ticketCount,
+                System.currentTimeMillis() + holdTtlMillis, seats);
+    }
+
+    private SeatHold track(final SeatHold hold) {
+        holds.put(hold.getHoldId(), hold);
+        expiryWheel.schedule(hold);
+        return hold;
+    }
+
+    private void giveBack(final SeatHold hold) {
+        if (hold.getSeats() != null) {
+            seatMapEngine.release(hold.getEventId(), hold.getSeats());
+        }
+        seatReservationEngine.release(hold.getEventId(), hold.getTicketCount(), ReservationJournal.HoldChange.of(hold));
+    }
+
+}
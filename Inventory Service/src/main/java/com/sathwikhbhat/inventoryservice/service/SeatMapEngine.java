@@ -0,0 +1,145 @@
+package com.sathwikhbhat.inventoryservice.service;
+
+import com.sathwikhbhat.inventoryservice.entity.EventDetails;
+import com.sathwikhbhat.inventoryservice.entity.EventSectionSeats;
+import com.sathwikhbhat.inventoryservice.entity.VenueSection;
+import com.sathwikhbhat.inventoryservice.repository.EventDetailsRepository;
+import com.sathwikhbhat.inventoryservice.repository.EventSectionSeatsRepository;
+import com.sathwikhbhat.inventoryservice.repository.VenueSectionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Assigned seating for events whose venue has sections. The seat map of an event is loaded on first use,
+ * with seats sold before already taken. Holding seats only changes the in-memory bitsets; once a hold is
+ * confirmed, the section's sold seats are written back as one versioned snapshot row.
+ */
+@Slf4j
+@Service
+public class SeatMapEngine {
+
+    private final EventDetailsRepository eventDetailsRepository;
+    private final VenueSectionRepository venueSectionRepository;
+    private final EventSectionSeatsRepository eventSectionSeatsRepository;
+    private final Timer allocationTimer;
+    private final ConcurrentMap<Long, EventSeatMap> seatMaps = new ConcurrentHashMap<>();
+    private final ReentrantLock loadLock = new ReentrantLock();
+
+    @Autowired
+    public SeatMapEngine(final EventDetailsRepository eventDetailsRepository,
+                         final VenueSectionRepository venueSectionRepository,
+                         final EventSectionSeatsRepository eventSectionSeatsRepository,
+                         final MeterRegistry meterRegistry) {
+        this.eventDetailsRepository = eventDetailsRepository;
+        this.venueSectionRepository = venueSectionRepository;
+        this.eventSectionSeatsRepository = eventSectionSeatsRepository;
+        this.allocationTimer = Timer.builder("inventory.seats.allocation")
+                .description("Time to find and take adjacent seats")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return sections of the event's venue, best first, or an empty list for general admission
+     */
+    public List<SectionSeatMap> getSections(final Long eventId) {
+        final EventSeatMap seatMap = seatMapOf(eventId);
+        return seatMap == null ? List.of() : seatMap.sections();
+    }
+
+    /**
+     * @param sectionId the section to pick from, or null for the best section with enough adjacent seats
+     */
+    public Optional<SeatAssignment> allocate(final Long eventId, final Long sectionId, final long ticketCount) {
+        final EventSeatMap seatMap = seatMapOf(eventId);
+        if (seatMap == null || ticketCount > SectionSeatMap.MAX_SEATS_PER_ROW) {
+            return Optional.empty();
+        }
+        final long start = System.nanoTime();
+        try {
+            return seatMap.allocate(sectionId, (int) ticketCount);
+        } finally {
+            allocationTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Takes the seats of a hold restored after a restart out of the seat map again.
+     */
+    public SeatAssignment restore(final Long eventId, final SeatAssignment seats) {
+        return seatMapOf(eventId).section(seats.sectionId()).take(seats);
+    }
+
+    public void release(final Long eventId, final SeatAssignment seats) {
+        seatMaps.get(eventId).section(seats.sectionId()).release(seats);
+    }
+
+    public void confirm(final Long eventId, final SeatAssignment seats) {
+        final SectionSeatMap section = seatMaps.get(eventId).section(seats.sectionId());
+        final long version = section.markSold(seats);
+        eventSectionSeatsRepository.updateSoldSeats(eventId, section.getSectionId(), section.soldSeats(), version);
+    }
+
+    private EventSeatMap seatMapOf(final Long eventId) {
+        final EventSeatMap seatMap = seatMaps.get(eventId);
+        if (seatMap != null) {
+            return seatMap;
+        }
+        loadLock.lock();
+        try {
+            final EventSeatMap loaded = seatMaps.get(eventId);
+            if (loaded != null) {
+                return loaded;
+            }
+            return eventDetailsRepository.findById(eventId)
+                    .map(this::load)
+                    .map(load -> {
+                        seatMaps.put(eventId, load);
+                        return load;
+                    })
+                    .orElse(null);
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private EventSeatMap load(final EventDetails event) {
+        final List<VenueSection> sections =
+                venueSectionRepository.findByVenueIdOrderByPriorityAscIdAsc(event.getVenue().getId());
+        final Map<Long, EventSectionSeats> stored = eventSectionSeatsRepository.findByEventId(event.getId()).stream()
+                .collect(Collectors.toMap(EventSectionSeats::getSectionId, Function.identity()));
+        final List<EventSectionSeats> missing = sections.stream()
+                .filter(section -> !stored.containsKey(section.getId()))
+                .map(section -> new EventSectionSeats(null, event.getId(), section.getId(),
+                        SectionSeatMap.emptySeats(section), 0L))
+                .toList();
+        if (!missing.isEmpty()) {
+            eventSectionSeatsRepository.saveAll(missing);
+        }
+
+        final EventSeatMap seatMap = new EventSeatMap(sections.stream()
+                .map(section -> {
+                    final EventSectionSeats seats = stored.get(section.getId());
+                    return seats == null
+                            ? new SectionSeatMap(section, SectionSeatMap.emptySeats(section), 0L)
+                            : new SectionSeatMap(section, seats.getSoldSeats(), seats.getVersion());
+                })
+                .toList());
+        log.info("Loaded seat map of event ID {} with {} sections", event.getId(), sections.size());
+        return seatMap;
+    }
+
+}
\ No newline at end of file
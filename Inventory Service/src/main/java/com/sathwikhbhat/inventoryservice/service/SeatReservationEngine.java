@@ -0,0 +1,281 @@
+package com.sathwikhbhat.inventoryservice.service;
+
+import com.sathwikhbhat.inventoryservice.entity.AppliedBooking;
+import com.sathwikhbhat.inventoryservice.entity.ReservationCheckpoint;
+import com.sathwikhbhat.inventoryservice.entity.SeatHoldRecord;
+import com.sathwikhbhat.inventoryservice.repository.AppliedBookingRepository;
+import com.sathwikhbhat.inventoryservice.repository.EventRepository;
+import com.sathwikhbhat.inventoryservice.repository.ReservationCheckpointRepository;
+import com.sathwikhbhat.inventoryservice.repository.SeatHoldRecordRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Keeps the left capacity of every event in memory and grants reservations with a CAS on a per-event
+ * counter, so concurrent bookings for one event never queue on the MySQL row lock. Grants are journaled
+ * before they are acknowledged and written back to the event table in batches, together with the seat holds
+ * and bookings they belong to, after which the new left capacity of every touched event is published for downstream caches.
+ */
+@Slf4j
+@Service
+public class SeatReservationEngine {
+
+    private final EventRepository eventRepository;
+    private final ReservationCheckpointRepository checkpointRepository;
+    private final SeatHoldRecordRepository seatHoldRecordRepository;
+    private final AppliedBookingRepository appliedBookingRepository;
+    private final ReservationJournal journal;
+    private final TransactionTemplate transactionTemplate;
+    private final CapacityEventPublisher capacityEventPublisher;
+
+    private final ConcurrentMap<Long, AtomicLong> leftCapacities = new ConcurrentHashMap<>();
+    private final ReentrantLock journalLock = new ReentrantLock();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private Map<Long, Long> pendingTickets = new HashMap<>();
+    private List<ReservationJournal.Entry> pendingReferences = new ArrayList<>();
+
+    @Autowired
+    public SeatReservationEngine(final EventRepository eventRepository,
+                                 final ReservationCheckpointRepository checkpointRepository,
+                                 final SeatHoldRecordRepository seatHoldRecordRepository,
+                                 final AppliedBookingRepository appliedBookingRepository,
+                                 final ReservationJournal journal,
+                                 final TransactionTemplate transactionTemplate,
+                                 final CapacityEventPublisher capacityEventPublisher) {
+        this.eventRepository = eventRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.seatHoldRecordRepository = seatHoldRecordRepository;
+        this.appliedBookingRepository = appliedBookingRepository;
+        this.journal = journal;
+        this.transactionTemplate = transactionTemplate;
+        this.capacityEventPublisher = capacityEventPublisher;
+    }
+
+    @PostConstruct
+    public void recover() {
+        final long checkpoint = checkpointRepository.findById(ReservationCheckpoint.SINGLETON_ID)
+                .map(ReservationCheckpoint::getJournalSequence)
+                .orElse(0L);
+
+        final Map<Long, Long> unflushed = new HashMap<>();
+        final List<ReservationJournal.Entry> references = new ArrayList<>();
+        long lastSequence = checkpoint;
+        for (ReservationJournal.Entry entry : journal.readAll()) {
+            if (entry.sequence() > checkpoint) {
+                if (entry.tickets() != 0) {
+                    unflushed.merge(entry.eventId(), entry.tickets(), Long::sum);
+                }
+                if (entry.reference() != null) {
+                    references.add(entry);
+                }
+                lastSequence = Math.max(lastSequence, entry.sequence());
+            }
+        }
+        if (lastSequence > checkpoint) {
+            writeBack(unflushed, references, lastSequence);
+            log.info("Replayed {} journaled reservations for {} events", lastSequence - checkpoint, unflushed.size());
+        }
+        journal.open(lastSequence);
+
+        eventRepository.findAll().forEach(event ->
+                leftCapacities.put(event.getId(), new AtomicLong(event.getLeftCapacity())));
+        log.info("Loaded left capacity for {} events", leftCapacities.size());
+    }
+
+    public Long getLeftCapacity(final Long eventId) {
+        final AtomicLong leftCapacity = capacityOf(eventId);
+        return leftCapacity == null ? null : leftCapacity.get();
+    }
+
+    public boolean tryReserve(final Long eventId, final long tickets) {
+        return tryReserve(eventId, tickets, null);
+    }
+
+    /**
+     * @param reference what the reservation belongs to; journaled with it and written back in the same batch
+     */
+    public boolean tryReserve(final Long eventId, final long tickets, final ReservationJournal.Reference reference) {
+        if (tickets <= 0) {
+            return false;
+        }
+        final AtomicLong leftCapacity = capacityOf(eventId);
+        if (leftCapacity == null) {
+            return false;
+        }
+        long left;
+        do {
+            left = leftCapacity.get();
+            if (left < tickets) {
+                return false;
+            }
+        } while (!leftCapacity.compareAndSet(left, left - tickets));
+
+        try {
+            journal(eventId, tickets, reference);
+        } catch (RuntimeException e) {
+            leftCapacity.addAndGet(tickets);
+            throw e;
+        }
+        return true;
+    }
+
+    public void release(final Long eventId, final long tickets) {
+        release(eventId, tickets, null);
+    }
+
+    public void release(final Long eventId, final long tickets, final ReservationJournal.Reference reference) {
+        final AtomicLong leftCapacity = capacityOf(eventId);
+        if (leftCapacity == null || tickets <= 0) {
+            return;
+        }
+        journal(eventId, -tickets, reference);
+        leftCapacity.addAndGet(tickets);
+    }
+
+    /**
+     * Journals a change that moves no tickets, such as a hold being confirmed.
+     */
+    public void record(final Long eventId, final ReservationJournal.Reference reference) {
+        journal(eventId, 0, reference);
+    }
+
+    @Scheduled(fixedDelayString = "${inventory.reservation.flush-interval-ms}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+        journalLock.lock();
+        try {
+            journal.close();
+        } finally {
+            journalLock.unlock();
+        }
+    }
+
+    private void flushPending() {
+        final Map<Long, Long> batch;
+        final List<ReservationJournal.Entry> references;
+        final long sequence;
+        final long firstLiveSegment;
+        journalLock.lock();
+        try {
+            if (pendingTickets.isEmpty() && pendingReferences.isEmpty()) {
+                return;
+            }
+            batch = pendingTickets;
+            references = pendingReferences;
+            pendingTickets = new HashMap<>();
+            pendingReferences = new ArrayList<>();
+            sequence = journal.lastSequence();
+            firstLiveSegment = journal.rotate();
+        } finally {
+            journalLock.unlock();
+        }
+
+        try {
+            writeBack(batch, references, sequence);
+        } catch (RuntimeException e) {
+            log.error("Failed to write back reservations for {} events, retrying on next flush", batch.size(), e);
+            journalLock.lock();
+            try {
+                batch.forEach((eventId, tickets) -> pendingTickets.merge(eventId, tickets, Long::sum));
+                references.addAll(pendingReferences);
+                pendingReferences = references;
+            } finally {
+                journalLock.unlock();
+            }
+            return;
+        }
+        journal.deleteSegmentsBefore(firstLiveSegment);
+        log.debug("Wrote back reservations for {} events up to journal sequence {}", batch.size(), sequence);
+        batch.keySet().forEach(eventId ->
+                capacityEventPublisher.publish(eventId, leftCapacities.get(eventId).get()));
+    }
+
+    private void journal(final Long eventId, final long tickets, final ReservationJournal.Reference reference) {
+        journalLock.lock();
+        try {
+            final long sequence = journal.append(eventId, tickets, reference);
+            if (tickets != 0) {
+                pendingTickets.merge(eventId, tickets, Long::sum);
+            }
+            if (reference != null) {
+                pendingReferences.add(new ReservationJournal.Entry(sequence, eventId, tickets, reference));
+            }
+        } finally {
+            journalLock.unlock();
+        }
+    }
+
+    private AtomicLong capacityOf(final Long eventId) {
+        final AtomicLong leftCapacity = leftCapacities.get(eventId);
+        if (leftCapacity != null) {
+            return leftCapacity;
+        }
+        return eventRepository.findById(eventId)
+                .map(event -> leftCapacities.computeIfAbsent(eventId, id -> new AtomicLong(event.getLeftCapacity())))
+                .orElse(null);
+    }
+
+    private void writeBack(final Map<Long, Long> ticketsByEventId, final List<ReservationJournal.Entry> references,
+                           final long sequence) {
+        final Map<String, SeatHoldRecord> holds = new LinkedHashMap<>();
+        final List<AppliedBooking> bookings = new ArrayList<>();
+        final long now = System.currentTimeMillis();
+        for (ReservationJournal.Entry entry : references) {
+            switch (entry.reference()) {
+                case ReservationJournal.HoldChange hold -> holds.put(hold.holdId(), toRecord(entry.eventId(), hold));
+                case ReservationJournal.BookingDeduction booking -> bookings.add(
+                        new AppliedBooking(booking.bookingId(), entry.eventId(), entry.tickets(), now));
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!ticketsByEventId.isEmpty()) {
+                final List<Long> rejected = eventRepository.subtractLeftCapacities(ticketsByEventId);
+                if (!rejected.isEmpty()) {
+                    throw new IllegalStateException("Write-back would take left capacity below zero for events "
+                            + rejected);
+                }
+            }
+            if (!holds.isEmpty()) {
+                seatHoldRecordRepository.upsertAll(holds.values());
+            }
+            if (!bookings.isEmpty()) {
+                appliedBookingRepository.insertAll(bookings);
+            }
+            checkpointRepository.updateJournalSequence(sequence);
+        });
+    }
+
+    private static SeatHoldRecord toRecord(final long eventId, final ReservationJournal.HoldChange hold) {
+        final SeatAssignment seats = hold.seats();
+        return new SeatHoldRecord(hold.holdId(), eventId, hold.ticketCount(), hold.state(), hold.expiresAtMillis(),
+                seats == null ? null : seats.sectionId(),
+                seats == null ? null : seats.row(),
+                seats == null ? null : seats.firstSeat());
+    }
+
+}
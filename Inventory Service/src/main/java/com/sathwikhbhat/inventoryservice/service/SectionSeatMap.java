@@ -0,0 +1,160 @@
+package com.sathwikhbhat.inventoryservice.service;
+
+import com.sathwikhbhat.inventoryservice.entity.VenueSection;
+import lombok.Getter;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Seat state of one section for one event. Every row is a single word with one bit per seat, so taking or
+ * giving back adjacent seats in a row is one CAS and concurrent buyers never lock each other out. Sold seats
+ * are kept in a second bitset, which is what gets persisted; held seats live in memory like their holds.
+ */
+public final class SectionSeatMap {
+
+    static final int MAX_SEATS_PER_ROW = Long.SIZE;
+
+    @Getter
+    private final Long sectionId;
+    @Getter
+    private final String name;
+    @Getter
+    private final int rowCount;
+    @Getter
+    private final int seatsPerRow;
+    private final long rowMask;
+    private final AtomicLongArray taken;
+    private final AtomicLongArray sold;
+    private final AtomicInteger available;
+    private final AtomicLong version;
+
+    SectionSeatMap(final VenueSection section, final byte[] soldSeats, final long version) {
+        if (section.getSeatsPerRow() < 1 || section.getSeatsPerRow() > MAX_SEATS_PER_ROW) {
+            throw new IllegalArgumentException("Section " + section.getId() + " must have 1 to "
+                    + MAX_SEATS_PER_ROW + " seats per row");
+        }
+        this.sectionId = section.getId();
+        this.name = section.getName();
+        this.rowCount = section.getRowCount();
+        this.seatsPerRow = section.getSeatsPerRow();
+        this.rowMask = block(seatsPerRow);
+        this.taken = new AtomicLongArray(rowCount);
+        this.sold = new AtomicLongArray(rowCount);
+        this.version = new AtomicLong(version);
+
+        int free = rowCount * seatsPerRow;
+        final ByteBuffer stored = ByteBuffer.wrap(soldSeats);
+        for (int row = 0; row < rowCount && stored.remaining() >= Long.BYTES; row++) {
+            final long soldInRow = stored.getLong() & rowMask;
+            sold.set(row, soldInRow);
+            taken.set(row, soldInRow);
+            free -= Long.bitCount(soldInRow);
+        }
+        this.available = new AtomicInteger(free);
+    }
+
+    public int getAvailable() {
+        return available.get();
+    }
+
+    /**
+     * Takes {@code count} adjacent seats in the frontmost row that has them, as close to the middle of the row
+     * as possible.
+     *
+     * @return the seats taken, or null if no row has enough adjacent free seats
+     */
+    SeatAssignment allocate(final int count) {
+        if (count < 1 || count > seatsPerRow || available.get() < count) {
+            return null;
+        }
+        final int middle = (seatsPerRow - count) / 2;
+        final long seats = block(count);
+        for (int row = 0; row < rowCount; row++) {
+            long word = taken.get(row);
+            int first;
+            while ((first = bestStart(~word & rowMask, count, middle)) >= 0) {
+                if (taken.compareAndSet(row, word, word | seats << first)) {
+                    available.addAndGet(-count);
+                    return new SeatAssignment(sectionId, name, row, first, count);
+                }
+                word = taken.get(row);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Takes the given seats again, as held by a hold restored after a restart.
+     *
+     * @return the seats with the section name filled in
+     */
+    SeatAssignment take(final SeatAssignment seats) {
+        final long bits = block(seats.count()) << seats.firstSeat();
+        final long before = taken.getAndAccumulate(seats.row(), bits, (word, add) -> word | add);
+        if ((before & bits) != 0) {
+            throw new IllegalStateException("Seats " + seats + " of section " + sectionId + " are already taken");
+        }
+        available.addAndGet(-seats.count());
+        return new SeatAssignment(sectionId, name, seats.row(), seats.firstSeat(), seats.count());
+    }
+
+    void release(final SeatAssignment seats) {
+        final long bits = block(seats.count()) << seats.firstSeat();
+        taken.getAndAccumulate(seats.row(), ~bits, (word, keep) -> word & keep);
+        available.addAndGet(seats.count());
+    }
+
+    /**
+     * @return the version of the sold seats that includes these seats
+     */
+    long markSold(final SeatAssignment seats) {
+        final long bits = block(seats.count()) << seats.firstSeat();
+        sold.getAndAccumulate(seats.row(), bits, (word, add) -> word | add);
+        return version.incrementAndGet();
+    }
+
+    byte[] soldSeats() {
+        final ByteBuffer buffer = ByteBuffer.allocate(rowCount * Long.BYTES);
+        for (int row = 0; row < rowCount; row++) {
+            buffer.putLong(sold.get(row));
+        }
+        return buffer.array();
+    }
+
+    static byte[] emptySeats(final VenueSection section) {
+        return new byte[section.getRowCount() * Long.BYTES];
+    }
+
+    /**
+     * @return the start of the run of {@code count} set bits in {@code free} closest to {@code middle}, or -1
+     */
+    static int bestStart(final long free, final int count, final int middle) {
+        long starts = free;
+        for (int shift = 1; shift < count && starts != 0; shift++) {
+            starts &= free >>> shift;
+        }
+        if (starts == 0) {
+            return -1;
+        }
+        final long upToMiddle = -1L >>> (Long.SIZE - 1 - middle);
+        final long before = starts & upToMiddle;
+        final long after = starts & ~upToMiddle;
+        final int left = before == 0 ? -1 : Long.SIZE - 1 - Long.numberOfLeadingZeros(before);
+        final int right = after == 0 ? -1 : Long.numberOfTrailingZeros(after);
+        if (left < 0) {
+            return right;
+        }
+        if (right < 0 || middle - left <= right - middle) {
+            return left;
+        }
+        return right;
+    }
+
+    private static long block(final int count) {
+        return count == Long.SIZE ? -1L : (1L << count) - 1;
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,13 @@
+CREATE TABLE seat_hold
+(
+    hold_id           VARCHAR(36) PRIMARY KEY,
+    event_id          BIGINT      NOT NULL,
+    ticket_count      BIGINT      NOT NULL,
+    state             VARCHAR(16) NOT NULL,
+    expires_at_millis BIGINT      NOT NULL,
+    section_id        BIGINT,
+    seat_row          INT,
+    first_seat        INT
+);
+
+CREATE INDEX idx_seat_hold_state_expires_at ON seat_hold (state, expires_at_millis);
\ No newline at end of file
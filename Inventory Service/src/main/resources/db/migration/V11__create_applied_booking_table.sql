@@ -0,0 +1,9 @@
+CREATE TABLE applied_booking
+(
+    booking_id        VARCHAR(36) PRIMARY KEY,
+    event_id          BIGINT      NOT NULL,
+    ticket_count      BIGINT      NOT NULL,
+    applied_at_millis BIGINT      NOT NULL
+);
+
+CREATE INDEX idx_applied_booking_applied_at ON applied_booking (applied_at_millis);
\ No newline at end of file
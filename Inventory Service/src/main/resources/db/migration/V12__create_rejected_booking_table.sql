@@ -0,0 +1,12 @@
+CREATE TABLE rejected_booking
+(
+    id          BIGINT AUTO_INCREMENT PRIMARY KEY,
+    booking_id  VARCHAR(36)    NOT NULL,
+    total       DECIMAL(10, 2) NOT NULL,
+    quantity    BIGINT         NOT NULL,
+    rejected_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    customer_id BIGINT,
+    event_id    BIGINT
+);
+
+CREATE UNIQUE INDEX uk_rejected_booking_booking_id ON rejected_booking (booking_id);
\ No newline at end of file
@@ -0,0 +1,8 @@
+CREATE TABLE reservation_checkpoint
+(
+    id               BIGINT PRIMARY KEY,
+    journal_sequence BIGINT NOT NULL
+);
+
+INSERT INTO reservation_checkpoint (id, journal_sequence)
+VALUES (1, 0);
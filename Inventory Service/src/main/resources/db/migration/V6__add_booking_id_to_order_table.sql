@@ -0,0 +1,4 @@
+ALTER TABLE `order`
+    ADD COLUMN booking_id VARCHAR(36) NULL;
+
+CREATE UNIQUE INDEX uk_order_booking_id ON `order` (booking_id);
\ No newline at end of file
@@ -0,0 +1,11 @@
+CREATE TABLE booking_outbox
+(
+    id           BIGINT AUTO_INCREMENT PRIMARY KEY,
+    booking_id   VARCHAR(36)    NOT NULL,
+    user_id      BIGINT         NOT NULL,
+    event_id     BIGINT         NOT NULL,
+    ticket_count BIGINT         NOT NULL,
+    total_price  DECIMAL(10, 2) NOT NULL,
+    hold_id      VARCHAR(36),
+    created_at   TIMESTAMP(3)   NOT NULL DEFAULT CURRENT_TIMESTAMP(3)
+);
\ No newline at end of file
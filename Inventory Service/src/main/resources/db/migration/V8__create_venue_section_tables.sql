@@ -0,0 +1,22 @@
+CREATE TABLE venue_section
+(
+    id            BIGINT AUTO_INCREMENT PRIMARY KEY,
+    venue_id      BIGINT       NOT NULL,
+    name          VARCHAR(255) NOT NULL,
+    row_count     INT          NOT NULL,
+    seats_per_row INT          NOT NULL,
+    priority      INT          NOT NULL DEFAULT 0,
+    CONSTRAINT fk_venue_section_venue FOREIGN KEY (venue_id) REFERENCES venue (id) ON DELETE CASCADE
+);
+
+CREATE TABLE event_section_seats
+(
+    id         BIGINT AUTO_INCREMENT PRIMARY KEY,
+    event_id   BIGINT NOT NULL,
+    section_id BIGINT NOT NULL,
+    sold_seats BLOB   NOT NULL,
+    version    BIGINT NOT NULL,
+    CONSTRAINT uk_event_section_seats UNIQUE (event_id, section_id),
+    CONSTRAINT fk_event_section_seats_event FOREIGN KEY (event_id) REFERENCES event (id) ON DELETE CASCADE,
+    CONSTRAINT fk_event_section_seats_section FOREIGN KEY (section_id) REFERENCES venue_section (id) ON DELETE CASCADE
+);
\ No newline at end of file
@@ -0,0 +1,2 @@
+ALTER TABLE booking_outbox
+    ADD COLUMN trace_parent VARCHAR(55) NULL;
\ No newline at end of file
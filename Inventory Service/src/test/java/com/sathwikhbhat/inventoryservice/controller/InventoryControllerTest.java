@@ -0,0 +1,54 @@
+package com.sathwikhbhat.inventoryservice.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sathwikhbhat.inventoryservice.request.CapacityDeltaRequest;
+import com.sathwikhbhat.inventoryservice.response.CapacityDeltaResponse;
+import com.sathwikhbhat.inventoryservice.service.InventoryService;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class InventoryControllerTest {
+
+    private static final int MAX_PAGE_SIZE = 3;
+
+    private final InventoryService inventoryService = mock(InventoryService.class);
+    private final InventoryController controller =
+            new InventoryController(inventoryService, new ObjectMapper(), 2, MAX_PAGE_SIZE);
+
+    @Test
+    void capacityUpdatesWithoutUsableItemsAreRejected() {
+        assertThat(statusOf(null)).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(statusOf(List.of())).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(statusOf(Collections.nCopies(MAX_PAGE_SIZE + 1, new CapacityDeltaRequest.Item(1L, 1L))))
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(statusOf(List.of(new CapacityDeltaRequest.Item(null, 1L)))).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(statusOf(List.of(new CapacityDeltaRequest.Item(1L, null)))).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(statusOf(List.of(new CapacityDeltaRequest.Item(1L, 0L)))).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(statusOf(List.of(new CapacityDeltaRequest.Item(1L, 2L), new CapacityDeltaRequest.Item(2L, -1L))))
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+        verifyNoInteractions(inventoryService);
+    }
+
+    @Test
+    void validCapacityUpdatesAreApplied() {
+        final List<CapacityDeltaRequest.Item> items = List.of(new CapacityDeltaRequest.Item(1L, 2L));
+        final CapacityDeltaResponse response = CapacityDeltaResponse.builder().results(List.of()).build();
+        when(inventoryService.updateEventCapacities(items)).thenReturn(response);
+
+        assertThat(controller.updateEventCapacities(new CapacityDeltaRequest(items)).getBody()).isSameAs(response);
+    }
+
+    private HttpStatus statusOf(final List<CapacityDeltaRequest.Item> items) {
+        return HttpStatus.valueOf(controller.updateEventCapacities(new CapacityDeltaRequest(items))
+                .getStatusCode().value());
+    }
+
+}
\ No newline at end of file
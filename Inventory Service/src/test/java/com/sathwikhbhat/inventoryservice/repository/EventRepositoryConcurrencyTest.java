@@ -0,0 +1,126 @@
+package com.sathwikhbhat.inventoryservice.repository;
+
+import com.sathwikhbhat.inventoryservice.entity.Event;
+import com.sathwikhbhat.inventoryservice.entity.Venue;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EventRepositoryConcurrencyTest {
+
+    private static final long EVENT_ID = 1L;
+    private static final long CAPACITY = 2_000L;
+    private static final int DECREMENTS = 5_000;
+    private static final int THREADS = 16;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private VenueRepository venueRepository;
+
+    @BeforeEach
+    void setUp() {
+        final Venue venue = venueRepository.save(new Venue(1L, "Arena", "Main Street", CAPACITY));
+        eventRepository.save(new Event(EVENT_ID, "Concert", CAPACITY, CAPACITY, venue, BigDecimal.TEN));
+    }
+
+    @AfterEach
+    void tearDown() {
+        eventRepository.deleteAll();
+        venueRepository.deleteAll();
+    }
+
+    @Test
+    void guardedSubtractionNeverOversells() throws Exception {
+        final long granted = runConcurrently(this::subtractOne);
+
+        assertThat(granted).isEqualTo(CAPACITY);
+        assertThat(leftCapacity()).isZero();
+    }
+
+    @Test
+    void guardedSubtractionRejectsMoreThanLeftCapacity() {
+        assertThat(eventRepository.subtractLeftCapacities(Map.of(EVENT_ID, CAPACITY + 1))).containsExactly(EVENT_ID);
+        assertThat(leftCapacity()).isEqualTo(CAPACITY);
+        assertThat(eventRepository.subtractLeftCapacities(Map.of(EVENT_ID, CAPACITY))).isEmpty();
+        assertThat(leftCapacity()).isZero();
+    }
+
+    @Test
+    @Tag("slow")
+    void throughputComparedWithReadModifyWrite() throws Exception {
+        final long legacyStart = System.nanoTime();
+        runConcurrently(() -> {
+            final Event event = eventRepository.findById(EVENT_ID).orElseThrow();
+            event.setLeftCapacity(event.getLeftCapacity() - 1);
+            eventRepository.saveAndFlush(event);
+            return true;
+        });
+        final long legacyElapsed = System.nanoTime() - legacyStart;
+        final long legacyLeft = leftCapacity();
+
+        eventRepository.save(new Event(EVENT_ID, "Concert", CAPACITY, CAPACITY,
+                venueRepository.findById(1L).orElseThrow(), BigDecimal.TEN));
+
+        final long guardedStart = System.nanoTime();
+        runConcurrently(this::subtractOne);
+        final long guardedElapsed = System.nanoTime() - guardedStart;
+
+        assertThat(leftCapacity()).isZero();
+        log.info("Read-modify-write: {} ops/s, left capacity {} (expected {})",
+                opsPerSecond(legacyElapsed), legacyLeft, CAPACITY - DECREMENTS);
+        log.info("Guarded subtraction: {} ops/s, left capacity 0", opsPerSecond(guardedElapsed));
+    }
+
+    private boolean subtractOne() {
+        return eventRepository.subtractLeftCapacities(Map.of(EVENT_ID, 1L)).isEmpty();
+    }
+
+    private long leftCapacity() {
+        return eventRepository.findById(EVENT_ID).orElseThrow().getLeftCapacity();
+    }
+
+    private long runConcurrently(final Callable<Boolean> decrement) throws Exception {
+        final List<Future<Boolean>> results = new ArrayList<>(DECREMENTS);
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            for (int i = 0; i < DECREMENTS; i++) {
+                results.add(executor.submit(decrement));
+            }
+        }
+        long granted = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get()) {
+                granted++;
+            }
+        }
+        return granted;
+    }
+
+    private static long opsPerSecond(final long elapsedNanos) {
+        return DECREMENTS * 1_000_000_000L / Math.max(elapsedNanos, 1);
+    }
+
+}
\ No newline at end of file
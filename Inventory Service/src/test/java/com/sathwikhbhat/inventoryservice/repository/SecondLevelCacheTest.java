@@ -0,0 +1,106 @@
+package com.sathwikhbhat.inventoryservice.repository;
+
+import com.sathwikhbhat.inventoryservice.entity.Event;
+import com.sathwikhbhat.inventoryservice.entity.EventDetails;
+import com.sathwikhbhat.inventoryservice.entity.Venue;
+import com.sathwikhbhat.inventoryservice.entity.VenueSection;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest {
+
+    private static final long VENUE_ID = 7L;
+    private static final long EVENT_ID = 7L;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventDetailsRepository eventDetailsRepository;
+
+    @Autowired
+    private VenueRepository venueRepository;
+
+    @Autowired
+    private VenueSectionRepository venueSectionRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private SessionFactory sessionFactory;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        final Venue venue = venueRepository.save(new Venue(VENUE_ID, "Arena", "Main Street", 100L));
+        eventRepository.save(new Event(EVENT_ID, "Concert", 100L, 100L, venue, BigDecimal.TEN));
+        sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        venueSectionRepository.deleteAllInBatch();
+        eventRepository.deleteAll();
+        venueRepository.deleteAll();
+    }
+
+    @Test
+    void eventDetailsAndVenueAreLoadedOnce() {
+        eventDetailsRepository.findById(EVENT_ID).orElseThrow();
+        final long statements = statistics.getPrepareStatementCount();
+
+        final EventDetails details = eventDetailsRepository.findById(EVENT_ID).orElseThrow();
+
+        assertThat(details.getName()).isEqualTo("Concert");
+        assertThat(details.getVenue().getName()).isEqualTo("Arena");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statements);
+        assertThat(statistics.getCacheRegionStatistics("event-details").getHitCount()).isEqualTo(1);
+        assertThat(statistics.getCacheRegionStatistics("venue").getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void leftCapacityIsNeverServedFromTheCache() {
+        eventDetailsRepository.findById(EVENT_ID).orElseThrow();
+        assertThat(eventRepository.findById(EVENT_ID).orElseThrow().getLeftCapacity()).isEqualTo(100L);
+
+        eventRepository.subtractLeftCapacities(Map.of(EVENT_ID, 3L));
+
+        assertThat(sessionFactory.getCache().containsEntity(Event.class, EVENT_ID)).isFalse();
+        assertThat(eventRepository.findById(EVENT_ID).orElseThrow().getLeftCapacity()).isEqualTo(97L);
+    }
+
+    @Test
+    void venueSectionsComeFromTheQueryCacheUntilOneIsWritten() {
+        venueSectionRepository.save(new VenueSection(null, VENUE_ID, "Front", 2, 10, 0));
+        assertThat(venueSectionRepository.findByVenueIdOrderByPriorityAscIdAsc(VENUE_ID)).hasSize(1);
+        assertThat(venueSectionRepository.findByVenueIdOrderByPriorityAscIdAsc(VENUE_ID)).hasSize(1);
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+
+        venueSectionRepository.save(new VenueSection(null, VENUE_ID, "Back", 2, 10, 1));
+
+        assertThat(venueSectionRepository.findByVenueIdOrderByPriorityAscIdAsc(VENUE_ID))
+                .extracting(VenueSection::getName)
+                .containsExactly("Front", "Back");
+    }
+
+}
\ No newline at end of file
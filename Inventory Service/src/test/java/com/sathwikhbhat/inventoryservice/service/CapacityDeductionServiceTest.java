@@ -0,0 +1,87 @@
+package com.sathwikhbhat.inventoryservice.service;
+
+import com.sathwikhbhat.inventoryservice.repository.AppliedBookingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+class CapacityDeductionServiceTest {
+
+    private static final long EVENT_ID = 7L;
+
+    private SeatReservationEngine engine;
+    private AppliedBookingRepository appliedBookingRepository;
+    private CapacityDeductionService capacityDeductionService;
+
+    @BeforeEach
+    void setUp() {
+        engine = mock(SeatReservationEngine.class);
+        appliedBookingRepository = mock(AppliedBookingRepository.class);
+        when(engine.tryReserve(eq(EVENT_ID), anyLong(), any())).thenReturn(true);
+        capacityDeductionService = new CapacityDeductionService(engine, appliedBookingRepository, 1_000,
+                Duration.ofHours(1));
+    }
+
+    @Test
+    void redeliveredBookingsAreDeductedOnce() {
+        assertThat(capacityDeductionService.deduct(EVENT_ID, Map.of("a", 2L, "b", 3L))).isEmpty();
+        assertThat(capacityDeductionService.deduct(EVENT_ID, Map.of("a", 2L, "b", 3L))).isEmpty();
+        assertThat(capacityDeductionService.deduct(EVENT_ID, Map.of("b", 3L, "c", 4L))).isEmpty();
+
+        verify(engine).tryReserve(EVENT_ID, 2L, new ReservationJournal.BookingDeduction("a"));
+        verify(engine).tryReserve(EVENT_ID, 3L, new ReservationJournal.BookingDeduction("b"));
+        verify(engine).tryReserve(EVENT_ID, 4L, new ReservationJournal.BookingDeduction("c"));
+        verifyNoMoreInteractions(engine);
+    }
+
+    @Test
+    void bookingsAppliedBeforeARestartAreSkipped() {
+        when(appliedBookingRepository.findAppliedBookingIds(any())).thenReturn(List.of("a"));
+
+        assertThat(capacityDeductionService.deduct(EVENT_ID, Map.of("a", 2L, "b", 3L))).isEmpty();
+
+        verify(engine).tryReserve(EVENT_ID, 3L, new ReservationJournal.BookingDeduction("b"));
+        verifyNoMoreInteractions(engine);
+    }
+
+    @Test
+    void oneOversizedBookingDoesNotRejectTheOthers() {
+        when(engine.tryReserve(EVENT_ID, 50L, new ReservationJournal.BookingDeduction("big"))).thenReturn(false);
+        final Map<String, Long> bookings = new LinkedHashMap<>();
+        bookings.put("a", 2L);
+        bookings.put("big", 50L);
+        bookings.put("b", 3L);
+
+        assertThat(capacityDeductionService.deduct(EVENT_ID, bookings)).containsExactly("big");
+
+        verify(engine).tryReserve(EVENT_ID, 2L, new ReservationJournal.BookingDeduction("a"));
+        verify(engine).tryReserve(EVENT_ID, 3L, new ReservationJournal.BookingDeduction("b"));
+    }
+
+    @Test
+    void rejectedBookingsCanBeRetried() {
+        when(engine.tryReserve(EVENT_ID, 5L, new ReservationJournal.BookingDeduction("a")))
+                .thenReturn(false)
+                .thenReturn(true);
+
+        assertThat(capacityDeductionService.deduct(EVENT_ID, Map.of("a", 5L))).containsExactly("a");
+        assertThat(capacityDeductionService.deduct(EVENT_ID, Map.of("a", 5L))).isEmpty();
+
+        verify(engine, times(2)).tryReserve(EVENT_ID, 5L, new ReservationJournal.BookingDeduction("a"));
+    }
+
+}
\ No newline at end of file
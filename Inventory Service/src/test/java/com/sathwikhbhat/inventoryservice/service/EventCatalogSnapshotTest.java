@@ -0,0 +1,111 @@
+package com.sathwikhbhat.inventoryservice.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sathwikhbhat.inventoryservice.event.InventoryCapacityEvent;
+import com.sathwikhbhat.inventoryservice.repository.EventRepository;
+import com.sathwikhbhat.inventoryservice.repository.EventSummary;
+import com.sathwikhbhat.inventoryservice.response.EventInventoryResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EventCatalogSnapshotTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private EventRepository eventRepository;
+    private SeatReservationEngine engine;
+    private SimpleMeterRegistry meterRegistry;
+    private EventCatalogSnapshot catalog;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository = mock(EventRepository.class);
+        engine = mock(SeatReservationEngine.class);
+        when(engine.getLeftCapacity(1L)).thenReturn(100L);
+        when(engine.getLeftCapacity(2L)).thenReturn(50L);
+        catalogReturns(summary(1L, "10"), summary(2L, "20"));
+        meterRegistry = new SimpleMeterRegistry();
+        catalog = new EventCatalogSnapshot(eventRepository, engine, objectMapper, meterRegistry);
+        catalog.refresh();
+    }
+
+    @Test
+    void servesTheCatalogAsPlainAndGzippedJson() throws IOException {
+        final EventCatalogSnapshot.Snapshot snapshot = catalog.current();
+
+        assertThat(read(snapshot.json()))
+                .extracting(EventInventoryResponse::getEventId, EventInventoryResponse::getCapacity)
+                .containsExactly(tuple(1L, 100L), tuple(2L, 50L));
+        assertThat(gunzip(snapshot.gzip())).isEqualTo(snapshot.json());
+        assertThat(snapshot.etag(true)).isNotEqualTo(snapshot.etag(false));
+        assertThat(meterRegistry.get("inventory.snapshot.size").tag("encoding", "identity").gauge().value())
+                .isEqualTo(snapshot.json().length);
+        assertThat(meterRegistry.get("inventory.snapshot.rebuild").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void capacityChangeReserializesOnlyThatEventAndBumpsTheVersion() throws IOException {
+        final long version = catalog.current().version();
+        when(engine.getLeftCapacity(2L)).thenReturn(48L);
+
+        catalog.onCapacityChanged(InventoryCapacityEvent.builder().eventId(2L).leftCapacity(48L).build());
+        catalog.applyCapacityChanges();
+
+        assertThat(catalog.current().version()).isEqualTo(version + 1);
+        assertThat(read(catalog.current().json())).extracting(EventInventoryResponse::getCapacity)
+                .containsExactly(100L, 48L);
+    }
+
+    @Test
+    void versionOnlyMovesWhenTheBytesChange() throws IOException {
+        final long version = catalog.current().version();
+
+        catalog.onCapacityChanged(InventoryCapacityEvent.builder().eventId(1L).leftCapacity(100L).build());
+        catalog.applyCapacityChanges();
+        catalog.refresh();
+        assertThat(catalog.current().version()).isEqualTo(version);
+
+        catalogReturns(summary(1L, "10"), summary(2L, "25"), summary(3L, "30"));
+        catalog.refresh();
+        assertThat(catalog.current().version()).isEqualTo(version + 1);
+        assertThat(read(catalog.current().json())).extracting(EventInventoryResponse::getEventId)
+                .containsExactly(1L, 2L, 3L);
+    }
+
+    private void catalogReturns(final EventSummary... summaries) {
+        when(eventRepository.findSummariesAfter(eq(0L), eq(null), any(Limit.class))).thenReturn(List.of(summaries));
+    }
+
+    private static EventSummary summary(final long eventId, final String ticketPrice) {
+        return new EventSummary(eventId, "Event " + eventId, new BigDecimal(ticketPrice), 1L, "Arena", "Main Street",
+                1000L);
+    }
+
+    private List<EventInventoryResponse> read(final byte[] json) throws IOException {
+        return objectMapper.readValue(json, new TypeReference<>() {
+        });
+    }
+
+    private static byte[] gunzip(final byte[] gzip) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            return in.readAllBytes();
+        }
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,174 @@
+package com.sathwikhbhat.inventoryservice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.sathwikhbhat.inventoryservice.repository.EventDetailsRepository;
+import com.sathwikhbhat.inventoryservice.repository.EventRepository;
+import com.sathwikhbhat.inventoryservice.repository.VenueRepository;
+import com.sathwikhbhat.inventoryservice.response.EventInventoryResponse;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Checks keyset paging and venue filtering of the event listing, then streams 1M events as JSON and reports
+ * the heap used while doing so. The 1M-row run is tagged slow and only runs with {@code mvn test -Pslow-tests}.
+ */
+@Slf4j
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EventListingTest {
+
+    private static final int STREAMED_EVENTS = 1_000_000;
+    private static final int LIVE_HEAP_SAMPLE_INTERVAL = 100_000;
+    private static final long MAX_LIVE_HEAP_GROWTH_BYTES = 128L * 1024 * 1024;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventDetailsRepository eventDetailsRepository;
+
+    @Autowired
+    private VenueRepository venueRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private InventoryService inventoryService;
+
+    @BeforeEach
+    void setUp() {
+        final SeatReservationEngine engine = mock(SeatReservationEngine.class, withSettings().stubOnly());
+        when(engine.getLeftCapacity(anyLong())).thenReturn(100L);
+        inventoryService = new InventoryService(eventRepository, eventDetailsRepository, venueRepository, engine,
+                mock(SeatHoldService.class), mock(CapacityDeductionService.class),
+                mock(EventCatalogSnapshot.class), mock(SeatMapEngine.class));
+        jdbcTemplate.update("INSERT INTO venue (id, name, address, total_capacity) VALUES " +
+                "(1, 'Arena', 'Main Street', 1000), (2, 'Stadium', 'High Street', 5000)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM event");
+        jdbcTemplate.update("DELETE FROM venue");
+        // Rows removed behind Hibernate's back must not linger in the second-level cache
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void pagesFollowTheCursorAndFilterByVenue() {
+        insertEvents(10);
+
+        final List<EventInventoryResponse> firstPage = inventoryService.getEvents(null, 0L, 4);
+        final List<EventInventoryResponse> secondPage =
+                inventoryService.getEvents(null, firstPage.getLast().getEventId(), 4);
+        final List<EventInventoryResponse> stadium = inventoryService.getEvents(2L, 0L, 100);
+
+        assertThat(firstPage).extracting(EventInventoryResponse::getEventId).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(secondPage).extracting(EventInventoryResponse::getEventId).containsExactly(5L, 6L, 7L, 8L);
+        assertThat(stadium).extracting(EventInventoryResponse::getEventId).containsExactly(2L, 4L, 6L, 8L, 10L);
+        assertThat(stadium.getFirst().getVenue().getName()).isEqualTo("Stadium");
+        assertThat(stadium.getFirst().getCapacity()).isEqualTo(100L);
+        assertThat(stadium.getFirst().getTicketPrice()).isEqualByComparingTo("10");
+    }
+
+    @Test
+    void streamingVisitsEveryEventOfTheVenueInOrder() {
+        insertEvents(10);
+        final List<Long> streamed = new ArrayList<>();
+
+        transactionTemplate.executeWithoutResult(status ->
+                inventoryService.streamEvents(1L, event -> streamed.add(event.getEventId())));
+
+        assertThat(streamed).containsExactly(1L, 3L, 5L, 7L, 9L);
+    }
+
+    @Test
+    @Tag("slow")
+    void streamingOneMillionEventsKeepsHeapBounded() throws Exception {
+        insertEvents(STREAMED_EVENTS);
+        final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        final long baseline = memory.getHeapMemoryUsage().getUsed();
+        final AtomicLong peak = new AtomicLong(baseline);
+        final AtomicLong streamed = new AtomicLong();
+        final CountingOutputStream out = new CountingOutputStream();
+
+        final long start = System.nanoTime();
+        try (SequenceWriter writer = new ObjectMapper().writer().writeValuesAsArray(out)) {
+            transactionTemplate.executeWithoutResult(status -> inventoryService.streamEvents(null, event -> {
+                try {
+                    writer.write(event);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                if (streamed.incrementAndGet() % LIVE_HEAP_SAMPLE_INTERVAL == 0) {
+                    System.gc();
+                    peak.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max);
+                }
+            }));
+        }
+        final long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(streamed).hasValue(STREAMED_EVENTS);
+        assertThat(peak.get() - baseline).isLessThan(MAX_LIVE_HEAP_GROWTH_BYTES);
+        log.info("Streamed {} events ({} MB of JSON) in {} ms; peak live heap {} MB above a baseline of {} MB",
+                STREAMED_EVENTS, out.count / (1024 * 1024), elapsedMillis,
+                (peak.get() - baseline) / (1024 * 1024), baseline / (1024 * 1024));
+    }
+
+    private void insertEvents(final int count) {
+        jdbcTemplate.update("INSERT INTO event (id, name, venue_id, total_capacity, left_capacity, ticket_price) " +
+                "SELECT \"X\", CONCAT('Event ', \"X\"), 2 - MOD(\"X\", 2), 100, 100, 10 FROM SYSTEM_RANGE(1, ?)", count);
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(final int b) {
+            count++;
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) {
+            count += len;
+        }
+
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,65 @@
+package com.sathwikhbhat.inventoryservice.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HoldExpiryWheelTest {
+
+    private static final long TICK = 100;
+    private static final long TTL = 300_000;
+
+    @Test
+    void holdsComeDueWithinOneTickOfTheirDeadline() {
+        final HoldExpiryWheel wheel = new HoldExpiryWheel(TICK, TTL, 0);
+        final SeatHold early = new SeatHold("early", 1L, 1, 1_050);
+        final SeatHold late = new SeatHold("late", 1L, 1, TTL);
+        wheel.schedule(early);
+        wheel.schedule(late);
+
+        final List<SeatHold> due = new ArrayList<>();
+        wheel.advance(1_000, due::add);
+        assertThat(due).isEmpty();
+
+        wheel.advance(1_100 + TICK, due::add);
+        assertThat(due).containsExactly(early);
+
+        wheel.advance(TTL + TICK, due::add);
+        assertThat(due).containsExactly(early, late);
+    }
+
+    @Test
+    void deadlinesBeyondOneRotationWaitForTheirRound() {
+        final HoldExpiryWheel wheel = new HoldExpiryWheel(TICK, 1_000, 0);
+        final SeatHold hold = new SeatHold("hold", 1L, 1, 10_000);
+        wheel.schedule(hold);
+
+        final List<SeatHold> due = new ArrayList<>();
+        wheel.advance(5_000, due::add);
+        assertThat(due).isEmpty();
+
+        wheel.advance(10_000 + TICK, due::add);
+        assertThat(due).containsExactly(hold);
+    }
+
+    @Test
+    void expiresMillionsOfHoldsTickByTick() {
+        final int holds = 2_000_000;
+        final HoldExpiryWheel wheel = new HoldExpiryWheel(TICK, TTL, 0);
+        for (int i = 0; i < holds; i++) {
+            wheel.schedule(new SeatHold(Integer.toString(i), 1L, 1, 1 + (long) i * TTL / holds));
+        }
+
+        long expired = 0;
+        for (long now = TICK; now <= TTL + TICK; now += TICK) {
+            expired += wheel.advance(now, hold -> {
+            });
+        }
+
+        assertThat(expired).isEqualTo(holds);
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.sathwikhbhat.inventoryservice.service;
+
+import com.sathwikhbhat.inventoryservice.repository.EventDetailsRepository;
+import com.sathwikhbhat.inventoryservice.repository.EventRepository;
+import com.sathwikhbhat.inventoryservice.repository.VenueRepository;
+import com.sathwikhbhat.inventoryservice.request.CapacityDeltaRequest;
+import com.sathwikhbhat.inventoryservice.response.CapacityDeltaResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class InventoryServiceTest {
+
+    private final SeatReservationEngine engine = mock(SeatReservationEngine.class);
+    private final InventoryService inventoryService = new InventoryService(mock(EventRepository.class),
+            mock(EventDetailsRepository.class), mock(VenueRepository.class), engine, mock(SeatHoldService.class),
+            mock(CapacityDeductionService.class), mock(EventCatalogSnapshot.class), mock(SeatMapEngine.class));
+
+    @Test
+    void capacityUpdatesReportAResultPerItem() {
+        when(engine.tryReserve(1L, 2L)).thenReturn(true);
+        when(engine.tryReserve(2L, 50L)).thenReturn(false);
+        when(engine.getLeftCapacity(1L)).thenReturn(8L);
+        when(engine.getLeftCapacity(2L)).thenReturn(10L);
+        when(engine.getLeftCapacity(3L)).thenReturn(null);
+
+        final CapacityDeltaResponse response = inventoryService.updateEventCapacities(List.of(
+                new CapacityDeltaRequest.Item(1L, 2L),
+                new CapacityDeltaRequest.Item(2L, 50L),
+                new CapacityDeltaRequest.Item(3L, null)));
+
+        assertThat(response.getResults())
+                .extracting(CapacityDeltaResponse.Item::getEventId, CapacityDeltaResponse.Item::isApplied,
+                        CapacityDeltaResponse.Item::getLeftCapacity)
+                .containsExactly(tuple(1L, true, 8L), tuple(2L, false, 10L), tuple(3L, false, null));
+    }
+
+}
\ No newline at end of file
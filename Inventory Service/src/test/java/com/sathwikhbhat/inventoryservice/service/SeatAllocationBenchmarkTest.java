@@ -0,0 +1,114 @@
+package com.sathwikhbhat.inventoryservice.service;
+
+import com.sathwikhbhat.inventoryservice.entity.VenueSection;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Sells out an 80,000 seat stadium (100 sections of 40 rows of 20 seats) from 16 threads buying groups of one
+ * to six adjacent seats, and logs the allocation latency. Every seat must be handed out at most once. Tagged
+ * slow, so it only runs with {@code -Pslow-tests}; {@link SectionSeatMapTest} covers the same guarantee.
+ */
+@Slf4j
+@Tag("slow")
+class SeatAllocationBenchmarkTest {
+
+    private static final int SECTIONS = 100;
+    private static final int ROWS = 40;
+    private static final int SEATS_PER_ROW = 20;
+    private static final int THREADS = 16;
+
+    @Test
+    void concurrentBuyersSellOutAStadiumWithoutDoubleBooking() throws Exception {
+        final List<SectionSeatMap> sections = new ArrayList<>();
+        for (long id = 1; id <= SECTIONS; id++) {
+            final VenueSection section = new VenueSection(id, 1L, "S" + id, ROWS, SEATS_PER_ROW, (int) id);
+            sections.add(new SectionSeatMap(section, SectionSeatMap.emptySeats(section), 0));
+        }
+        final EventSeatMap stadium = new EventSeatMap(sections);
+
+        final List<Future<Buyer>> buyers = new ArrayList<>();
+        final long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            for (int i = 0; i < THREADS; i++) {
+                buyers.add(executor.submit(() -> buy(stadium)));
+            }
+        }
+        final long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        final BitSet sold = new BitSet(SECTIONS * ROWS * SEATS_PER_ROW);
+        long[] latencies = new long[0];
+        int soldSeats = 0;
+        for (Future<Buyer> future : buyers) {
+            final Buyer buyer = future.get();
+            for (SeatAssignment seats : buyer.assignments) {
+                for (int seat = seats.firstSeat(); seat < seats.firstSeat() + seats.count(); seat++) {
+                    final int index = ((seats.sectionId().intValue() - 1) * ROWS + seats.row()) * SEATS_PER_ROW + seat;
+                    assertThat(sold.get(index)).as("seat %d sold twice", index).isFalse();
+                    sold.set(index);
+                    soldSeats++;
+                }
+            }
+            final int offset = latencies.length;
+            latencies = Arrays.copyOf(latencies, offset + buyer.recorded);
+            System.arraycopy(buyer.latencies, 0, latencies, offset, buyer.recorded);
+        }
+        Arrays.sort(latencies);
+
+        final int available = sections.stream().mapToInt(SectionSeatMap::getAvailable).sum();
+        assertThat(soldSeats + available).isEqualTo(SECTIONS * ROWS * SEATS_PER_ROW);
+        log.info("Sold {} seats in {} allocations from {} threads in {} ms: p50={}us p99={}us p99.9={}us max={}us",
+                soldSeats, latencies.length, THREADS, elapsedMillis, micros(latencies, 0.5),
+                micros(latencies, 0.99), micros(latencies, 0.999), latencies[latencies.length - 1] / 1_000);
+    }
+
+    private static Buyer buy(final EventSeatMap stadium) {
+        final Buyer buyer = new Buyer();
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        int misses = 0;
+        while (misses < 6) {
+            final int count = random.nextInt(1, 7);
+            final long start = System.nanoTime();
+            final SeatAssignment seats = stadium.allocate(null, count).orElse(null);
+            buyer.record(System.nanoTime() - start);
+            if (seats == null) {
+                misses++;
+            } else {
+                buyer.assignments.add(seats);
+            }
+        }
+        return buyer;
+    }
+
+    private static long micros(final long[] sortedNanos, final double percentile) {
+        return sortedNanos[(int) Math.ceil(percentile * sortedNanos.length) - 1] / 1_000;
+    }
+
+    private static final class Buyer {
+
+        private final List<SeatAssignment> assignments = new ArrayList<>();
+        private long[] latencies = new long[1024];
+        private int recorded;
+
+        private void record(final long nanos) {
+            if (recorded == latencies.length) {
+                latencies = Arrays.copyOf(latencies, recorded * 2);
+            }
+            latencies[recorded++] = nanos;
+        }
+
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,175 @@
+package com.sathwikhbhat.inventoryservice.service;
+
+import com.sathwikhbhat.inventoryservice.entity.SeatHoldRecord;
+import com.sathwikhbhat.inventoryservice.repository.SeatHoldRecordRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SeatHoldServiceTest {
+
+    private static final long EVENT_ID = 7L;
+
+    private SeatReservationEngine engine;
+    private SeatMapEngine seatMapEngine;
+    private SeatHoldRecordRepository seatHoldRecordRepository;
+    private SeatHoldService seatHoldService;
+
+    @BeforeEach
+    void setUp() {
+        engine = mock(SeatReservationEngine.class);
+        seatMapEngine = mock(SeatMapEngine.class);
+        seatHoldRecordRepository = mock(SeatHoldRecordRepository.class);
+        when(engine.tryReserve(eq(EVENT_ID), anyLong(), any())).thenReturn(true);
+        seatHoldService = new SeatHoldService(engine, seatMapEngine, seatHoldRecordRepository, 50, 10,
+                Duration.ofHours(1));
+    }
+
+    @Test
+    void reserveFailsWhenEngineHasNoSeats() {
+        when(engine.tryReserve(eq(EVENT_ID), eq(5L), any())).thenReturn(false);
+
+        assertThat(seatHoldService.reserve(EVENT_ID, 5)).isEmpty();
+    }
+
+    @Test
+    void reserveAllHoldsNothingWhenOneEventIsShort() {
+        when(engine.tryReserve(eq(9L), eq(4L), any())).thenReturn(false);
+
+        assertThat(seatHoldService.reserveAll(Map.of(EVENT_ID, 2L, 9L, 4L))).isEmpty();
+        verify(engine).release(eq(EVENT_ID), eq(2L), any());
+    }
+
+    @Test
+    void reserveAllHoldsEveryEvent() {
+        when(engine.tryReserve(eq(9L), eq(4L), any())).thenReturn(true);
+
+        assertThat(seatHoldService.reserveAll(Map.of(EVENT_ID, 2L, 9L, 4L)).orElseThrow())
+                .extracting(SeatHold::getEventId, SeatHold::getTicketCount)
+                .containsExactly(tuple(EVENT_ID, 2L), tuple(9L, 4L));
+        verify(engine, never()).release(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    void assignedSeatHoldTakesNoCapacityWhenNoRowFits() {
+        when(seatMapEngine.allocate(EVENT_ID, null, 5)).thenReturn(Optional.empty());
+
+        assertThat(seatHoldService.reserveSeats(EVENT_ID, 5, null)).isEmpty();
+        verify(engine, never()).tryReserve(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    void assignedSeatsAreFreedWhenCapacityRunsOut() {
+        final SeatAssignment seats = new SeatAssignment(3L, "A", 0, 4, 2);
+        when(seatMapEngine.allocate(EVENT_ID, 3L, 2)).thenReturn(Optional.of(seats));
+        when(engine.tryReserve(eq(EVENT_ID), eq(2L), any())).thenReturn(false);
+
+        assertThat(seatHoldService.reserveSeats(EVENT_ID, 2, 3L)).isEmpty();
+        verify(seatMapEngine).release(EVENT_ID, seats);
+    }
+
+    @Test
+    void assignedSeatsAreSoldOnConfirmAndFreedOnRelease() {
+        final SeatAssignment seats = new SeatAssignment(3L, "A", 0, 4, 2);
+        when(seatMapEngine.allocate(EVENT_ID, 3L, 2)).thenReturn(Optional.of(seats));
+        final SeatHold confirmed = seatHoldService.reserveSeats(EVENT_ID, 2, 3L).orElseThrow();
+        final SeatHold released = seatHoldService.reserveSeats(EVENT_ID, 2, 3L).orElseThrow();
+
+        seatHoldService.confirm(confirmed.getHoldId());
+        seatHoldService.release(released.getHoldId());
+
+        assertThat(confirmed.getSeats()).isEqualTo(seats);
+        verify(seatMapEngine).confirm(EVENT_ID, seats);
+        verify(seatMapEngine).release(EVENT_ID, seats);
+        verify(engine).release(eq(EVENT_ID), eq(2L), any());
+    }
+
+    @Test
+    void confirmIsIdempotentAndKeepsSeats() {
+        final SeatHold hold = seatHoldService.reserve(EVENT_ID, 2).orElseThrow();
+
+        assertThat(seatHoldService.confirm(hold.getHoldId())).contains(SeatHold.State.CONFIRMED);
+        assertThat(seatHoldService.confirm(hold.getHoldId())).contains(SeatHold.State.CONFIRMED);
+        assertThat(seatHoldService.release(hold.getHoldId())).contains(SeatHold.State.CONFIRMED);
+        verify(engine).record(eq(EVENT_ID), argThat(change ->
+                ((ReservationJournal.HoldChange) change).state() == SeatHold.State.CONFIRMED));
+        verify(engine, never()).release(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    void releaseGivesSeatsBackOnce() {
+        final SeatHold hold = seatHoldService.reserve(EVENT_ID, 3).orElseThrow();
+
+        assertThat(seatHoldService.release(hold.getHoldId())).contains(SeatHold.State.RELEASED);
+        assertThat(seatHoldService.release(hold.getHoldId())).contains(SeatHold.State.RELEASED);
+        assertThat(seatHoldService.confirm(hold.getHoldId())).contains(SeatHold.State.RELEASED);
+        verify(engine).release(eq(EVENT_ID), eq(3L), argThat(change ->
+                ((ReservationJournal.HoldChange) change).state() == SeatHold.State.RELEASED));
+    }
+
+    @Test
+    void reaperExpiresStaleHolds() throws InterruptedException {
+        final SeatHold hold = seatHoldService.reserve(EVENT_ID, 4).orElseThrow();
+
+        Thread.sleep(100);
+        seatHoldService.expireHolds();
+
+        assertThat(hold.getState()).isEqualTo(SeatHold.State.EXPIRED);
+        assertThat(seatHoldService.confirm(hold.getHoldId())).isEmpty();
+        verify(engine).release(eq(EVENT_ID), eq(4L), any());
+    }
+
+    @Test
+    void finishedHoldsAnswerFromTheTableOnceTheyLeaveMemory() {
+        when(seatHoldRecordRepository.findById("confirmed")).thenReturn(Optional.of(
+                new SeatHoldRecord("confirmed", EVENT_ID, 2L, SeatHold.State.CONFIRMED, 0L, null, null, null)));
+        when(seatHoldRecordRepository.findById("pending")).thenReturn(Optional.of(
+                new SeatHoldRecord("pending", EVENT_ID, 2L, SeatHold.State.HELD, 0L, null, null, null)));
+
+        assertThat(seatHoldService.confirm("confirmed")).contains(SeatHold.State.CONFIRMED);
+        assertThat(seatHoldService.confirm("pending")).contains(SeatHold.State.EXPIRED);
+        verify(engine, never()).record(anyLong(), any());
+    }
+
+    @Test
+    void recoverRestoresOpenHoldsAndTheirSeats() throws InterruptedException {
+        final SeatAssignment seats = new SeatAssignment(3L, null, 1, 0, 2);
+        final SeatAssignment restored = new SeatAssignment(3L, "A", 1, 0, 2);
+        when(seatMapEngine.restore(EVENT_ID, seats)).thenReturn(restored);
+        when(seatHoldRecordRepository.findByState(SeatHold.State.HELD)).thenReturn(List.of(
+                new SeatHoldRecord("open", EVENT_ID, 2L, SeatHold.State.HELD, System.currentTimeMillis() + 60_000,
+                        3L, 1, 0),
+                new SeatHoldRecord("stale", EVENT_ID, 4L, SeatHold.State.HELD, 0L, null, null, null)));
+
+        seatHoldService.recover();
+        Thread.sleep(30);
+        seatHoldService.expireHolds();
+
+        assertThat(seatHoldService.confirm("open")).contains(SeatHold.State.CONFIRMED);
+        verify(seatMapEngine).confirm(EVENT_ID, restored);
+        verify(engine).release(eq(EVENT_ID), eq(4L), argThat(change ->
+                ((ReservationJournal.HoldChange) change).state() == SeatHold.State.EXPIRED));
+    }
+
+    @Test
+    void unknownHoldsAreNotFound() {
+        assertThat(seatHoldService.confirm("missing")).isEmpty();
+        assertThat(seatHoldService.release("missing")).isEmpty();
+    }
+
+}
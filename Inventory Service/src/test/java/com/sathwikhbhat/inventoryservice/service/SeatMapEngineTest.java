@@ -0,0 +1,111 @@
+package com.sathwikhbhat.inventoryservice.service;
+
+import com.sathwikhbhat.inventoryservice.entity.Event;
+import com.sathwikhbhat.inventoryservice.entity.Venue;
+import com.sathwikhbhat.inventoryservice.entity.VenueSection;
+import com.sathwikhbhat.inventoryservice.repository.EventDetailsRepository;
+import com.sathwikhbhat.inventoryservice.repository.EventRepository;
+import com.sathwikhbhat.inventoryservice.repository.EventSectionSeatsRepository;
+import com.sathwikhbhat.inventoryservice.repository.VenueRepository;
+import com.sathwikhbhat.inventoryservice.repository.VenueSectionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SeatMapEngineTest {
+
+    private static final long EVENT_ID = 1L;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventDetailsRepository eventDetailsRepository;
+
+    @Autowired
+    private VenueRepository venueRepository;
+
+    @Autowired
+    private VenueSectionRepository venueSectionRepository;
+
+    @Autowired
+    private EventSectionSeatsRepository eventSectionSeatsRepository;
+
+    private Long frontSectionId;
+    private Long backSectionId;
+
+    @BeforeEach
+    void setUp() {
+        final Venue venue = venueRepository.save(new Venue(1L, "Arena", "Main Street", 40L));
+        eventRepository.save(new Event(EVENT_ID, "Concert", 40L, 40L, venue, BigDecimal.TEN));
+        backSectionId = venueSectionRepository.save(new VenueSection(null, 1L, "Back", 2, 10, 1)).getId();
+        frontSectionId = venueSectionRepository.save(new VenueSection(null, 1L, "Front", 2, 10, 0)).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        eventSectionSeatsRepository.deleteAllInBatch();
+        venueSectionRepository.deleteAllInBatch();
+        eventRepository.deleteAll();
+        venueRepository.deleteAll();
+    }
+
+    @Test
+    void soldSeatsAreTakenAfterARestartAndHeldSeatsAreNot() {
+        final SeatMapEngine engine = newEngine();
+        final SeatAssignment sold = engine.allocate(EVENT_ID, null, 10).orElseThrow();
+        final SeatAssignment held = engine.allocate(EVENT_ID, null, 4).orElseThrow();
+        engine.confirm(EVENT_ID, sold);
+
+        assertThat(sold.sectionId()).isEqualTo(frontSectionId);
+        assertThat(held).isEqualTo(new SeatAssignment(frontSectionId, "Front", 1, 3, 4));
+
+        final SeatMapEngine restarted = newEngine();
+
+        assertThat(restarted.getSections(EVENT_ID))
+                .extracting(SectionSeatMap::getName, SectionSeatMap::getAvailable)
+                .containsExactly(tuple("Front", 10),
+                        tuple("Back", 20));
+        assertThat(restarted.allocate(EVENT_ID, null, 4)).contains(held);
+    }
+
+    @Test
+    void olderSnapshotsNeverOverwriteNewerOnes() {
+        final SeatMapEngine engine = newEngine();
+        final SeatAssignment first = engine.allocate(EVENT_ID, backSectionId, 2).orElseThrow();
+        final SeatAssignment second = engine.allocate(EVENT_ID, backSectionId, 2).orElseThrow();
+        engine.confirm(EVENT_ID, first);
+        engine.confirm(EVENT_ID, second);
+
+        assertThat(eventSectionSeatsRepository.updateSoldSeats(EVENT_ID, backSectionId, new byte[16], 1L)).isZero();
+        assertThat(newEngine().getSections(EVENT_ID))
+                .extracting(SectionSeatMap::getAvailable)
+                .containsExactly(20, 16);
+    }
+
+    @Test
+    void eventsWithoutSectionsHaveNoSeatMap() {
+        assertThat(newEngine().allocate(42L, null, 1)).isEmpty();
+        assertThat(newEngine().getSections(42L)).isEmpty();
+    }
+
+    private SeatMapEngine newEngine() {
+        return new SeatMapEngine(eventDetailsRepository, venueSectionRepository, eventSectionSeatsRepository,
+                new SimpleMeterRegistry());
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,212 @@
+package com.sathwikhbhat.inventoryservice.service;
+
+import com.sathwikhbhat.inventoryservice.entity.Event;
+import com.sathwikhbhat.inventoryservice.entity.SeatHoldRecord;
+import com.sathwikhbhat.inventoryservice.entity.Venue;
+import com.sathwikhbhat.inventoryservice.repository.AppliedBookingRepository;
+import com.sathwikhbhat.inventoryservice.repository.EventRepository;
+import com.sathwikhbhat.inventoryservice.repository.ReservationCheckpointRepository;
+import com.sathwikhbhat.inventoryservice.repository.SeatHoldRecordRepository;
+import com.sathwikhbhat.inventoryservice.repository.VenueRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SeatReservationEngineTest {
+
+    private static final long EVENT_ID = 1L;
+    private static final long CAPACITY = 1_000L;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private VenueRepository venueRepository;
+
+    @Autowired
+    private ReservationCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private SeatHoldRecordRepository seatHoldRecordRepository;
+
+    @Autowired
+    private AppliedBookingRepository appliedBookingRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @TempDir
+    private Path journalDir;
+
+    private final CapacityEventPublisher capacityEventPublisher = mock(CapacityEventPublisher.class);
+
+    @BeforeEach
+    void setUp() {
+        final Venue venue = venueRepository.save(new Venue(1L, "Arena", "Main Street", CAPACITY));
+        eventRepository.save(new Event(EVENT_ID, "Concert", CAPACITY, CAPACITY, venue, BigDecimal.TEN));
+    }
+
+    @AfterEach
+    void tearDown() {
+        seatHoldRecordRepository.deleteAllInBatch();
+        appliedBookingRepository.deleteAllInBatch();
+        eventRepository.deleteAll();
+        venueRepository.deleteAll();
+    }
+
+    @Test
+    void concurrentReservationsNeverExceedCapacity() throws Exception {
+        final SeatReservationEngine engine = startEngine();
+
+        final List<Future<Boolean>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(16)) {
+            for (int i = 0; i < 5_000; i++) {
+                results.add(executor.submit(() -> engine.tryReserve(EVENT_ID, 1)));
+            }
+        }
+        long granted = 0;
+        for (Future<Boolean> result : results) {
+            granted += result.get() ? 1 : 0;
+        }
+        engine.shutdown();
+
+        assertThat(granted).isEqualTo(CAPACITY);
+        assertThat(engine.getLeftCapacity(EVENT_ID)).isZero();
+        assertThat(leftCapacityInDatabase()).isZero();
+    }
+
+    @Test
+    void flushWritesBackAggregatedReservations() {
+        final SeatReservationEngine engine = startEngine();
+
+        assertThat(engine.tryReserve(EVENT_ID, 3)).isTrue();
+        assertThat(engine.tryReserve(EVENT_ID, 4)).isTrue();
+        assertThat(engine.tryReserve(EVENT_ID, CAPACITY)).isFalse();
+        assertThat(leftCapacityInDatabase()).isEqualTo(CAPACITY);
+
+        engine.flush();
+
+        assertThat(leftCapacityInDatabase()).isEqualTo(CAPACITY - 7);
+        verify(capacityEventPublisher).publish(EVENT_ID, CAPACITY - 7);
+        engine.shutdown();
+    }
+
+    @Test
+    void writeBackNeverTakesTheDatabaseBelowZero() {
+        final SeatReservationEngine engine = startEngine();
+        eventRepository.save(new Event(EVENT_ID, "Concert", CAPACITY, 2L,
+                venueRepository.findById(1L).orElseThrow(), BigDecimal.TEN));
+
+        assertThat(engine.tryReserve(EVENT_ID, 5)).isTrue();
+        engine.flush();
+
+        assertThat(leftCapacityInDatabase()).isEqualTo(2L);
+        verify(capacityEventPublisher, never()).publish(EVENT_ID, CAPACITY - 5);
+        engine.shutdown();
+    }
+
+    @Test
+    void recoveryReplaysJournalEntriesThatWereNeverWrittenBack() {
+        final SeatReservationEngine crashed = startEngine();
+        crashed.tryReserve(EVENT_ID, 5);
+        crashed.flush();
+        crashed.tryReserve(EVENT_ID, 2);
+        crashed.tryReserve(EVENT_ID, 1);
+
+        final SeatReservationEngine recovered = startEngine();
+
+        assertThat(leftCapacityInDatabase()).isEqualTo(CAPACITY - 8);
+        assertThat(recovered.getLeftCapacity(EVENT_ID)).isEqualTo(CAPACITY - 8);
+        recovered.shutdown();
+
+        assertThat(startEngine().getLeftCapacity(EVENT_ID)).isEqualTo(CAPACITY - 8);
+    }
+
+    @Test
+    void holdChangesAreWrittenBackWithTheirCapacity() {
+        final SeatReservationEngine crashed = startEngine();
+        final SeatAssignment seats = new SeatAssignment(3L, "A", 2, 5, 4);
+        crashed.tryReserve(EVENT_ID, 4, hold("seated", 4, SeatHold.State.HELD, seats));
+        crashed.tryReserve(EVENT_ID, 2, hold("general", 2, SeatHold.State.HELD, null));
+        crashed.flush();
+        crashed.record(EVENT_ID, hold("seated", 4, SeatHold.State.CONFIRMED, seats));
+        crashed.release(EVENT_ID, 2, hold("general", 2, SeatHold.State.EXPIRED, null));
+        assertThat(seatHoldRecordRepository.findByState(SeatHold.State.HELD)).hasSize(2);
+
+        startEngine().shutdown();
+
+        assertThat(leftCapacityInDatabase()).isEqualTo(CAPACITY - 4);
+        assertThat(seatHoldRecordRepository.findById("seated").orElseThrow())
+                .extracting(SeatHoldRecord::getState, SeatHoldRecord::getSectionId, SeatHoldRecord::getSeatRow,
+                        SeatHoldRecord::getFirstSeat, SeatHoldRecord::getExpiresAtMillis)
+                .containsExactly(SeatHold.State.CONFIRMED, 3L, 2, 5, 99L);
+        assertThat(seatHoldRecordRepository.findById("general").orElseThrow().getState())
+                .isEqualTo(SeatHold.State.EXPIRED);
+    }
+
+    @Test
+    void bookingDeductionsAreRecordedAsApplied() {
+        final SeatReservationEngine crashed = startEngine();
+        crashed.tryReserve(EVENT_ID, 3, new ReservationJournal.BookingDeduction("first"));
+        crashed.flush();
+        crashed.tryReserve(EVENT_ID, 2, new ReservationJournal.BookingDeduction("second"));
+        assertThat(appliedBookingRepository.findAppliedBookingIds(List.of("first", "second")))
+                .containsExactly("first");
+
+        startEngine().shutdown();
+
+        assertThat(leftCapacityInDatabase()).isEqualTo(CAPACITY - 5);
+        assertThat(appliedBookingRepository.findAppliedBookingIds(List.of("first", "second", "third")))
+                .containsExactlyInAnyOrder("first", "second");
+    }
+
+    @Test
+    void unknownEventsAreRejected() {
+        final SeatReservationEngine engine = startEngine();
+
+        assertThat(engine.tryReserve(42L, 1)).isFalse();
+        assertThat(engine.getLeftCapacity(42L)).isNull();
+        engine.shutdown();
+    }
+
+    private SeatReservationEngine startEngine() {
+        final SeatReservationEngine engine = new SeatReservationEngine(eventRepository, checkpointRepository,
+                seatHoldRecordRepository, appliedBookingRepository, new ReservationJournal(journalDir.toString()),
+                transactionTemplate, capacityEventPublisher);
+        engine.recover();
+        return engine;
+    }
+
+    private static ReservationJournal.HoldChange hold(final String holdId, final long ticketCount,
+                                                      final SeatHold.State state, final SeatAssignment seats) {
+        return new ReservationJournal.HoldChange(holdId, ticketCount, state, 99L, seats);
+    }
+
+    private long leftCapacityInDatabase() {
+        return eventRepository.findById(EVENT_ID).orElseThrow().getLeftCapacity();
+    }
+
+}
@@ -0,0 +1,120 @@
+package com.sathwikhbhat.inventoryservice.service;
+
+import com.sathwikhbhat.inventoryservice.entity.VenueSection;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SectionSeatMapTest {
+
+    private static final VenueSection SECTION = new VenueSection(1L, 1L, "A", 3, 10, 0);
+
+    @Test
+    void picksAdjacentSeatsInTheMiddleOfTheFrontRow() {
+        final SectionSeatMap seatMap = emptySeatMap();
+
+        assertThat(seatMap.allocate(4)).isEqualTo(new SeatAssignment(1L, "A", 0, 3, 4));
+        assertThat(seatMap.allocate(2)).isEqualTo(new SeatAssignment(1L, "A", 0, 1, 2));
+        assertThat(seatMap.allocate(4)).isEqualTo(new SeatAssignment(1L, "A", 1, 3, 4));
+        assertThat(seatMap.getAvailable()).isEqualTo(20);
+    }
+
+    @Test
+    void skipsRowsWithoutEnoughAdjacentSeats() {
+        final SectionSeatMap seatMap = emptySeatMap();
+        seatMap.allocate(4);
+        seatMap.allocate(3);
+        seatMap.allocate(3);
+
+        assertThat(seatMap.allocate(10).row()).isEqualTo(1);
+        assertThat(seatMap.allocate(11)).isNull();
+    }
+
+    @Test
+    void releasedSeatsCanBeTakenAgain() {
+        final SectionSeatMap seatMap = emptySeatMap();
+        final SeatAssignment seats = seatMap.allocate(10);
+
+        seatMap.release(seats);
+
+        assertThat(seatMap.allocate(10)).isEqualTo(seats);
+    }
+
+    @Test
+    void soldSeatsSurviveASnapshot() {
+        final SectionSeatMap seatMap = emptySeatMap();
+        final SeatAssignment held = seatMap.allocate(2);
+        final SeatAssignment sold = seatMap.allocate(4);
+        assertThat(seatMap.markSold(sold)).isEqualTo(1);
+
+        final SectionSeatMap restored = new SectionSeatMap(SECTION, seatMap.soldSeats(), 1);
+
+        assertThat(restored.getAvailable()).isEqualTo(26);
+        assertThat(restored.allocate(2)).isEqualTo(held);
+    }
+
+    @Test
+    void restoredHoldsTakeTheirSeatsAgain() {
+        final SectionSeatMap seatMap = emptySeatMap();
+
+        assertThat(seatMap.take(new SeatAssignment(1L, null, 0, 3, 4)))
+                .isEqualTo(new SeatAssignment(1L, "A", 0, 3, 4));
+        assertThat(seatMap.getAvailable()).isEqualTo(26);
+        assertThat(seatMap.allocate(4)).isEqualTo(new SeatAssignment(1L, "A", 1, 3, 4));
+        assertThatThrownBy(() -> seatMap.take(new SeatAssignment(1L, null, 0, 6, 2)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void concurrentBuyersNeverGetTheSameSeat() throws Exception {
+        final VenueSection section = new VenueSection(2L, 1L, "B", 50, 20, 0);
+        final SectionSeatMap seatMap = new SectionSeatMap(section, SectionSeatMap.emptySeats(section), 0);
+        final List<Future<List<SeatAssignment>>> buyers = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int buyer = 0; buyer < 8; buyer++) {
+                buyers.add(executor.submit(() -> {
+                    final List<SeatAssignment> bought = new ArrayList<>();
+                    SeatAssignment seats;
+                    while ((seats = seatMap.allocate(2)) != null) {
+                        bought.add(seats);
+                    }
+                    return bought;
+                }));
+            }
+        }
+
+        final BitSet sold = new BitSet();
+        for (Future<List<SeatAssignment>> buyer : buyers) {
+            for (SeatAssignment seats : buyer.get()) {
+                for (int seat = seats.firstSeat(); seat < seats.firstSeat() + seats.count(); seat++) {
+                    final int index = seats.row() * 20 + seat;
+                    assertThat(sold.get(index)).as("seat %d sold twice", index).isFalse();
+                    sold.set(index);
+                }
+            }
+        }
+        assertThat(sold.cardinality()).isGreaterThan(500);
+        assertThat(sold.cardinality() + seatMap.getAvailable()).isEqualTo(1_000);
+    }
+
+    @Test
+    void bestStartPrefersTheRunClosestToTheMiddle() {
+        assertThat(SectionSeatMap.bestStart(0b1111_0000_0111L, 3, 5)).isEqualTo(8);
+        assertThat(SectionSeatMap.bestStart(0b0000_0000_0111L, 3, 4)).isZero();
+        assertThat(SectionSeatMap.bestStart(0b0101_0101_0101L, 2, 4)).isEqualTo(-1);
+        assertThat(SectionSeatMap.bestStart(-1L, 64, 0)).isZero();
+    }
+
+    private static SectionSeatMap emptySeatMap() {
+        return new SectionSeatMap(SECTION, SectionSeatMap.emptySeats(SECTION), 0);
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,188 @@
+package com.sathwikhbhat.loadtest;
+
+import com.sathwikhbhat.loadtest.load.BookingLoadGenerator;
+import com.sathwikhbhat.loadtest.load.CapacityInvariant;
+import com.sathwikhbhat.loadtest.load.CatalogSeeder;
+import com.sathwikhbhat.loadtest.load.OrderLagTracker;
+import com.sathwikhbhat.loadtest.load.StageResult;
+import com.sathwikhbhat.loadtest.standin.ServiceLauncher;
+import com.sathwikhbhat.loadtest.standin.ServiceLauncher.Service;
+import com.sathwikhbhat.loadtest.standin.StandInStack;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.ExitCodeGenerator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Brings up the stand-ins and the four services, seeds the catalog, then runs a warmup followed by one stage per
+ * configured arrival rate. After each stage it waits for the accepted bookings to turn into orders, reports
+ * HTTP latency and booking-to-order lag, and checks the capacity invariant. Exits non-zero if it was broken.
+ */
+@Slf4j
+@Component
+public class LoadTestRunner implements CommandLineRunner, ExitCodeGenerator {
+
+    private final StandInStack standIns;
+    private final ServiceLauncher serviceLauncher;
+    private final CatalogSeeder catalogSeeder;
+    private final BookingLoadGenerator loadGenerator;
+    private final OrderLagTracker orderLagTracker;
+    private final CapacityInvariant capacityInvariant;
+    private final List<Integer> rates;
+    private final Duration warmup;
+    private final Duration stageDuration;
+    private final Duration drainTimeout;
+    private final Duration startupTimeout;
+    private final double samplingProbability;
+
+    private int exitCode;
+
+    @Autowired
+    public LoadTestRunner(final StandInStack standIns,
+                          final ServiceLauncher serviceLauncher,
+                          final CatalogSeeder catalogSeeder,
+                          final BookingLoadGenerator loadGenerator,
+                          final OrderLagTracker orderLagTracker,
+                          final CapacityInvariant capacityInvariant,
+                          @Value("${loadtest.rates}") final List<Integer> rates,
+                          @Value("${loadtest.warmup}") final Duration warmup,
+                          @Value("${loadtest.stage-duration}") final Duration stageDuration,
+                          @Value("${loadtest.drain-timeout}") final Duration drainTimeout,
+                          @Value("${loadtest.startup-timeout}") final Duration startupTimeout,
+                          @Value("${loadtest.tracing.sampling-probability}") final double samplingProbability) {
+        this.standIns = standIns;
+        this.serviceLauncher = serviceLauncher;
+        this.catalogSeeder = catalogSeeder;
+        this.loadGenerator = loadGenerator;
+        this.orderLagTracker = orderLagTracker;
+        this.capacityInvariant = capacityInvariant;
+        this.rates = rates;
+        this.warmup = warmup;
+        this.stageDuration = stageDuration;
+        this.drainTimeout = drainTimeout;
+        this.startupTimeout = startupTimeout;
+        this.samplingProbability = samplingProbability;
+    }
+
+    @Override
+    public void run(final String... args) throws Exception {
+        startServices();
+        orderLagTracker.start();
+        try {
+            if (!warmup.isZero()) {
+                log.info("Warming up at {}/s for {}", rates.getFirst(), warmup);
+                loadGenerator.run(rates.getFirst(), warmup);
+                orderLagTracker.awaitDrain(drainTimeout);
+                orderLagTracker.clear();
+            }
+            for (int rate : rates) {
+                log.info("Running {}/s for {}", rate, stageDuration);
+                final StageResult result = loadGenerator.run(rate, stageDuration);
+                final int withoutOrder = orderLagTracker.awaitDrain(drainTimeout);
+                orderLagTracker.clear();
+                report(result, withoutOrder);
+                if (!checkCapacity()) {
+                    exitCode = 1;
+                }
+            }
+        } finally {
+            orderLagTracker.stop();
+        }
+        log.info(exitCode == 0 ? "Capacity invariant held in every stage" : "Capacity invariant was violated");
+    }
+
+    @Override
+    public int getExitCode() {
+        return exitCode;
+    }
+
+    private void startServices() throws IOException, InterruptedException {
+        final Path journal = serviceLauncher.workDirectory().resolve("reservation-journal");
+        FileSystemUtils.deleteRecursively(journal);
+
+        final Map<String, String> common = new HashMap<>();
+        common.put("spring.datasource.url", standIns.jdbcUrl());
+        common.put("spring.datasource.username", "sa");
+        common.put("spring.datasource.password", "");
+        common.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        common.put("spring.jpa.database-platform", "org.hibernate.dialect.H2Dialect");
+        common.put("spring.kafka.bootstrap-servers", standIns.kafkaBootstrapServers());
+        common.put("logging.level.root", "INFO");
+        common.put("management.tracing.sampling.probability", String.valueOf(samplingProbability));
+
+        final Map<String, String> inventory = new HashMap<>(common);
+        inventory.put("inventory.reservation.journal-dir", journal.toString());
+        serviceLauncher.start(Service.INVENTORY, inventory);
+        serviceLauncher.awaitHealthy(Service.INVENTORY, startupTimeout);
+        catalogSeeder.seed();
+
+        serviceLauncher.start(Service.BOOKING, common);
+        serviceLauncher.start(Service.ORDER, common);
+        final Map<String, String> gateway = new HashMap<>();
+        gateway.put("keycloak.auth.jwk-set-uri", standIns.jwkSetUri());
+        gateway.put("gateway.waiting-room.enabled", "false");
+        gateway.put("gateway.waiting-room.secret", UUID.randomUUID() + "-" + UUID.randomUUID());
+        gateway.put("logging.level.root", "INFO");
+        gateway.put("management.tracing.sampling.probability", String.valueOf(samplingProbability));
+        serviceLauncher.start(Service.GATEWAY, gateway);
+
+        serviceLauncher.awaitHealthy(Service.BOOKING, startupTimeout);
+        serviceLauncher.awaitHealthy(Service.ORDER, startupTimeout);
+        serviceLauncher.awaitHealthy(Service.GATEWAY, startupTimeout);
+    }
+
+    private void report(final StageResult result, final int withoutOrder) throws IOException {
+        final double seconds = result.duration().toNanos() / 1e9;
+        log.info("{}/s for {}: sent {} ({}/s), responses {}, failed {}, accepted without order {}",
+                result.ratePerSecond(), result.duration(), result.sent(),
+                "%.1f".formatted(result.sent() / seconds), result.responsesByStatus(), result.failures(), withoutOrder);
+        log.info("  HTTP latency          {}", percentiles(result.httpLatency()));
+        log.info("  booking-to-order lag  {}", percentiles(result.orderLag()));
+        writeDistribution(result.httpLatency(), "stage-%d-http.hgrm".formatted(result.ratePerSecond()));
+        writeDistribution(result.orderLag(), "stage-%d-order-lag.hgrm".formatted(result.ratePerSecond()));
+    }
+
+    private boolean checkCapacity() {
+        boolean held = true;
+        for (CapacityInvariant.EventTally tally : capacityInvariant.tally()) {
+            if (tally.violated()) {
+                held = false;
+                log.error("  event {} oversold: {} sold of {}, {} left",
+                        tally.eventId(), tally.sold(), tally.totalCapacity(), tally.leftCapacity());
+            }
+        }
+        return held;
+    }
+
+    private static String percentiles(final Histogram micros) {
+        if (micros.getTotalCount() == 0) {
+            return "no samples";
+        }
+        return "p50 %.1f ms, p90 %.1f ms, p99 %.1f ms, p99.9 %.1f ms, max %.1f ms (n=%d)".formatted(
+                micros.getValueAtPercentile(50) / 1000.0, micros.getValueAtPercentile(90) / 1000.0,
+                micros.getValueAtPercentile(99) / 1000.0, micros.getValueAtPercentile(99.9) / 1000.0,
+                micros.getMaxValue() / 1000.0, micros.getTotalCount());
+    }
+
+    private void writeDistribution(final Histogram micros, final String fileName) throws IOException {
+        final Path file = serviceLauncher.workDirectory().resolve(fileName);
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+            micros.outputPercentileDistribution(out, 1000.0);
+        }
+    }
+
+}
\ No newline at end of file
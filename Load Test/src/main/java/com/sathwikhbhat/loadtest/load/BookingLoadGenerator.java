@@ -0,0 +1,163 @@
+package com.sathwikhbhat.loadtest.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sathwikhbhat.loadtest.standin.TokenIssuer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load on {@code POST /api/v1/booking}: requests go out at a fixed arrival rate whether or not earlier
+ * ones have been answered, each on its own virtual thread. Every request books 1 to max-tickets tickets for a
+ * random event as a random seeded customer, with that customer's token.
+ */
+@Slf4j
+@Component
+public class BookingLoadGenerator {
+
+    private static final Duration TOKEN_TTL = Duration.ofHours(12);
+
+    private final TokenIssuer tokenIssuer;
+    private final OrderLagTracker orderLagTracker;
+    private final ObjectMapper objectMapper;
+    private final URI bookingUri;
+    private final int users;
+    private final int events;
+    private final int maxTickets;
+    private final Duration requestTimeout;
+    private final ExecutorService httpExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpClient httpClient;
+
+    private String[] tokens;
+
+    @Autowired
+    public BookingLoadGenerator(final TokenIssuer tokenIssuer,
+                                final OrderLagTracker orderLagTracker,
+                                final ObjectMapper objectMapper,
+                                @Value("${loadtest.gateway-url}") final String gatewayUrl,
+                                @Value("${loadtest.users}") final int users,
+                                @Value("${loadtest.events}") final int events,
+                                @Value("${loadtest.max-tickets}") final int maxTickets,
+                                @Value("${loadtest.request-timeout}") final Duration requestTimeout) {
+        this.tokenIssuer = tokenIssuer;
+        this.orderLagTracker = orderLagTracker;
+        this.objectMapper = objectMapper;
+        this.bookingUri = URI.create(gatewayUrl + "/api/v1/booking");
+        this.users = users;
+        this.events = events;
+        this.maxTickets = maxTickets;
+        this.requestTimeout = requestTimeout;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(requestTimeout)
+                .executor(httpExecutor)
+                .build();
+    }
+
+    @PostConstruct
+    public void issueTokens() {
+        tokens = new String[users + 1];
+        for (int userId = 1; userId <= users; userId++) {
+            tokens[userId] = tokenIssuer.issue("user-" + userId, TOKEN_TTL);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        httpClient.close();
+        httpExecutor.close();
+    }
+
+    public StageResult run(final int ratePerSecond, final Duration duration) {
+        final Histogram httpLatency = new ConcurrentHistogram(3);
+        final Histogram orderLag = new Histogram(3);
+        final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+        final LongAdder failures = new LongAdder();
+
+        final long intervalNanos = 1_000_000_000L / ratePerSecond;
+        final long start = System.nanoTime();
+        final long end = start + duration.toNanos();
+        long sent = 0;
+        try (ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long scheduledAt = start; scheduledAt < end; scheduledAt += intervalNanos) {
+                final long wait = scheduledAt - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                final long intended = scheduledAt;
+                requests.execute(() -> book(intended, httpLatency, orderLag, statuses, failures));
+                sent++;
+            }
+        }
+
+        final Map<Integer, Long> responsesByStatus = new TreeMap<>();
+        statuses.forEach((status, count) -> responsesByStatus.put(status, count.sum()));
+        return new StageResult(ratePerSecond, duration, sent, responsesByStatus, failures.sum(), httpLatency,
+                orderLag);
+    }
+
+    private void book(final long scheduledAtNanos,
+                      final Histogram httpLatency,
+                      final Histogram orderLag,
+                      final Map<Integer, LongAdder> statuses,
+                      final LongAdder failures) {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final int userId = random.nextInt(1, users + 1);
+        final String body = "{\"userId\":%d,\"eventId\":%d,\"ticketCount\":%d}"
+                .formatted(userId, random.nextInt(1, events + 1), random.nextInt(1, maxTickets + 1));
+        final HttpRequest request = HttpRequest.newBuilder(bookingUri)
+                .timeout(requestTimeout)
+                .header("Content-Type", "application/json")
+                .header("Authorization", "Bearer " + tokens[userId])
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+
+        final HttpResponse<String> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            failures.increment();
+            httpLatency.recordValue((System.nanoTime() - scheduledAtNanos) / 1_000);
+            log.debug("Booking request failed: {}", e.toString());
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        final long respondedAtNanos = System.nanoTime();
+        httpLatency.recordValue((respondedAtNanos - scheduledAtNanos) / 1_000);
+        statuses.computeIfAbsent(response.statusCode(), status -> new LongAdder()).increment();
+
+        if (response.statusCode() == 200) {
+            try {
+                final String bookingId = objectMapper.readTree(response.body()).path("bookingId").asText(null);
+                if (bookingId != null) {
+                    orderLagTracker.accepted(bookingId, respondedAtNanos, orderLag);
+                }
+            } catch (IOException e) {
+                log.warn("Unreadable booking response: {}", response.body());
+            }
+        }
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,42 @@
+package com.sathwikhbhat.loadtest.load;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Checks that no event has sold more tickets than it has: ordered tickets stay within
+ * {@code Event.totalCapacity} and left capacity never goes negative.
+ */
+@Component
+public class CapacityInvariant {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record EventTally(long eventId, long totalCapacity, long leftCapacity, long sold) {
+
+        public boolean violated() {
+            return sold > totalCapacity || leftCapacity < 0;
+        }
+
+    }
+
+    @Autowired
+    public CapacityInvariant(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public List<EventTally> tally() {
+        return jdbcTemplate.query("""
+                        SELECT e.id, e.total_capacity, e.left_capacity, COALESCE(SUM(o.quantity), 0) AS sold
+                        FROM event e
+                        LEFT JOIN `order` o ON o.event_id = e.id
+                        GROUP BY e.id, e.total_capacity, e.left_capacity
+                        ORDER BY e.id""",
+                (rs, rowNum) -> new EventTally(rs.getLong("id"), rs.getLong("total_capacity"),
+                        rs.getLong("left_capacity"), rs.getLong("sold")));
+    }
+
+}
\ No newline at end of file
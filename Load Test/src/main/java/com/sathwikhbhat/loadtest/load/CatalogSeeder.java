@@ -0,0 +1,61 @@
+package com.sathwikhbhat.loadtest.load;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fills the freshly migrated database with one venue, its events and the customers the load books as.
+ */
+@Slf4j
+@Component
+public class CatalogSeeder {
+
+    private static final long VENUE_ID = 1L;
+    private static final BigDecimal TICKET_PRICE = new BigDecimal("100.00");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int events;
+    private final long eventCapacity;
+    private final int users;
+
+    @Autowired
+    public CatalogSeeder(final JdbcTemplate jdbcTemplate,
+                         @Value("${loadtest.events}") final int events,
+                         @Value("${loadtest.event-capacity}") final long eventCapacity,
+                         @Value("${loadtest.users}") final int users) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.events = events;
+        this.eventCapacity = eventCapacity;
+        this.users = users;
+    }
+
+    public void seed() {
+        jdbcTemplate.update("INSERT INTO venue (id, name, address, total_capacity) VALUES (?, ?, ?, ?)",
+                VENUE_ID, "Load Test Arena", "localhost", eventCapacity);
+
+        final List<Object[]> eventRows = new ArrayList<>(events);
+        for (long eventId = 1; eventId <= events; eventId++) {
+            eventRows.add(new Object[]{eventId, "Load Test Event " + eventId, VENUE_ID, eventCapacity, eventCapacity,
+                    TICKET_PRICE});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO event (id, name, venue_id, total_capacity, left_capacity, ticket_price) "
+                + "VALUES (?, ?, ?, ?, ?, ?)", eventRows);
+
+        final List<Object[]> customerRows = new ArrayList<>(users);
+        for (long userId = 1; userId <= users; userId++) {
+            customerRows.add(new Object[]{userId, "user-" + userId, "user-" + userId + "@example.com", "localhost"});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO `customer` (id, name, email, address) VALUES (?, ?, ?, ?)",
+                customerRows);
+
+        log.info("Seeded {} events of {} tickets and {} customers", events, eventCapacity, users);
+    }
+
+}
\ No newline at end of file
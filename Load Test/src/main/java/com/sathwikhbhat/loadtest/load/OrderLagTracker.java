@@ -0,0 +1,109 @@
+package com.sathwikhbhat.loadtest.load;
+
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Measures booking-to-order lag: the time from the gateway accepting a booking to its order row being visible
+ * in the database. Accepted booking ids are looked up in the order table every poll interval, so the lag is
+ * accurate to about one interval.
+ */
+@Slf4j
+@Component
+public class OrderLagTracker {
+
+    private static final int LOOKUP_CHUNK = 500;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final Duration pollInterval;
+    private final Map<String, Pending> pending = new ConcurrentHashMap<>();
+
+    private Thread poller;
+
+    private record Pending(long acceptedAtNanos, Histogram lag) {
+    }
+
+    @Autowired
+    public OrderLagTracker(final NamedParameterJdbcTemplate jdbcTemplate,
+                           @Value("${loadtest.order-poll-interval}") final Duration pollInterval) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.pollInterval = pollInterval;
+    }
+
+    public void start() {
+        poller = Thread.ofPlatform().daemon().name("order-lag-poller").start(this::pollUntilInterrupted);
+    }
+
+    public void stop() throws InterruptedException {
+        if (poller != null) {
+            poller.interrupt();
+            poller.join();
+        }
+    }
+
+    /**
+     * Starts the clock for a booking; the lag is recorded in microseconds into {@code lag} once its order shows up.
+     */
+    public void accepted(final String bookingId, final long acceptedAtNanos, final Histogram lag) {
+        pending.put(bookingId, new Pending(acceptedAtNanos, lag));
+    }
+
+    /**
+     * @return number of accepted bookings still without an order when the timeout ran out
+     */
+    public int awaitDrain(final Duration timeout) throws InterruptedException {
+        final long deadline = System.nanoTime() + timeout.toNanos();
+        while (!pending.isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(pollInterval.toMillis());
+        }
+        return pending.size();
+    }
+
+    /**
+     * Forgets bookings whose orders never showed up, so they do not count against the next stage.
+     */
+    public void clear() {
+        pending.clear();
+    }
+
+    private void pollUntilInterrupted() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                poll();
+                Thread.sleep(pollInterval.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                log.warn("Order lookup failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void poll() {
+        final List<String> bookingIds = new ArrayList<>(pending.keySet());
+        for (int from = 0; from < bookingIds.size(); from += LOOKUP_CHUNK) {
+            final List<String> chunk = bookingIds.subList(from, Math.min(from + LOOKUP_CHUNK, bookingIds.size()));
+            final List<String> ordered = jdbcTemplate.queryForList(
+                    "SELECT booking_id FROM `order` WHERE booking_id IN (:bookingIds)",
+                    Map.of("bookingIds", chunk), String.class);
+            final long seenAtNanos = System.nanoTime();
+            for (String bookingId : ordered) {
+                final Pending booking = pending.remove(bookingId);
+                if (booking != null) {
+                    booking.lag().recordValue(Math.max(0, seenAtNanos - booking.acceptedAtNanos()) / 1_000);
+                }
+            }
+        }
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.sathwikhbhat.loadtest.load;
+
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Outcome of one load stage. Latencies are in microseconds; HTTP latency is measured from the time each request
+ * was scheduled to go out, so a stalled generator or gateway shows up as latency rather than as a lower rate.
+ */
+public record StageResult(int ratePerSecond,
+                          Duration duration,
+                          long sent,
+                          Map<Integer, Long> responsesByStatus,
+                          long failures,
+                          Histogram httpLatency,
+                          Histogram orderLag) {
+
+    public long accepted() {
+        return responsesByStatus.getOrDefault(200, 0L);
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,171 @@
+package com.sathwikhbhat.loadtest.standin;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Starts the services from their {@code *-exec.jar} builds, each in its own JVM with output going to a log file
+ * in the work directory and spans to {@code traces/} beside it. The jars only ship the MySQL driver, so they are
+ * started through Boot's PropertiesLauncher with the H2 driver added via {@code loader.path}.
+ */
+@Slf4j
+@Component
+public class ServiceLauncher {
+
+    private static final String PROPERTIES_LAUNCHER = "org.springframework.boot.loader.launch.PropertiesLauncher";
+
+    public enum Service {
+
+        INVENTORY("Inventory Service", 8080),
+        BOOKING("Booking Service", 8081),
+        ORDER("Order Service", 8082),
+        GATEWAY("API Gateway Service", 8090);
+
+        private final String directory;
+        private final int port;
+
+        Service(final String directory, final int port) {
+            this.directory = directory;
+            this.port = port;
+        }
+
+        public int port() {
+            return port;
+        }
+
+    }
+
+    private final Path servicesDirectory;
+    private final Path workDirectory;
+    private final List<String> jvmArgs;
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final Map<Service, Process> processes = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ServiceLauncher(@Value("${loadtest.services-dir}") final String servicesDirectory,
+                           @Value("${loadtest.work-dir}") final String workDirectory,
+                           @Value("${loadtest.service-jvm-args}") final List<String> jvmArgs) {
+        this.servicesDirectory = Path.of(servicesDirectory).toAbsolutePath().normalize();
+        this.workDirectory = Path.of(workDirectory).toAbsolutePath().normalize();
+        this.jvmArgs = jvmArgs;
+    }
+
+    public void start(final Service service, final Map<String, String> properties) throws IOException {
+        final List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArgs);
+        command.add("-Dloader.path=" + h2Driver());
+        command.add("-cp");
+        command.add(executableJar(service).toString());
+        command.add(PROPERTIES_LAUNCHER);
+        properties.forEach((name, value) -> command.add("--" + name + "=" + value));
+        command.add("--tracing.otlp-file.path=" + workDirectory.resolve("traces")
+                .resolve(service.name().toLowerCase() + ".jsonl"));
+
+        Files.createDirectories(workDirectory);
+        final File logFile = logFile(service).toFile();
+        final Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logFile)
+                .start();
+        processes.put(service, process);
+        log.info("Started {} (pid {}), logging to {}", service.directory, process.pid(), logFile);
+    }
+
+    public void awaitHealthy(final Service service, final Duration timeout) throws InterruptedException {
+        final HttpRequest health = HttpRequest.newBuilder(
+                        URI.create("http://localhost:" + service.port + "/actuator/health"))
+                .timeout(Duration.ofSeconds(2))
+                .build();
+        final long deadline = System.nanoTime() + timeout.toNanos();
+        String lastHealth = "no response";
+        while (System.nanoTime() < deadline) {
+            final Process process = processes.get(service);
+            if (process != null && !process.isAlive()) {
+                throw new IllegalStateException(service.directory + " exited with " + process.exitValue()
+                        + ", see " + logFile(service));
+            }
+            try {
+                final HttpResponse<String> response = httpClient.send(health, HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() == 200) {
+                    log.info("{} is up on port {}", service.directory, service.port);
+                    return;
+                }
+                lastHealth = response.statusCode() + " " + response.body();
+            } catch (IOException e) {
+                // Not listening yet
+            }
+            Thread.sleep(500);
+        }
+        throw new IllegalStateException(service.directory + " did not become healthy within " + timeout
+                + " (last health: " + lastHealth + "), see " + logFile(service));
+    }
+
+    @PreDestroy
+    public void stopAll() throws InterruptedException {
+        processes.values().forEach(Process::destroy);
+        for (Process process : processes.values()) {
+            if (!process.waitFor(15, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+        processes.clear();
+    }
+
+    public Path workDirectory() {
+        return workDirectory;
+    }
+
+    private Path logFile(final Service service) {
+        return workDirectory.resolve(service.name().toLowerCase() + ".log");
+    }
+
+    private Path executableJar(final Service service) throws IOException {
+        final Path target = servicesDirectory.resolve(service.directory).resolve("target");
+        if (!Files.isDirectory(target)) {
+            throw new IllegalStateException("No build of " + service.directory + " in " + target
+                    + ", run mvn install in it first");
+        }
+        try (Stream<Path> jars = Files.list(target)) {
+            return jars.filter(path -> path.getFileName().toString().endsWith("-exec.jar"))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException("No *-exec.jar in " + target
+                            + ", run mvn install in " + service.directory + " first"));
+        }
+    }
+
+    private static Path h2Driver() {
+        try {
+            final Path location = Path.of(org.h2.Driver.class.getProtectionDomain().getCodeSource().getLocation()
+                    .toURI());
+            if (!Files.isRegularFile(location)) {
+                throw new IllegalStateException("H2 driver is not a plain jar (" + location
+                        + "), start the load test with mvn spring-boot:run");
+            }
+            return location;
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException("Cannot locate the H2 driver jar", e);
+        }
+    }
+
+}
\ No newline at end of file
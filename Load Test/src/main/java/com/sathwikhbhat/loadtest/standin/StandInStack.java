@@ -0,0 +1,102 @@
+package com.sathwikhbhat.loadtest.standin;
+
+import com.sun.net.httpserver.HttpServer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.h2.tools.Server;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.concurrent.Executors;
+
+/**
+ * Local replacements for the compose stack: a single-node embedded Kafka broker, an H2 TCP server holding the
+ * shared {@code ticketing} database in memory, and a JWKS endpoint standing in for Keycloak.
+ */
+@Slf4j
+@Component
+public class StandInStack {
+
+    private final TokenIssuer tokenIssuer;
+    private final int dbPort;
+    private final String jdbcUrl;
+    private final int bookingPartitions;
+    private final String bookingTopic;
+    private final String capacityTopic;
+
+    private EmbeddedKafkaKraftBroker kafka;
+    private Server database;
+    private HttpServer keycloak;
+
+    @Autowired
+    public StandInStack(final TokenIssuer tokenIssuer,
+                        @Value("${loadtest.db.port}") final int dbPort,
+                        @Value("${spring.datasource.url}") final String jdbcUrl,
+                        @Value("${loadtest.kafka.booking-partitions}") final int bookingPartitions,
+                        @Value("${loadtest.kafka.booking-topic}") final String bookingTopic,
+                        @Value("${loadtest.kafka.capacity-topic}") final String capacityTopic) {
+        this.tokenIssuer = tokenIssuer;
+        this.dbPort = dbPort;
+        this.jdbcUrl = jdbcUrl;
+        this.bookingPartitions = bookingPartitions;
+        this.bookingTopic = bookingTopic;
+        this.capacityTopic = capacityTopic;
+    }
+
+    @PostConstruct
+    public void start() throws SQLException, IOException {
+        kafka = new EmbeddedKafkaKraftBroker(1, bookingPartitions, bookingTopic, capacityTopic);
+        kafka.afterPropertiesSet();
+        log.info("Embedded Kafka listening on {}", kafka.getBrokersAsString());
+
+        database = Server.createTcpServer("-tcpPort", String.valueOf(dbPort), "-ifNotExists").start();
+        log.info("H2 listening on {}", jdbcUrl);
+
+        final byte[] jwks = tokenIssuer.jwkSet().getBytes(StandardCharsets.UTF_8);
+        keycloak = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        keycloak.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        keycloak.createContext("/certs", exchange -> {
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, jwks.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(jwks);
+            }
+        });
+        keycloak.start();
+        log.info("JWKS served at {}", jwkSetUri());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (keycloak != null) {
+            keycloak.stop(0);
+        }
+        if (database != null) {
+            database.stop();
+        }
+        if (kafka != null) {
+            kafka.destroy();
+        }
+    }
+
+    public String kafkaBootstrapServers() {
+        return kafka.getBrokersAsString();
+    }
+
+    public String jdbcUrl() {
+        return jdbcUrl;
+    }
+
+    public String jwkSetUri() {
+        return "http://localhost:" + keycloak.getAddress().getPort() + "/certs";
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,55 @@
+package com.sathwikhbhat.loadtest.standin;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+
+/**
+ * Signs access tokens with a throwaway RSA key in place of Keycloak. The public half is served as the JWKS the
+ * gateway validates against.
+ */
+@Component
+public class TokenIssuer {
+
+    static final String ISSUER = "load-test";
+
+    private final RSAKey signingKey;
+
+    public TokenIssuer() throws JOSEException {
+        this.signingKey = new RSAKeyGenerator(2048).keyID("load-test").generate();
+    }
+
+    public String jwkSet() {
+        return new JWKSet(signingKey.toPublicJWK()).toString();
+    }
+
+    public String issue(final String subject, final Duration ttl) {
+        final Instant now = Instant.now();
+        final JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .issuer(ISSUER)
+                .subject(subject)
+                .issueTime(Date.from(now))
+                .expirationTime(Date.from(now.plus(ttl)))
+                .build();
+        final SignedJWT jwt = new SignedJWT(
+                new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(signingKey.getKeyID()).build(), claims);
+        try {
+            jwt.sign(new RSASSASigner(signingKey));
+        } catch (JOSEException e) {
+            throw new IllegalStateException("Failed to sign token for " + subject, e);
+        }
+        return jwt.serialize();
+    }
+
+}
\ No newline at end of file
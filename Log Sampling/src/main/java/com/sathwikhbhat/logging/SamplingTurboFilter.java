@@ -0,0 +1,45 @@
+package com.sathwikhbhat.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+import org.slf4j.spi.LoggingEventBuilder;
+import org.slf4j.spi.NOPLoggingEventBuilder;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Lets one in {@code oneIn} INFO and lower calls marked {@link #SAMPLED} through. The decision is made before
+ * the logging event exists, so a dropped call costs neither formatting nor allocation. Unmarked calls and
+ * anything at WARN or above are left alone.
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    public static final Marker SAMPLED = MarkerFactory.getMarker("SAMPLED");
+
+    private int oneIn = 100;
+
+    /**
+     * Starts a sampled INFO event with structured fields, or a no-op builder if this call was not sampled.
+     */
+    public static LoggingEventBuilder atSampledInfo(final org.slf4j.Logger log) {
+        return log.isInfoEnabled(SAMPLED) ? log.atInfo() : NOPLoggingEventBuilder.singleton();
+    }
+
+    @Override
+    public FilterReply decide(final Marker marker, final Logger logger, final Level level, final String format,
+                              final Object[] params, final Throwable t) {
+        if (marker == null || oneIn <= 1 || level.isGreaterOrEqual(Level.WARN) || !marker.contains(SAMPLED)) {
+            return FilterReply.NEUTRAL;
+        }
+        return ThreadLocalRandom.current().nextInt(oneIn) == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    public void setOneIn(final int oneIn) {
+        this.oneIn = oneIn;
+    }
+
+}
\ No newline at end of file
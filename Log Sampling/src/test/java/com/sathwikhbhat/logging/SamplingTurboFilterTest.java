@@ -0,0 +1,57 @@
+package com.sathwikhbhat.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.sathwikhbhat.logging.SamplingTurboFilter.SAMPLED;
+import static com.sathwikhbhat.logging.SamplingTurboFilter.atSampledInfo;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SamplingTurboFilterTest {
+
+    private final LoggerContext loggerContext = new LoggerContext();
+    private final SamplingTurboFilter filter = new SamplingTurboFilter();
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private Logger log;
+
+    @BeforeEach
+    void setUp() {
+        filter.setContext(loggerContext);
+        filter.start();
+        loggerContext.addTurboFilter(filter);
+        appender.setContext(loggerContext);
+        appender.start();
+        log = loggerContext.getLogger(SamplingTurboFilterTest.class);
+        log.addAppender(appender);
+    }
+
+    @Test
+    void keepsRoughlyOneInNOfTheSampledInfoCalls() {
+        filter.setOneIn(10);
+
+        for (int i = 0; i < 10_000; i++) {
+            atSampledInfo(log).setMessage("Booking queued").addKeyValue("bookingId", i).log();
+        }
+
+        assertThat(appender.list).hasSizeBetween(800, 1_200);
+        assertThat(appender.list.getFirst().getKeyValuePairs()).singleElement()
+                .satisfies(pair -> assertThat(pair.key).isEqualTo("bookingId"));
+    }
+
+    @Test
+    void leavesUnmarkedCallsAndWarningsAlone() {
+        filter.setOneIn(Integer.MAX_VALUE);
+
+        log.info("Started");
+        log.warn(SAMPLED, "Rejected");
+        log.info(SAMPLED, "Queued");
+        atSampledInfo(log).setMessage("Queued").log();
+
+        assertThat(appender.list).extracting(ILoggingEvent::getMessage).containsExactly("Started", "Rejected");
+    }
+
+}
\ No newline at end of file
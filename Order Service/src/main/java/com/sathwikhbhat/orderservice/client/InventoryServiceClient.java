@@ -1,21 +1,44 @@
 package com.sathwikhbhat.orderservice.client;
 
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.ResponseEntity;
+import com.sathwikhbhat.orderservice.request.CapacityUpdateRequest;
+import com.sathwikhbhat.orderservice.request.HoldConfirmationRequest;
+import com.sathwikhbhat.orderservice.response.CapacityUpdateResponse;
+import com.sathwikhbhat.orderservice.response.HoldConfirmationResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.List;
+import java.util.Map;
+
 @Service
 public class InventoryServiceClient {
 
-    @Value("${inventory.service.url}")
-    private String inventoryServiceUrl;
+    private final RestTemplate inventoryRestTemplate;
+
+    @Autowired
+    public InventoryServiceClient(final RestTemplate inventoryRestTemplate) {
+        this.inventoryRestTemplate = inventoryRestTemplate;
+    }
+
+    /**
+     * Takes the tickets of every booking off the event's capacity and returns the ids of the bookings
+     * Inventory Service rejected because too few tickets were left.
+     */
+    public List<String> updateInventory(final Long eventId, final Map<String, Long> ticketsByBookingId) {
+        final CapacityUpdateResponse response = inventoryRestTemplate.exchange("/event/{eventId}/capacity",
+                HttpMethod.PUT, new HttpEntity<>(new CapacityUpdateRequest(ticketsByBookingId)),
+                CapacityUpdateResponse.class, eventId).getBody();
+        return response == null || response.getRejectedBookingIds() == null
+                ? List.of() : response.getRejectedBookingIds();
+    }
 
-    public ResponseEntity<Void> updateInventory(final Long eventId,
-                                                final Long ticketsBooked) {
-        final RestTemplate restTemplate = new RestTemplate();
-        restTemplate.put(inventoryServiceUrl + "/event/" + eventId + "/capacity/" + ticketsBooked, null);
-        return ResponseEntity.ok().build();
+    public List<String> confirmHolds(final List<String> holdIds) {
+        final HoldConfirmationResponse response = inventoryRestTemplate.exchange("/holds/confirm", HttpMethod.PUT,
+                new HttpEntity<>(new HoldConfirmationRequest(holdIds)), HoldConfirmationResponse.class).getBody();
+        return response == null ? List.of() : response.getConfirmedHoldIds();
     }
 
 }
\ No newline at end of file
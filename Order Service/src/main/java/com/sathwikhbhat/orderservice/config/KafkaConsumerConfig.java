@@ -0,0 +1,58 @@
+package com.sathwikhbhat.orderservice.config;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.FixedBackOff;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A poll that still fails after the configured retries is published record by record to the dead-letter
+ * topic, on the same partition it was read from, and its offsets are committed so the partition moves on.
+ */
+@Configuration
+public class KafkaConsumerConfig {
+
+    @Bean
+    public NewTopic bookingDeadLetterTopic(@Value("${booking.topic.dead-letter}") final String topic,
+                                           @Value("${booking.topic.partitions}") final int partitions,
+                                           @Value("${booking.topic.replicas}") final int replicas) {
+        return TopicBuilder.name(topic)
+                .partitions(partitions)
+                .replicas(replicas)
+                .build();
+    }
+
+    /**
+     * Records that could not be deserialized are dead-lettered with their original bytes, so they need a
+     * template that writes byte arrays; all others go through the booking event serializer.
+     */
+    @Bean
+    public DefaultErrorHandler bookingErrorHandler(final KafkaTemplate<?, ?> kafkaTemplate,
+                                                   final ProducerFactory<String, byte[]> producerFactory,
+                                                   @Value("${booking.topic.dead-letter}") final String topic,
+                                                   @Value("${order.listener.retry-interval}") final Duration retryInterval,
+                                                   @Value("${order.listener.max-retries}") final long maxRetries) {
+        final Map<Class<?>, KafkaOperations<?, ?>> templates = new LinkedHashMap<>();
+        templates.put(byte[].class, new KafkaTemplate<>(producerFactory,
+                Map.of(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class)));
+        templates.put(Object.class, kafkaTemplate);
+        final DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(templates,
+                (record, exception) -> new TopicPartition(topic, record.partition()));
+        return new DefaultErrorHandler(recoverer, new FixedBackOff(retryInterval.toMillis(), maxRetries));
+    }
+
+}
\ No newline at end of file
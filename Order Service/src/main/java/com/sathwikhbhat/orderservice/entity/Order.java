@@ -27,6 +27,9 @@ public class Order {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @Column(unique = true, length = 36)
+    private String bookingId;
+
     @Column(name="total")
     private BigDecimal totalPrice;
 
@@ -0,0 +1,50 @@
+package com.sathwikhbhat.orderservice.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * A booking Inventory Service refused because the event did not have enough tickets left. No order is
+ * written for it.
+ */
+@Entity
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Table(name = "rejected_booking")
+public class RejectedBooking {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(unique = true, nullable = false, length = 36)
+    private String bookingId;
+
+    @Column(name="total")
+    private BigDecimal totalPrice;
+
+    @Column(name="quantity")
+    private Long ticketCount;
+
+    @CreationTimestamp
+    @Column(updatable = false, nullable = false)
+    private LocalDateTime rejectedAt;
+
+    private Long customerId;
+    private Long eventId;
+
+}
\ No newline at end of file
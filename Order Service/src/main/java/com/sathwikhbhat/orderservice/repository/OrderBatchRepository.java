@@ -0,0 +1,15 @@
+package com.sathwikhbhat.orderservice.repository;
+
+import com.sathwikhbhat.orderservice.entity.Order;
+
+import java.util.List;
+
+public interface OrderBatchRepository {
+
+    /**
+     * Inserts all orders with a single JDBC batch. Orders whose booking id already exists are skipped.
+     * Generated ids are not read back.
+     */
+    void insertAll(List<Order> orders);
+
+}
\ No newline at end of file
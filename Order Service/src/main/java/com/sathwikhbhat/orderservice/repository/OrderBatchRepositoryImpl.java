@@ -0,0 +1,37 @@
+package com.sathwikhbhat.orderservice.repository;
+
+import com.sathwikhbhat.orderservice.entity.Order;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class OrderBatchRepositoryImpl implements OrderBatchRepository {
+
+    private static final String INSERT_ORDER_SQL =
+            "INSERT INTO `order` (booking_id, total, quantity, placed_at, customer_id, event_id) "
+                    + "VALUES (?, ?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE booking_id = booking_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public OrderBatchRepositoryImpl(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional
+    public void insertAll(final List<Order> orders) {
+        final Timestamp placedAt = Timestamp.valueOf(LocalDateTime.now());
+        final List<Object[]> batchArgs = orders.stream()
+                .map(order -> new Object[]{order.getBookingId(), order.getTotalPrice(), order.getTicketCount(),
+                        order.getPlacedAt() == null ? placedAt : Timestamp.valueOf(order.getPlacedAt()),
+                        order.getCustomerId(), order.getEventId()})
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT_ORDER_SQL, batchArgs);
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.sathwikhbhat.orderservice.repository;
+
+import com.sathwikhbhat.orderservice.entity.RejectedBooking;
+
+import java.util.List;
+
+public interface RejectedBookingBatchRepository {
+
+    /**
+     * Inserts all rejected bookings with a single JDBC batch. Bookings whose booking id already exists are
+     * skipped.
+     */
+    void insertAll(List<RejectedBooking> rejectedBookings);
+
+}
\ No newline at end of file
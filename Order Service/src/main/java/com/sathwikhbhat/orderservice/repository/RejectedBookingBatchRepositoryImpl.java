@@ -0,0 +1,38 @@
+package com.sathwikhbhat.orderservice.repository;
+
+import com.sathwikhbhat.orderservice.entity.RejectedBooking;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class RejectedBookingBatchRepositoryImpl implements RejectedBookingBatchRepository {
+
+    private static final String INSERT_REJECTED_BOOKING_SQL =
+            "INSERT INTO rejected_booking (booking_id, total, quantity, rejected_at, customer_id, event_id) "
+                    + "VALUES (?, ?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE booking_id = booking_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public RejectedBookingBatchRepositoryImpl(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional
+    public void insertAll(final List<RejectedBooking> rejectedBookings) {
+        final Timestamp rejectedAt = Timestamp.valueOf(LocalDateTime.now());
+        final List<Object[]> batchArgs = rejectedBookings.stream()
+                .map(booking -> new Object[]{booking.getBookingId(), booking.getTotalPrice(),
+                        booking.getTicketCount(),
+                        booking.getRejectedAt() == null ? rejectedAt : Timestamp.valueOf(booking.getRejectedAt()),
+                        booking.getCustomerId(), booking.getEventId()})
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT_REJECTED_BOOKING_SQL, batchArgs);
+    }
+
+}
\ No newline at end of file
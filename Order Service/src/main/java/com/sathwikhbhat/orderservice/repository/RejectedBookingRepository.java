@@ -0,0 +1,10 @@
+package com.sathwikhbhat.orderservice.repository;
+
+import com.sathwikhbhat.orderservice.entity.RejectedBooking;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RejectedBookingRepository extends JpaRepository<RejectedBooking, Long>,
+        RejectedBookingBatchRepository {
+}
\ No newline at end of file
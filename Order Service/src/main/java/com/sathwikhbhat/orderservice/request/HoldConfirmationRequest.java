@@ -0,0 +1,18 @@
+package com.sathwikhbhat.orderservice.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class HoldConfirmationRequest {
+
+    private List<String> holdIds;
+
+}
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.sathwikhbhat.orderservice.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class HoldConfirmationResponse {
+
+    private List<String> confirmedHoldIds;
+
+}
\ No newline at end of file
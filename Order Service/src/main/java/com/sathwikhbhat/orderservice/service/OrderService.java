@@ -3,41 +3,268 @@ package com.sathwikhbhat.orderservice.service;
 import com.sathwikhbhat.bookingservice.event.BookingEvent;
 import com.sathwikhbhat.orderservice.client.InventoryServiceClient;
 import com.sathwikhbhat.orderservice.entity.Order;
+import com.sathwikhbhat.orderservice.entity.RejectedBooking;
 import com.sathwikhbhat.orderservice.repository.OrderRepository;
+import com.sathwikhbhat.orderservice.repository.RejectedBookingRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.tracing.Link;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.TraceContext;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.log.LogAccessor;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.serializer.SerializationUtils;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static com.sathwikhbhat.logging.SamplingTurboFilter.atSampledInfo;
+
 @Service
 @Slf4j
 public class OrderService {
 
+    private static final String TRACE_PARENT = "traceparent";
+    private static final LogAccessor KAFKA_LOG = new LogAccessor(OrderService.class);
+
     private final OrderRepository orderRepository;
+    private final RejectedBookingRepository rejectedBookingRepository;
     private final InventoryServiceClient inventoryServiceClient;
+    private final ObservationRegistry observationRegistry;
+    private final Tracer tracer;
+    private final Propagator propagator;
+    private final Cache<String, Boolean> recentBookingIds;
 
     @Autowired
     public OrderService(final OrderRepository orderRepository,
-                        final InventoryServiceClient inventoryServiceClient) {
+                        final RejectedBookingRepository rejectedBookingRepository,
+                        final InventoryServiceClient inventoryServiceClient,
+                        final ObservationRegistry observationRegistry,
+                        final Tracer tracer,
+                        final Propagator propagator,
+                        @Value("${order.dedup.recent-bookings}") final long recentBookings) {
         this.orderRepository = orderRepository;
+        this.rejectedBookingRepository = rejectedBookingRepository;
         this.inventoryServiceClient = inventoryServiceClient;
+        this.observationRegistry = observationRegistry;
+        this.tracer = tracer;
+        this.propagator = propagator;
+        this.recentBookingIds = Caffeine.newBuilder()
+                .maximumSize(recentBookings)
+                .build();
+    }
+
+    /**
+     * Consumes one poll in a single consumer span. The span continues the trace of the first booking that
+     * carries a traceparent header and links to the traces of the others, so the order insert and inventory
+     * calls show up under the booking request that caused them. Each of the others gets a short receive span in
+     * its own trace for the link to point at.
+     * <p>
+     * A record that could not be deserialized arrives with a null value. The bookings before it are handled,
+     * then the poll fails at that record so the container commits them and sends it to the dead-letter topic.
+     */
+    @KafkaListener(id = "order-events", topics = "${booking.topic.name}", groupId = "order-service",
+            batch = "true", concurrency = "${booking.topic.partitions}")
+    public void onBookingEvents(final List<ConsumerRecord<String, BookingEvent>> records) {
+        for (int i = 0; i < records.size(); i++) {
+            final ConsumerRecord<String, BookingEvent> record = records.get(i);
+            if (record.value() == null) {
+                if (i > 0) {
+                    consume(records.subList(0, i));
+                }
+                throw new BatchListenerFailedException("Booking event could not be read",
+                        SerializationUtils.getExceptionFromHeader(record,
+                                SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER, KAFKA_LOG), record);
+            }
+        }
+        consume(records);
+    }
+
+    private void consume(final List<ConsumerRecord<String, BookingEvent>> records) {
+        final Span span = batchSpan(records);
+        try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
+            orderEvents(records.stream().map(ConsumerRecord::value).toList());
+        } catch (RuntimeException e) {
+            span.error(e);
+            throw e;
+        } finally {
+            span.end();
+        }
     }
 
-    @KafkaListener(topics = "booking", groupId = "order-service")
-    public void orderEvent(BookingEvent bookingEvent) {
-        log.info("Received booking event: {}", bookingEvent);
+    /**
+     * Handles one poll worth of booking events: held seats are confirmed in one call, the remaining tickets
+     * are taken from inventory with one call per event, and only then are the orders of the granted bookings
+     * inserted in one JDBC batch. Bookings Inventory Service rejected for lack of seats get no order and are
+     * recorded in the rejected_booking table instead. Offsets are committed once this method returns; if it
+     * throws, the container retries the poll and then sends it to the dead-letter topic.
+     * <p>
+     * Bookings are keyed by event id, so with one consumer per partition all bookings of an event are
+     * handled in order by the same thread while different events are processed in parallel.
+     * <p>
+     * Every step is idempotent per booking id, so a redelivered batch is safe: bookings this consumer already
+     * processed are dropped up front, Inventory Service ignores booking ids it has already deducted and the
+     * unique booking id skips orders and rejections written by another consumer.
+     */
+    public void orderEvents(List<BookingEvent> bookingEvents) {
+        log.debug("Received {} booking events", bookingEvents.size());
 
-        Order order = createOrder(bookingEvent);
+        final List<BookingEvent> newBookings = dropProcessed(bookingEvents);
+        if (newBookings.isEmpty()) {
+            return;
+        }
 
-        orderRepository.saveAndFlush(order);
-        log.info("Order created for user ID: {}", bookingEvent.getUserId());
+        final Set<String> confirmedHoldIds = confirmHolds(newBookings);
+
+        final Map<Long, Map<String, Long>> ticketsByEventId = new LinkedHashMap<>();
+        for (BookingEvent bookingEvent : newBookings) {
+            if (bookingEvent.getHoldId() == null || !confirmedHoldIds.contains(bookingEvent.getHoldId())) {
+                ticketsByEventId.computeIfAbsent(bookingEvent.getEventId(), eventId -> new LinkedHashMap<>())
+                        .put(bookingEvent.getBookingId(), bookingEvent.getTicketCount());
+            }
+        }
+        final Set<String> rejectedBookingIds = new HashSet<>();
+        ticketsByEventId.forEach((eventId, ticketsByBookingId) -> {
+            rejectedBookingIds.addAll(observe("order.inventory.update",
+                    () -> inventoryServiceClient.updateInventory(eventId, ticketsByBookingId)));
+            log.debug("Inventory updated for event ID {} by {} bookings", eventId, ticketsByBookingId.size());
+        });
+
+        final List<Order> orders = newBookings.stream()
+                .filter(bookingEvent -> !rejectedBookingIds.contains(bookingEvent.getBookingId()))
+                .map(this::createOrder)
+                .toList();
+        observe("order.insert", () -> orderRepository.insertAll(orders));
+        log.debug("Created {} orders", orders.size());
+        if (!rejectedBookingIds.isEmpty()) {
+            rejectedBookingRepository.insertAll(newBookings.stream()
+                    .filter(bookingEvent -> rejectedBookingIds.contains(bookingEvent.getBookingId()))
+                    .map(this::createRejectedBooking)
+                    .toList());
+            log.warn("Inventory rejected {} bookings for lack of seats", rejectedBookingIds.size());
+        }
+
+        newBookings.forEach(bookingEvent -> recentBookingIds.put(bookingEvent.getBookingId(), Boolean.TRUE));
+        atSampledInfo(log).setMessage("Processed booking events")
+                .addKeyValue("received", bookingEvents.size())
+                .addKeyValue("orders", orders.size())
+                .addKeyValue("rejected", rejectedBookingIds.size())
+                .addKeyValue("confirmedHolds", confirmedHoldIds.size())
+                .addKeyValue("inventoryUpdates", ticketsByEventId.size())
+                .log();
+    }
+
+    private List<BookingEvent> dropProcessed(List<BookingEvent> bookingEvents) {
+        final Map<String, BookingEvent> newBookings = new LinkedHashMap<>();
+        for (BookingEvent bookingEvent : bookingEvents) {
+            if (bookingEvent.getBookingId() == null) {
+                bookingEvent.setBookingId(UUID.randomUUID().toString());
+            }
+            if (recentBookingIds.getIfPresent(bookingEvent.getBookingId()) == null) {
+                newBookings.putIfAbsent(bookingEvent.getBookingId(), bookingEvent);
+            }
+        }
+        if (newBookings.size() < bookingEvents.size()) {
+            log.info("Dropped {} redelivered booking events", bookingEvents.size() - newBookings.size());
+        }
+        return List.copyOf(newBookings.values());
+    }
+
+    private Set<String> confirmHolds(List<BookingEvent> bookingEvents) {
+        final List<String> holdIds = bookingEvents.stream()
+                .map(BookingEvent::getHoldId)
+                .filter(Objects::nonNull)
+                .toList();
+        if (holdIds.isEmpty()) {
+            return Set.of();
+        }
+        final Set<String> confirmed = new HashSet<>(observe("order.holds.confirm",
+                () -> inventoryServiceClient.confirmHolds(holdIds)));
+        log.debug("Confirmed {} of {} seat holds", confirmed.size(), holdIds.size());
+        return confirmed;
+    }
 
-        inventoryServiceClient.updateInventory(bookingEvent.getEventId(), bookingEvent.getTicketCount());
-        log.info("Inventory updated for event ID: {}", bookingEvent.getEventId());
+    private void observe(final String name, final Runnable stage) {
+        Observation.createNotStarted(name, observationRegistry).observe(stage);
+    }
+
+    private <T> T observe(final String name, final Supplier<T> stage) {
+        return Observation.createNotStarted(name, observationRegistry).observe(stage);
+    }
+
+    private Span batchSpan(final List<ConsumerRecord<String, BookingEvent>> records) {
+        Span.Builder builder = null;
+        final List<Link> links = new ArrayList<>();
+        for (ConsumerRecord<String, BookingEvent> record : records) {
+            if (record.headers().lastHeader(TRACE_PARENT) == null) {
+                continue;
+            }
+            if (builder == null) {
+                builder = propagator.extract(record.headers(), OrderService::header);
+            } else {
+                links.add(new Link(receiveSpan(record)));
+            }
+        }
+        if (builder == null) {
+            builder = tracer.spanBuilder();
+        }
+        builder.name("order.events")
+                .kind(Span.Kind.CONSUMER)
+                .tag("messaging.batch.message_count", records.size());
+        links.forEach(builder::addLink);
+        return builder.start();
+    }
+
+    /**
+     * Records the receipt of a booking in the producer's trace and returns the span's context.
+     */
+    private TraceContext receiveSpan(final ConsumerRecord<String, BookingEvent> record) {
+        final Span span = propagator.extract(record.headers(), OrderService::header)
+                .name("order.event.receive")
+                .kind(Span.Kind.CONSUMER)
+                .start();
+        span.end();
+        return span.context();
+    }
+
+    private static String header(final Headers headers, final String key) {
+        final Header header = headers.lastHeader(key);
+        return header == null ? null : new String(header.value(), StandardCharsets.UTF_8);
     }
 
     private Order createOrder(BookingEvent bookingEvent) {
         return Order.builder()
+                .bookingId(bookingEvent.getBookingId())
+                .customerId(bookingEvent.getUserId())
+                .eventId(bookingEvent.getEventId())
+                .ticketCount(bookingEvent.getTicketCount())
+                .totalPrice(bookingEvent.getTotalPrice())
+                .build();
+    }
+
+    private RejectedBooking createRejectedBooking(BookingEvent bookingEvent) {
+        return RejectedBooking.builder()
+                .bookingId(bookingEvent.getBookingId())
                 .customerId(bookingEvent.getUserId())
                 .eventId(bookingEvent.getEventId())
                 .ticketCount(bookingEvent.getTicketCount())
@@ -0,0 +1,185 @@
+package com.sathwikhbhat.orderservice.service;
+
+import com.sathwikhbhat.bookingservice.event.BookingEvent;
+import com.sathwikhbhat.orderservice.client.InventoryServiceClient;
+import com.sathwikhbhat.orderservice.entity.Order;
+import com.sathwikhbhat.orderservice.repository.OrderRepository;
+import com.sathwikhbhat.orderservice.repository.RejectedBookingRepository;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@Slf4j
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OrderServiceBatchTest {
+
+    private static final int EVENTS = 10_000;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private RejectedBookingRepository rejectedBookingRepository;
+
+    private final InventoryServiceClient inventoryServiceClient = mock(InventoryServiceClient.class);
+
+    @AfterEach
+    void tearDown() {
+        orderRepository.deleteAllInBatch();
+        rejectedBookingRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void batchInsertsOrdersAndDecrementsOncePerEvent() {
+        when(inventoryServiceClient.confirmHolds(List.of("held", "expired"))).thenReturn(List.of("held"));
+        final OrderService orderService = new OrderService(orderRepository, rejectedBookingRepository,
+                inventoryServiceClient, ObservationRegistry.NOOP, Tracer.NOOP, Propagator.NOOP, 100_000);
+
+        orderService.orderEvents(List.of(
+                bookingEvent("b1", 1L, 2L, "held"),
+                bookingEvent("b2", 1L, 3L, "expired"),
+                bookingEvent("b3", 1L, 4L, null),
+                bookingEvent("b4", 2L, 5L, null)));
+
+        assertThat(orderRepository.count()).isEqualTo(4);
+        assertThat(orderRepository.findAll()).allSatisfy(order -> assertThat(order.getPlacedAt()).isNotNull());
+        verify(inventoryServiceClient).confirmHolds(List.of("held", "expired"));
+        verify(inventoryServiceClient).updateInventory(1L, Map.of("b2", 3L, "b3", 4L));
+        verify(inventoryServiceClient).updateInventory(2L, Map.of("b4", 5L));
+        verifyNoMoreInteractions(inventoryServiceClient);
+    }
+
+    @Test
+    void rejectedBookingsGetNoOrderAndAreRecorded() {
+        when(inventoryServiceClient.updateInventory(1L, Map.of("b1", 2L, "b2", 3L))).thenReturn(List.of("b2"));
+        final OrderService orderService = new OrderService(orderRepository, rejectedBookingRepository,
+                inventoryServiceClient, ObservationRegistry.NOOP, Tracer.NOOP, Propagator.NOOP, 100_000);
+
+        orderService.orderEvents(List.of(
+                bookingEvent("b1", 1L, 2L, null),
+                bookingEvent("b2", 1L, 3L, null)));
+
+        assertThat(orderRepository.findAll()).extracting(Order::getBookingId).containsExactly("b1");
+        assertThat(rejectedBookingRepository.findAll()).singleElement().satisfies(rejected -> {
+            assertThat(rejected.getBookingId()).isEqualTo("b2");
+            assertThat(rejected.getTicketCount()).isEqualTo(3L);
+            assertThat(rejected.getRejectedAt()).isNotNull();
+        });
+    }
+
+    @Test
+    void failedInventoryUpdateInsertsNoOrders() {
+        when(inventoryServiceClient.updateInventory(2L, Map.of("b2", 3L)))
+                .thenThrow(new ResourceAccessException("Inventory Service unavailable"));
+        final OrderService orderService = new OrderService(orderRepository, rejectedBookingRepository,
+                inventoryServiceClient, ObservationRegistry.NOOP, Tracer.NOOP, Propagator.NOOP, 100_000);
+        final List<BookingEvent> batch = List.of(
+                bookingEvent("b1", 1L, 2L, null),
+                bookingEvent("b2", 2L, 3L, null));
+
+        assertThatThrownBy(() -> orderService.orderEvents(batch)).isInstanceOf(ResourceAccessException.class);
+        assertThat(orderRepository.count()).isZero();
+
+        reset(inventoryServiceClient);
+        orderService.orderEvents(batch);
+
+        assertThat(orderRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void redeliveredBatchIsDroppedBeforeTouchingTheDatabase() {
+        final OrderService orderService = new OrderService(orderRepository, rejectedBookingRepository,
+                inventoryServiceClient, ObservationRegistry.NOOP, Tracer.NOOP, Propagator.NOOP, 100_000);
+        final List<BookingEvent> batch = List.of(
+                bookingEvent("b1", 1L, 2L, null),
+                bookingEvent("b1", 1L, 2L, null),
+                bookingEvent("b2", 1L, 3L, null));
+
+        orderService.orderEvents(batch);
+        orderService.orderEvents(batch);
+
+        assertThat(orderRepository.count()).isEqualTo(2);
+        verify(inventoryServiceClient).updateInventory(1L, Map.of("b1", 2L, "b2", 3L));
+        verifyNoMoreInteractions(inventoryServiceClient);
+    }
+
+    @Test
+    void batchRedeliveredToAnotherConsumerDoesNotDuplicateOrders() {
+        final List<BookingEvent> batch = List.of(
+                bookingEvent("b1", 1L, 2L, null),
+                bookingEvent("b2", 1L, 3L, null));
+
+        new OrderService(orderRepository, rejectedBookingRepository,
+                inventoryServiceClient, ObservationRegistry.NOOP, Tracer.NOOP, Propagator.NOOP, 100_000)
+                .orderEvents(batch);
+        new OrderService(orderRepository, rejectedBookingRepository,
+                inventoryServiceClient, ObservationRegistry.NOOP, Tracer.NOOP, Propagator.NOOP, 100_000)
+                .orderEvents(batch);
+
+        assertThat(orderRepository.count()).isEqualTo(2);
+        verify(inventoryServiceClient, times(2)).updateInventory(1L, Map.of("b1", 2L, "b2", 3L));
+    }
+
+    @Test
+    void ordersPerSecondByPollSize() {
+        when(inventoryServiceClient.confirmHolds(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        final OrderService orderService = new OrderService(orderRepository, rejectedBookingRepository,
+                inventoryServiceClient, ObservationRegistry.NOOP, Tracer.NOOP, Propagator.NOOP, 100_000);
+
+        for (int pollSize : new int[]{1, 100, 1_000}) {
+            final List<BookingEvent> events = new ArrayList<>(pollSize);
+            final long start = System.nanoTime();
+            for (int i = 0; i < EVENTS; i++) {
+                events.add(bookingEvent(UUID.randomUUID().toString(), 1L + i % 10, 2L, "hold-" + i));
+                if (events.size() == pollSize) {
+                    orderService.orderEvents(List.copyOf(events));
+                    events.clear();
+                }
+            }
+            final long elapsed = System.nanoTime() - start;
+            log.info("{} events per poll: {} orders/s", pollSize, EVENTS * 1_000_000_000L / elapsed);
+        }
+
+        assertThat(orderRepository.count()).isEqualTo(3L * EVENTS);
+    }
+
+    private static BookingEvent bookingEvent(final String bookingId, final Long eventId, final Long ticketCount,
+                                             final String holdId) {
+        return BookingEvent.builder()
+                .bookingId(bookingId)
+                .userId(1L)
+                .eventId(eventId)
+                .ticketCount(ticketCount)
+                .totalPrice(BigDecimal.TEN.multiply(BigDecimal.valueOf(ticketCount)))
+                .holdId(holdId)
+                .build();
+    }
+
+}
\ No newline at end of file
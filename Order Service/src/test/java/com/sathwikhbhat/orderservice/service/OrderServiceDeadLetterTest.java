@@ -0,0 +1,106 @@
+package com.sathwikhbhat.orderservice.service;
+
+import com.sathwikhbhat.bookingservice.event.BookingEvent;
+import com.sathwikhbhat.bookingservice.event.BookingEventSerializer;
+import com.sathwikhbhat.orderservice.client.InventoryServiceClient;
+import com.sathwikhbhat.orderservice.repository.OrderRepository;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+
+/**
+ * Publishes an undecodable booking followed by a valid one and checks that the first ends up on the
+ * dead-letter topic with its original bytes while the second still becomes an order.
+ */
+@SpringBootTest(properties = {
+        "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}",
+        "spring.kafka.consumer.auto-offset-reset=earliest",
+        "booking.topic.partitions=1"
+})
+@EmbeddedKafka(partitions = 1, topics = {"booking", "booking-dlt"})
+class OrderServiceDeadLetterTest {
+
+    private static final byte[] CORRUPT = "not a booking event".getBytes(StandardCharsets.UTF_8);
+
+    @Autowired
+    private EmbeddedKafkaBroker embeddedKafka;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @MockitoBean
+    private InventoryServiceClient inventoryServiceClient;
+
+    @AfterEach
+    void tearDown() {
+        orderRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void undecodableBookingGoesToTheDeadLetterTopic() throws Exception {
+        when(inventoryServiceClient.confirmHolds(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        send(ByteArraySerializer.class, new ProducerRecord<>("booking", "1", CORRUPT));
+        send(BookingEventSerializer.class, new ProducerRecord<>("booking", "1", BookingEvent.builder()
+                .bookingId("after-corrupt")
+                .userId(1L)
+                .eventId(1L)
+                .ticketCount(1L)
+                .totalPrice(BigDecimal.TEN)
+                .holdId("hold-after-corrupt")
+                .build()));
+
+        final Map<String, Object> consumerProps = KafkaTestUtils.consumerProps("dlt-reader", "false", embeddedKafka);
+        try (Consumer<String, byte[]> consumer = new DefaultKafkaConsumerFactory<>(consumerProps,
+                new StringDeserializer(), new ByteArrayDeserializer()).createConsumer()) {
+            embeddedKafka.consumeFromAnEmbeddedTopic(consumer, "booking-dlt");
+            final ConsumerRecord<String, byte[]> deadLetter =
+                    KafkaTestUtils.getSingleRecord(consumer, "booking-dlt", Duration.ofSeconds(30));
+            assertThat(deadLetter.value()).isEqualTo(CORRUPT);
+        }
+
+        final long deadline = System.nanoTime() + 30_000_000_000L;
+        while (orderRepository.count() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(orderRepository.findAll()).singleElement()
+                .satisfies(order -> assertThat(order.getBookingId()).isEqualTo("after-corrupt"));
+    }
+
+    private <V> void send(final Class<?> valueSerializer, final ProducerRecord<String, V> record) {
+        final Map<String, Object> producerProps = KafkaTestUtils.producerProps(embeddedKafka);
+        producerProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        producerProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, valueSerializer);
+        final DefaultKafkaProducerFactory<String, V> producerFactory = new DefaultKafkaProducerFactory<>(producerProps);
+        try {
+            new KafkaTemplate<>(producerFactory).send(record).join();
+        } finally {
+            producerFactory.destroy();
+        }
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,149 @@
+package com.sathwikhbhat.orderservice.service;
+
+import com.sathwikhbhat.bookingservice.event.BookingEvent;
+import com.sathwikhbhat.bookingservice.event.BookingEventSerializer;
+import com.sathwikhbhat.orderservice.client.InventoryServiceClient;
+import com.sathwikhbhat.orderservice.entity.Order;
+import com.sathwikhbhat.orderservice.repository.OrderRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.ContainerTestUtils;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+
+/**
+ * Publishes bookings keyed by event id to an embedded broker and checks that orders of every event are
+ * written in publish order, then compares throughput with one consumer against one consumer per partition.
+ */
+@Slf4j
+@SpringBootTest(properties = {
+        "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}",
+        "spring.kafka.consumer.auto-offset-reset=earliest",
+        "spring.kafka.consumer.max-poll-records=20"
+})
+@EmbeddedKafka(partitions = OrderServicePartitionTest.PARTITIONS, topics = "booking")
+class OrderServicePartitionTest {
+
+    static final int PARTITIONS = 6;
+
+    private static final int EVENTS = 12;
+    private static final int BOOKINGS_PER_EVENT = 100;
+    private static final long INVENTORY_LATENCY_MS = 10;
+
+    @Autowired
+    private EmbeddedKafkaBroker embeddedKafka;
+
+    @Autowired
+    private KafkaListenerEndpointRegistry listenerRegistry;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @MockitoBean
+    private InventoryServiceClient inventoryServiceClient;
+
+    private DefaultKafkaProducerFactory<String, BookingEvent> producerFactory;
+    private KafkaTemplate<String, BookingEvent> kafkaTemplate;
+    private int round;
+
+    @BeforeEach
+    void setUp() {
+        when(inventoryServiceClient.confirmHolds(anyList())).thenAnswer(invocation -> {
+            Thread.sleep(INVENTORY_LATENCY_MS);
+            return invocation.getArgument(0);
+        });
+        final Map<String, Object> producerProps = KafkaTestUtils.producerProps(embeddedKafka);
+        producerProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        producerProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, BookingEventSerializer.class);
+        producerFactory = new DefaultKafkaProducerFactory<>(producerProps);
+        kafkaTemplate = new KafkaTemplate<>(producerFactory);
+    }
+
+    @AfterEach
+    void tearDown() {
+        producerFactory.destroy();
+        orderRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void ordersOfEachEventKeepPublishOrderAndScaleWithPartitions() throws Exception {
+        final long single = consumeWithConcurrency(1);
+        final long perPartition = consumeWithConcurrency(PARTITIONS);
+
+        log.info("Consumed {} bookings: 1 consumer {} ms, {} consumers {} ms",
+                EVENTS * BOOKINGS_PER_EVENT, single, PARTITIONS, perPartition);
+    }
+
+    private long consumeWithConcurrency(final int concurrency) throws Exception {
+        final ConcurrentMessageListenerContainer<?, ?> container =
+                (ConcurrentMessageListenerContainer<?, ?>) listenerRegistry.getListenerContainer("order-events");
+        container.stop();
+        container.setConcurrency(concurrency);
+        container.start();
+        ContainerTestUtils.waitForAssignment(container, PARTITIONS);
+        orderRepository.deleteAllInBatch();
+        round++;
+
+        final long start = System.nanoTime();
+        for (int sequence = 0; sequence < BOOKINGS_PER_EVENT; sequence++) {
+            for (long eventId = 1; eventId <= EVENTS; eventId++) {
+                kafkaTemplate.send("booking", String.valueOf(eventId), bookingEvent(eventId, sequence));
+            }
+        }
+        kafkaTemplate.flush();
+        final long expected = (long) EVENTS * BOOKINGS_PER_EVENT;
+        final long deadline = System.nanoTime() + 60_000_000_000L;
+        while (orderRepository.count() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        final long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        final List<Order> orders = orderRepository.findAll(Sort.by("id"));
+        assertThat(orders).hasSize((int) expected);
+        final Map<Long, List<String>> bookingIdsByEvent = orders.stream().collect(Collectors.groupingBy(
+                Order::getEventId, Collectors.mapping(Order::getBookingId, Collectors.toList())));
+        bookingIdsByEvent.values().forEach(bookingIds -> {
+            final List<String> published = new ArrayList<>(bookingIds);
+            published.sort(Comparator.naturalOrder());
+            assertThat(bookingIds).containsExactlyElementsOf(published);
+        });
+        return elapsedMillis;
+    }
+
+    private BookingEvent bookingEvent(final long eventId, final int sequence) {
+        final String bookingId = "%d-%02d-%04d".formatted(round, eventId, sequence);
+        return BookingEvent.builder()
+                .bookingId(bookingId)
+                .userId(1L)
+                .eventId(eventId)
+                .ticketCount(1L)
+                .totalPrice(BigDecimal.TEN)
+                .holdId("hold-" + bookingId)
+                .build();
+    }
+
+}
\ No newline at end of file